@@ -11,6 +11,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -62,6 +63,27 @@ public interface BlogRepository extends JpaRepository<Blog, Long>, BlogRepositor
             """)
     Optional<Blog> findForIndexingById(@Param("id") Long id);
 
+    // 전체 재색인용 id 순 청크 조회 (keyset) - 컬렉션 fetch join과 LIMIT을 함께 쓰지 않도록 id만 먼저 가져온다
+    @Query("""
+            select b.id
+            from Blog b
+            where b.id > :lastId and b.status = :status
+            order by b.id asc
+            """)
+    List<Long> findIdsForIndexingAfter(@Param("lastId") Long lastId,
+                                       @Param("status") BlogStatus status,
+                                       Pageable pageable);
+
+    @Query("""
+            select distinct b
+            from Blog b
+                 left join fetch b.user u
+                 left join fetch b.blogHashtags bh
+                 left join fetch bh.hashtag h
+            where b.id in :ids
+            """)
+    List<Blog> findAllForIndexingByIds(@Param("ids") Collection<Long> ids);
+
     @Query("""
                 select h.name
                 from BlogHashtag bh
@@ -70,14 +92,6 @@ public interface BlogRepository extends JpaRepository<Blog, Long>, BlogRepositor
             """)
     List<String> findHashtagNamesByBlogId(@Param("blogId") Long blogId);
 
-    @Query("""
-            SELECT b.id, b.createdAt
-            FROM Blog b
-            WHERE b.user.id = :userId
-            ORDER BY b.id DESC
-            """)
-    Page<Object[]> findUserBlogActivities(@Param("userId") Long userId, Pageable pageable);
-
     @Query("""
             select distinct b from Blog b
             left join fetch b.user u
@@ -90,6 +104,9 @@ public interface BlogRepository extends JpaRepository<Blog, Long>, BlogRepositor
     @Query("SELECT b.viewCount FROM Blog b WHERE b.id = :id")
     long findViewCount(@Param("id") Long id);
 
+    @Query("SELECT b.user.id FROM Blog b WHERE b.id = :id")
+    Optional<Long> findUserIdById(@Param("id") Long id);
+
     @Modifying
     @Query("UPDATE Blog b SET b.likeCount = b.likeCount + 1 WHERE b.id = :id")
     void incrementLikeCount(@Param("id") Long id);
@@ -108,4 +125,8 @@ public interface BlogRepository extends JpaRepository<Blog, Long>, BlogRepositor
 
     @Query("SELECT b.id FROM Blog b WHERE b.user.id = :userId")
     List<Long> findAllIdsByUserId(Long userId);
+
+    // 주어진 id 중 존재하는 것만
+    @Query("SELECT b.id FROM Blog b WHERE b.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
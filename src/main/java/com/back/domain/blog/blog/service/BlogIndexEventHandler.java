@@ -2,17 +2,10 @@ package com.back.domain.blog.blog.service;
 
 import com.back.domain.blog.blog.dto.BlogIndexDeleteEvent;
 import com.back.domain.blog.blog.dto.BlogIndexEvent;
-import com.back.domain.blog.blog.entity.Blog;
-import com.back.domain.blog.blog.entity.BlogStatus;
-import com.back.domain.blog.blog.exception.BlogErrorCase;
-import com.back.domain.blog.blog.repository.BlogRepository;
-import com.back.domain.blog.blogdoc.document.BlogDoc;
-import com.back.domain.blog.blogdoc.repository.BlogDocRepository;
-import com.back.global.exception.ServiceException;
+import com.back.domain.recommend.search.type.PostType;
+import com.back.domain.shared.searchindex.repository.SearchIndexOutboxJdbcRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
@@ -20,31 +13,17 @@ import org.springframework.transaction.event.TransactionalEventListener;
 @RequiredArgsConstructor
 public class BlogIndexEventHandler {
 
-    private final BlogRepository blogRepository;
-    private final BlogDocRepository blogDocRepository;
+    private final SearchIndexOutboxJdbcRepository searchIndexOutboxJdbcRepository;
 
-    // 트랜잭션 커밋 성공 후에 호출
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    @Transactional(propagation = Propagation.REQUIRES_NEW)// 새 트랜잭션에서 동작 엔티티 매니저도 새로 열림
+    // 커밋 직전, 같은 트랜잭션 안에서 outbox에 기록 (ES 반영은 SearchIndexOutboxRelay가 비동기로 처리)
+    // 공개 여부에 따른 색인/삭제 판단도 relay가 반영 시점의 DB 상태로 한다
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
     public void onBlogIndexEvent(BlogIndexEvent event) {
-        Long blogId = event.blogId();
-
-        Blog blog = blogRepository.findForIndexingById(blogId)
-                .orElseThrow(() -> new ServiceException(BlogErrorCase.BLOG_NOT_FOUND));
-
-        if (blog.getStatus() != BlogStatus.PUBLISHED) {
-            blogDocRepository.deleteById(blogId);
-            return;
-        }
-
-        BlogDoc doc = BlogDoc.from(blog);
-        blogDocRepository.save(doc);
+        searchIndexOutboxJdbcRepository.enqueue(PostType.BLOG, event.blogId());
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
     public void handleDeleteEvent(BlogIndexDeleteEvent event) {
-        Long blogId = event.blogId();
-        blogDocRepository.deleteById(blogId);
+        searchIndexOutboxJdbcRepository.enqueue(PostType.BLOG, event.blogId());
     }
-}
\ No newline at end of file
+}
@@ -12,15 +12,15 @@ import com.back.domain.blog.like.service.BlogLikeService;
 import com.back.domain.comments.comments.dto.CommentResponseDto;
 import com.back.domain.comments.comments.entity.CommentsTargetType;
 import com.back.domain.comments.comments.service.CommentsService;
-import com.back.domain.history.history.entity.ContentViewHistory;
-import com.back.domain.history.history.repository.ContentViewHistoryRepository;
+import com.back.domain.history.history.service.ContentViewHistoryCollector;
 import com.back.domain.main.entity.ContentType;
-import com.back.domain.recommend.recentview.service.RecentViewService;
+import com.back.domain.recommend.recommend.service.RecommendCandidateService;
 import com.back.domain.recommend.search.type.PostType;
 import com.back.domain.shared.hashtag.entity.Hashtag;
 import com.back.domain.shared.hashtag.service.HashtagService;
 import com.back.domain.shared.image.service.ImageLifecycleService;
 import com.back.domain.shared.link.repository.ShorlogBlogLinkRepository;
+import com.back.domain.shared.viewcount.service.ViewCountService;
 import com.back.domain.user.user.entity.User;
 import com.back.domain.user.user.repository.UserRepository;
 import com.back.global.exception.ServiceException;
@@ -32,7 +32,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -48,12 +47,13 @@ public class BlogService {
     private final BlogBookmarkQueryRepository blogBookmarkQueryRepository;
     private final CommentsService commentsService;
     private final HashtagService hashtagService;
-    private final ContentViewHistoryRepository contentViewHistoryRepository;
+    private final ContentViewHistoryCollector contentViewHistoryCollector;
     private final ImageLifecycleService imageLifecycleService;
     private final ApplicationEventPublisher eventPublisher;
 
     private final ShorlogBlogLinkRepository shorlogBlogLinkRepository;
-    private final RecentViewService recentViewService;
+    private final RecommendCandidateService recommendCandidateService;
+    private final ViewCountService viewCountService;
 
     @Transactional
     public BlogDetailDto findById(Long userId, Long blogId) {
@@ -103,26 +103,14 @@ public class BlogService {
         return new BlogWriteDto(blog);
     }
 
-    @Transactional
     public long increaseView(Long blogId, Long viewerId, HttpServletRequest request) {
         Blog blog = blogRepository.findById(blogId)
                 .orElseThrow(() -> new ServiceException(BlogErrorCase.BLOG_NOT_FOUND));
-        User viewer = null;
-        if (viewerId != null) {
-            viewer = userRepository.findById(viewerId).orElse(null);
-        }
-        blog.increaseViewCount();
-        ContentViewHistory history = new ContentViewHistory(
-                ContentType.BLOG,
-                blogId,
-                viewer,
-                LocalDateTime.now(),
-                request.getRemoteAddr(),
-                request.getHeader("User-Agent")
-        );
-        contentViewHistoryRepository.save(history);
-        eventPublisher.publishEvent(new BlogIndexEvent(blogId));
-        return blog.getViewCount();
+        viewCountService.increase(ContentType.BLOG, blogId);
+        // 조회 이력은 비동기 batch insert (요청 스레드에서 INSERT 하지 않음)
+        contentViewHistoryCollector.record(ContentType.BLOG, blogId, viewerId, request);
+        // 조회수는 ViewCountService가 주기적으로 DB/ES에 반영하므로 조회마다 재색인하지 않음
+        return blog.getViewCount() + viewCountService.getPendingCount(ContentType.BLOG, blogId);
     }
 
     @Transactional
@@ -237,10 +225,7 @@ public class BlogService {
         blogRepository.findById(id)
                 .orElseThrow(() -> new ServiceException(BlogErrorCase.BLOG_NOT_FOUND));
 
-        recentViewService.addRecentViewPost(guestId, PostType.BLOG, id);
-
-        if (userId != null && userId > 0) {
-            recentViewService.mergeGuestHistoryToUser(guestId, userId, PostType.BLOG);
-        }
+        // 최근 본 글 기록과 추천 후보 재계산 표시를 한 번에
+        recommendCandidateService.recordView(guestId, userId, PostType.BLOG, id);
     }
 }
\ No newline at end of file
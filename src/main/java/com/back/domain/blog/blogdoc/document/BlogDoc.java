@@ -2,6 +2,7 @@ package com.back.domain.blog.blogdoc.document;
 
 import com.back.domain.blog.blog.entity.Blog;
 import com.back.domain.blog.blog.entity.BlogStatus;
+import com.back.domain.recommend.trending.util.TrendingScoreCalculator;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -38,6 +39,8 @@ public class BlogDoc {
     private long viewCount;
     private long likeCount;
     private long bookmarkCount;
+    @Field(type = FieldType.Double)
+    private double trendingScore; // 추천 트렌딩 점수
     @Field(type = FieldType.Date)
     private Instant createdAt;
     @Field(type = FieldType.Date)
@@ -66,6 +69,7 @@ public class BlogDoc {
                 blog.getViewCount(),
                 blog.getLikeCount(),
                 blog.getBookmarkCount(),
+                TrendingScoreCalculator.blog(blog.getViewCount(), blog.getLikeCount(), blog.getBookmarkCount()),
                 createdAt,
                 modifiedAt
         );
@@ -1,6 +1,7 @@
 package com.back.domain.blog.blogdoc.repository;
 
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import com.back.domain.blog.blogdoc.document.BlogDoc;
 import com.back.domain.blog.blogdoc.dto.BlogSearchCondition;
 import com.back.domain.blog.blogdoc.dto.BlogSearchResult;
 
@@ -8,4 +9,7 @@ import java.util.List;
 
 public interface BlogDocQueryRepository {
     BlogSearchResult searchBlogs(BlogSearchCondition condition, List<Long> authorIds, List<Query> recommendQueries);
+
+    // 추천 후보 페이지 채우기 (ids 순서 유지)
+    List<BlogDoc> findByIds(List<Long> ids);
 }
\ No newline at end of file
@@ -19,6 +19,9 @@ import org.springframework.stereotype.Repository;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
@@ -60,6 +63,29 @@ public class BlogDocQueryRepositoryImpl implements BlogDocQueryRepository {
         return new BlogSearchResult(docs, hasNext, nextCursor);
     }
 
+    @Override
+    public List<BlogDoc> findByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> docIds = ids.stream().map(String::valueOf).toList();
+        NativeQuery nativeQuery = NativeQuery.builder()
+                .withQuery(q -> q.ids(i -> i.values(docIds)))
+                .withPageable(PageRequest.of(0, docIds.size()))
+                .build();
+
+        Map<Long, BlogDoc> byId = operations.search(nativeQuery, BlogDoc.class).getSearchHits().stream()
+                .map(SearchHit::getContent)
+                .collect(Collectors.toMap(BlogDoc::getId, doc -> doc));
+
+        // 후보 목록 순서대로, 그 사이 삭제/비공개된 문서는 건너뜀
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     private String normalizeHashtagKeyword(String keyword) {
         String k = keyword.trim();
         if (k.startsWith("#")) {
@@ -6,19 +6,37 @@ import com.back.domain.blog.blog.exception.BlogErrorCase;
 import com.back.domain.blog.blog.repository.BlogRepository;
 import com.back.domain.blog.blogdoc.document.BlogDoc;
 import com.back.domain.blog.blogdoc.repository.BlogDocRepository;
+import com.back.domain.recommend.trending.util.TrendingScoreCalculator;
+import com.back.domain.shared.countersync.dto.ContentCounterSnapshot;
 import com.back.global.exception.ServiceException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.query.ByQueryResponse;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+import org.springframework.data.elasticsearch.core.query.ScriptType;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class BlogDocIndexer {
+    private static final String UPDATE_USER_PROFILE_SCRIPT =
+            "ctx._source.userNickname = params.nickname; ctx._source.profileImgUrl = params.profileImgUrl";
+
     private final BlogDocRepository blogDocRepository;
     private final BlogRepository blogRepository;
+    private final ElasticsearchOperations elasticsearchOperations;
 
     @Transactional
     public void index(Long blogId) {
@@ -32,18 +50,45 @@ public class BlogDocIndexer {
         blogDocRepository.save(doc);
     }
 
-    // 2) 유저 프로필 변경에 따른 부분 업데이트
-    @Transactional
-    public void updateUserProfileInBlogs(Long userId, String newNickname, String newProfileImageUrl) {
-        List<BlogDoc> docs = blogDocRepository.findByUserId(userId);
-        if (docs.isEmpty()) {
-            return; // 블로그 없으면 조용히 리턴
+    // 2) 유저 프로필 변경에 따른 부분 업데이트 (update_by_query, 충돌 문서는 건너뛰고 결과로 돌려줌)
+    public ByQueryResponse updateUserProfile(Long userId, String newNickname, String newProfileImageUrl) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("nickname", newNickname);
+        params.put("profileImgUrl", newProfileImageUrl);
+
+        UpdateQuery query = UpdateQuery.builder(new CriteriaQuery(new Criteria("userId").is(userId)))
+                .withScriptType(ScriptType.INLINE)
+                .withLang("painless")
+                .withScript(UPDATE_USER_PROFILE_SCRIPT)
+                .withParams(params)
+                .withAbortOnVersionConflict(false)
+                .build();
+        return elasticsearchOperations.updateByQuery(query, elasticsearchOperations.getIndexCoordinatesFor(BlogDoc.class));
+    }
+
+    // 3) 카운터 필드만 부분 업데이트 (_bulk)
+    public void bulkUpdateCounters(List<ContentCounterSnapshot> counters) {
+        if (counters.isEmpty()) {
+            return;
         }
-        for (BlogDoc doc : docs) {
-            doc.changeUserNickname(newNickname);
-            doc.changeProfileImgUrl(newProfileImageUrl);
+        List<UpdateQuery> queries = counters.stream()
+                .map(counter -> UpdateQuery.builder(counter.contentId().toString())
+                        .withDocument(Document.from(Map.of(
+                                "viewCount", counter.viewCount(),
+                                "likeCount", counter.likeCount(),
+                                "bookmarkCount", counter.bookmarkCount(),
+                                "trendingScore", TrendingScoreCalculator.blog(
+                                        counter.viewCount(), counter.likeCount(), counter.bookmarkCount())
+                        )))
+                        .withRetryOnConflict(3)
+                        .build())
+                .toList();
+        try {
+            elasticsearchOperations.bulkUpdate(queries, BlogDoc.class);
+        } catch (BulkFailureException e) {
+            // 임시저장 글 등 색인되지 않은 문서는 건너뜀
+            log.warn("[BlogDoc] 카운터 부분 업데이트 일부 실패: {}", e.getFailedDocuments().keySet());
         }
-        blogDocRepository.saveAll(docs);
     }
 
     public void delete(Long blogId) {
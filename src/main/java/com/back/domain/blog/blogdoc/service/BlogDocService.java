@@ -12,6 +12,8 @@ import com.back.domain.blog.bookmark.service.BlogBookmarkService;
 import com.back.domain.blog.like.service.BlogLikeService;
 import com.back.domain.comments.comments.entity.CommentsTargetType;
 import com.back.domain.comments.comments.service.CommentsService;
+import com.back.domain.recommend.recommend.dto.RecommendCandidatePage;
+import com.back.domain.recommend.recommend.service.RecommendCandidateService;
 import com.back.domain.recommend.recommend.service.RecommendService;
 import com.back.domain.recommend.search.type.PostType;
 import lombok.RequiredArgsConstructor;
@@ -31,15 +33,13 @@ public class BlogDocService {
     private final BlogBookmarkService blogBookmarkService;
     private final CommentsService commentsService;
     private final RecommendService recommendService;
+    private final RecommendCandidateService recommendCandidateService;
 
     public BlogSliceResponse<BlogSummaryResponse> searchBlogs(String guestId, Long userId, BlogSearchCondition condition, @Nullable List<Long> followingIds) {
-        // 추천순 쿼리 가져오기
-        List<Query> recommendQueries = new ArrayList<>();
-        if (condition.sortType() == BlogSortType.RECOMMEND) {
-            recommendQueries = recommendService.getRecommendQueries(guestId, userId, PostType.BLOG);
-        }
+        BlogSearchResult result = isCandidateRecommend(condition, followingIds)
+                ? searchRecommendCandidates(guestId, userId, condition)
+                : searchLive(guestId, userId, condition, followingIds);
 
-        BlogSearchResult result = blogDocQueryRepository.searchBlogs(condition, followingIds, recommendQueries);
         List<BlogDoc> docs = result.docs();
         if (docs.isEmpty()) {
             return new BlogSliceResponse<>(List.of(), false, null);
@@ -66,4 +66,30 @@ public class BlogDocService {
                 result.nextCursor()
         );
     }
-}
\ No newline at end of file
+
+    // 키워드/팔로잉 조건 없는 추천순은 미리 계산해 둔 후보 스냅샷을 쓴다 (커서 = 스냅샷 버전 + offset)
+    private boolean isCandidateRecommend(BlogSearchCondition condition, @Nullable List<Long> followingIds) {
+        return condition.sortType() == BlogSortType.RECOMMEND
+                && (condition.keyword() == null || condition.keyword().isBlank())
+                && followingIds == null;
+    }
+
+    private BlogSearchResult searchRecommendCandidates(String guestId, Long userId, BlogSearchCondition condition) {
+        RecommendCandidatePage candidates = recommendCandidateService.getCandidates(
+                guestId, userId, PostType.BLOG, condition.cursor(), condition.size());
+
+        List<BlogDoc> docs = blogDocQueryRepository.findByIds(candidates.ids());
+
+        return new BlogSearchResult(docs, candidates.hasNext(), candidates.nextCursor());
+    }
+
+    private BlogSearchResult searchLive(String guestId, Long userId, BlogSearchCondition condition, @Nullable List<Long> followingIds) {
+        // 추천순 쿼리 가져오기
+        List<Query> recommendQueries = new ArrayList<>();
+        if (condition.sortType() == BlogSortType.RECOMMEND) {
+            recommendQueries = recommendService.getRecommendQueries(guestId, userId, PostType.BLOG);
+        }
+
+        return blogDocQueryRepository.searchBlogs(condition, followingIds, recommendQueries);
+    }
+}
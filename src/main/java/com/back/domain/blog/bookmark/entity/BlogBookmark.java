@@ -21,7 +21,8 @@ import java.time.LocalDateTime;
         },
         indexes = {
                 @Index(name = "idx_user_created", columnList = "user_id, bookmarked_at DESC"),
-                @Index(name = "idx_blog_id", columnList = "blog_id")
+                @Index(name = "idx_blog_id", columnList = "blog_id"),
+                @Index(name = "idx_blog_bookmarks_bookmarked_at", columnList = "bookmarked_at, blog_id")
         })
 @EntityListeners(AuditingEntityListener.class)
 @NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
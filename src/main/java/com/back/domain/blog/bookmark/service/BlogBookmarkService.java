@@ -1,13 +1,14 @@
 package com.back.domain.blog.bookmark.service;
 
-import com.back.domain.blog.blog.dto.BlogIndexEvent;
 import com.back.domain.blog.blog.entity.Blog;
 import com.back.domain.blog.blog.exception.BlogErrorCase;
 import com.back.domain.blog.blog.repository.BlogRepository;
 import com.back.domain.blog.bookmark.entity.BlogBookmark;
 import com.back.domain.blog.bookmark.repository.BlogBookmarkRepository;
+import com.back.domain.main.entity.ContentType;
 import com.back.domain.notification.entity.NotificationType;
 import com.back.domain.notification.service.NotificationService;
+import com.back.domain.shared.countersync.event.ContentCounterChangedEvent;
 import com.back.domain.user.user.entity.User;
 import com.back.domain.user.user.repository.UserRepository;
 import com.back.global.exception.ServiceException;
@@ -50,17 +51,13 @@ public class BlogBookmarkService {
         try {
             bookmarkRepository.save(bookmark);
             blogRepository.incrementBookmarkCount(blogId);
-            eventPublisher.publishEvent(new BlogIndexEvent(blogId));
+            eventPublisher.publishEvent(new ContentCounterChangedEvent(ContentType.BLOG, blogId));
             // 🔔 북마크 알림
-            User sender = userRepository.findById(userId)
-                    .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-
             notificationService.send(
                     blog.getUser().getId(),
-                    userId,
+                    user,
                     NotificationType.BLOG_BOOKMARK,
-                    blogId,
-                    sender.getNickname()
+                    blogId
             );
         } catch (
                 DataIntegrityViolationException e) {
@@ -82,7 +79,7 @@ public class BlogBookmarkService {
         blogRepository.decrementBookmarkCount(blogId);
         bookmarkRepository.delete(bookmark);
 
-        eventPublisher.publishEvent(new BlogIndexEvent(blogId));
+        eventPublisher.publishEvent(new ContentCounterChangedEvent(ContentType.BLOG, blogId));
         return blogRepository.getBookmarkCountById(blogId);
     }
 
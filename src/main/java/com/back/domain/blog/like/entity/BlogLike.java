@@ -19,6 +19,9 @@ import java.time.LocalDateTime;
                         name = "uk_blog_user",
                         columnNames = {"blog_id", "user_id"}
                 )
+        },
+        indexes = {
+                @Index(name = "idx_blog_like_created_at", columnList = "created_at, blog_id")
         })
 @NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
@@ -0,0 +1,4 @@
+package com.back.domain.blog.like.event;
+
+public record BlogLikeCreatedEvent(Long blogId, Long userId) {
+}
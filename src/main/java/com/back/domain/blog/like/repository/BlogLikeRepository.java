@@ -5,6 +5,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -31,6 +32,20 @@ public interface BlogLikeRepository extends JpaRepository<BlogLike, Long> {
 
     boolean existsByBlog_IdAndUser_Id(Long blogId, Long userId);
 
+    // 유니크 키(uk_blog_user)로 중복을 걸러 한 문장으로 좋아요 (글이 없거나, 본인 글이거나, 이미 누른 경우 0)
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO blog_like (blog_id, user_id, created_at)
+            SELECT b.id, :userId, NOW(6)
+            FROM blogs b
+            WHERE b.id = :blogId AND b.user_id <> :userId
+            """, nativeQuery = true)
+    int insertIgnore(@Param("blogId") Long blogId, @Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "DELETE FROM blog_like WHERE blog_id = :blogId AND user_id = :userId", nativeQuery = true)
+    int deleteByBlogIdAndUserId(@Param("blogId") Long blogId, @Param("userId") Long userId);
+
     long countByBlogUserId(Long blogUserId);
 
     // 사용자의 Like 목록 조회 (Fetch Join으로 N+1 방지)
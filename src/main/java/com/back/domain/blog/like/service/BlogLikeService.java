@@ -1,19 +1,14 @@
 package com.back.domain.blog.like.service;
 
-import com.back.domain.blog.blog.dto.BlogIndexEvent;
-import com.back.domain.blog.blog.entity.Blog;
 import com.back.domain.blog.blog.exception.BlogErrorCase;
 import com.back.domain.blog.blog.repository.BlogRepository;
-import com.back.domain.blog.like.entity.BlogLike;
+import com.back.domain.blog.like.event.BlogLikeCreatedEvent;
 import com.back.domain.blog.like.repository.BlogLikeRepository;
-import com.back.domain.notification.entity.NotificationType;
-import com.back.domain.notification.service.NotificationService;
-import com.back.domain.user.user.entity.User;
-import com.back.domain.user.user.repository.UserRepository;
+import com.back.domain.main.entity.ContentType;
+import com.back.domain.shared.countersync.event.ContentCounterChangedEvent;
 import com.back.global.exception.ServiceException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,58 +21,38 @@ import java.util.Set;
 public class BlogLikeService {
     private final BlogLikeRepository likeRepository;
     private final BlogRepository blogRepository;
-    private final UserRepository userRepository;
-    private final NotificationService notificationService;
     private final ApplicationEventPublisher eventPublisher;
 
+    // INSERT IGNORE + 카운터 UPDATE 만으로 처리하고, 알림/ES 동기화는 커밋 후 이벤트로 넘긴다
     @Transactional
     public boolean likeOn(Long userId, Long blogId) {
-        if (likeRepository.existsByBlog_IdAndUser_Id(blogId, userId)) {
+        if (likeRepository.insertIgnore(blogId, userId) == 0) {
+            // 글 없음 / 본인 글 / 이미 좋아요 구분은 드문 경로에서만 조회
+            Long authorId = blogRepository.findUserIdById(blogId)
+                    .orElseThrow(() -> new IllegalArgumentException("블로그 게시글을 찾을 수 없습니다."));
+            if (authorId.equals(userId)) {
+                throw new IllegalArgumentException("본인의 글에는 좋아요할 수 없습니다.");
+            }
             return true;
         }
-        Blog blog = blogRepository.findById(blogId)
-                .orElseThrow(() -> new IllegalArgumentException("블로그 게시글을 찾을 수 없습니다."));
-        if (blog.getUser().getId().equals(userId)) {
-            throw new IllegalArgumentException("본인의 글에는 좋아요할 수 없습니다.");
-        }
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ServiceException(BlogErrorCase.PERMISSION_DENIED));
-        BlogLike like = new BlogLike(blog, user);
-
-        try {
-            likeRepository.save(like);
-            blogRepository.incrementLikeCount(blogId);
-            eventPublisher.publishEvent(new BlogIndexEvent(blogId));
 
-            // 🔔 알림 전송
-            User sender = userRepository.findById(userId)
-                    .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-
-            notificationService.send(
-                    blog.getUser().getId(),
-                    userId,                         // sender
-                    NotificationType.BLOG_LIKE,
-                    blogId,                         // target
-                    sender.getNickname()
-            );
-            return true;
-        } catch (DataIntegrityViolationException e) {
-            return true;
-        }
+        blogRepository.incrementLikeCount(blogId);
+        eventPublisher.publishEvent(new ContentCounterChangedEvent(ContentType.BLOG, blogId));
+        eventPublisher.publishEvent(new BlogLikeCreatedEvent(blogId, userId));
+        return true;
     }
 
     @Transactional
     public long likeOff(Long userId, Long blogId) {
-        Blog blog = blogRepository.findById(blogId)
-                .orElseThrow(() -> new ServiceException(BlogErrorCase.BLOG_NOT_FOUND));
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ServiceException(BlogErrorCase.PERMISSION_DENIED));
-        BlogLike blogLike = likeRepository.findByBlogIdAndUserId(blog.getId(), user.getId())
-                .orElseThrow(() -> new ServiceException(BlogErrorCase.REACTION_NOT_FOUND));
+        if (likeRepository.deleteByBlogIdAndUserId(blogId, userId) == 0) {
+            if (!blogRepository.existsById(blogId)) {
+                throw new ServiceException(BlogErrorCase.BLOG_NOT_FOUND);
+            }
+            throw new ServiceException(BlogErrorCase.REACTION_NOT_FOUND);
+        }
 
         blogRepository.decrementLikeCount(blogId);
-        likeRepository.delete(blogLike);
-        eventPublisher.publishEvent(new BlogIndexEvent(blogId));
+        eventPublisher.publishEvent(new ContentCounterChangedEvent(ContentType.BLOG, blogId));
         return blogRepository.getLikeCountById(blogId);
     }
 
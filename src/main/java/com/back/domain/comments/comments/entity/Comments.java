@@ -15,6 +15,9 @@ import java.util.Set;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
+@Table(indexes = {
+        @Index(name = "idx_comments_target_type_created_at", columnList = "target_type, created_at")
+})
 public class Comments extends BaseEntity {
 
     @Enumerated(EnumType.STRING)
@@ -2,12 +2,11 @@ package com.back.domain.comments.comments.repository;
 
 import com.back.domain.comments.comments.entity.Comments;
 import com.back.domain.comments.comments.entity.CommentsTargetType;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentsRepository extends JpaRepository<Comments, Long> {
@@ -44,16 +43,11 @@ public interface CommentsRepository extends JpaRepository<Comments, Long> {
         // 단일 댓글 수 조회
         Long countByTargetTypeAndTargetId(CommentsTargetType targetType, Long targetId);
 
+        // 알림 목록용: 댓글 id → (게시글 타입, 게시글 id) 일괄 조회 (없는 댓글은 결과에서 빠짐)
         @Query("""
-                        SELECT c.targetId, MAX(c.createdAt), COUNT(c)
-                        FROM Comments c
-                        WHERE c.user.id = :userId
-                          AND c.targetType = :targetType
-                        GROUP BY c.targetId
-                        ORDER BY MAX(c.id) DESC
+                        select c.id, c.targetType, c.targetId
+                        from Comments c
+                        where c.id in :ids
                         """)
-        Page<Object[]> findUserCommentActivities(
-                        @Param("userId") Long userId,
-                        @Param("targetType") CommentsTargetType targetType,
-                        Pageable pageable);
-}
\ No newline at end of file
+        List<Object[]> findLocationsByIds(@Param("ids") Collection<Long> ids);
+}
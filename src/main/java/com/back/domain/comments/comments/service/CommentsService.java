@@ -101,12 +101,11 @@ public class CommentsService {
             // 자기 댓글에 대댓글 달면 알림 X
             if (!receiverId.equals(userId)) {
 
-                notificationService.send(
+                notificationService.sendForComment(
                         receiverId,
-                        userId,
+                        user,
                         NotificationType.COMMENT_REPLY,
-                        comment.getId(),          // target = commentId
-                        user.getNickname()
+                        comment                   // target = commentId
                 );
             }
         }
@@ -132,12 +131,11 @@ public class CommentsService {
 
             // 본인 글에 단 댓글이면 알림 X
             if (!receiverId.equals(userId)) {
-                notificationService.send(
+                notificationService.sendForComment(
                         receiverId,
-                        userId,
+                        user,
                         type,
-                        comment.getId(),
-                        user.getNickname()
+                        comment
                 );
             }
         }
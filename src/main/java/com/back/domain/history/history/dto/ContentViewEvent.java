@@ -0,0 +1,16 @@
+package com.back.domain.history.history.dto;
+
+import com.back.domain.main.entity.ContentType;
+
+import java.time.LocalDateTime;
+
+// 조회 이력 적재용 이벤트 (viewerId는 비로그인 시 null)
+public record ContentViewEvent(
+        ContentType contentType,
+        Long contentId,
+        Long viewerId,
+        LocalDateTime viewedAt,
+        String ip,
+        String userAgent
+) {
+}
@@ -0,0 +1,8 @@
+package com.back.domain.history.history.dto;
+
+// 현재 기간 / 직전 기간 통계 (한 번의 조회로 함께 계산)
+public record CreatorPeriodComparison(
+        CreatorPeriodStats current,
+        CreatorPeriodStats previous
+) {
+}
@@ -9,7 +9,10 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "content_view_history")
+@Table(name = "content_view_history",
+        indexes = {
+                @Index(name = "idx_cvh_created_at", columnList = "created_at")
+        })
 @NoArgsConstructor
 @AllArgsConstructor
 public class ContentViewHistory {
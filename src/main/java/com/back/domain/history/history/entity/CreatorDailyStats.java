@@ -0,0 +1,37 @@
+package com.back.domain.history.history.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 크리에이터 일별 통계 롤업 (CreatorStatsRollupService가 원본 테이블에서 집계해 채움)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "creator_daily_stats",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_creator_daily_stats", columnNames = {"creator_id", "stat_date"})
+        }
+)
+public class CreatorDailyStats {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "creator_id", nullable = false)
+    private Long creatorId;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    private long blogViews;
+    private long shorlogViews;
+    private long likes;
+    private long bookmarks;
+    private long comments;
+    private long followers; // 해당 일자에 새로 생긴 팔로워 수
+}
@@ -0,0 +1,87 @@
+package com.back.domain.history.history.repository;
+
+import com.back.domain.history.history.dto.ContentViewEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+@Repository
+@RequiredArgsConstructor
+public class ContentViewHistoryJdbcRepository {
+
+    private static final int MAX_USER_AGENT_LENGTH = 255;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 단순 VALUES 형태여야 rewriteBatchedStatements로 multi-row INSERT 한 번에 묶인다
+    private static final String INSERT_SQL = """
+            INSERT INTO content_view_history (content_type, content_id, viewer_id, created_at, ip, user_agent)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    // IDENTITY 전략은 Hibernate batch insert가 불가능하므로 JDBC batch로 직접 적재
+    // viewer_id는 users FK라, 탈퇴 등으로 없어진 사용자는 NULL(비회원 조회)로 적재한다
+    // (batch 전에 IN 조회 한 번으로 존재 여부를 확인해서, 한 건의 FK 위반으로 batch 전체가 실패하지 않게 함)
+    @Transactional
+    public void batchInsert(List<ContentViewEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        Set<Long> existingViewerIds = findExistingUserIds(events);
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(),
+                (ps, event) -> bind(ps, event, existingViewerIds));
+    }
+
+    // batch가 실패했을 때 건별로 다시 적재하기 위한 단건 insert
+    public void insert(ContentViewEvent event) {
+        Set<Long> existingViewerIds = findExistingUserIds(List.of(event));
+        jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, event, existingViewerIds));
+    }
+
+    private Set<Long> findExistingUserIds(List<ContentViewEvent> events) {
+        List<Long> viewerIds = events.stream()
+                .map(ContentViewEvent::viewerId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (viewerIds.isEmpty()) {
+            return Set.of();
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(viewerIds.size(), "?"));
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE id IN (" + placeholders + ")", Long.class, viewerIds.toArray()));
+    }
+
+    private void bind(PreparedStatement ps, ContentViewEvent event, Set<Long> existingViewerIds) throws SQLException {
+        ps.setString(1, event.contentType().name());
+        ps.setLong(2, event.contentId());
+        if (event.viewerId() != null && existingViewerIds.contains(event.viewerId())) {
+            ps.setLong(3, event.viewerId());
+        } else {
+            ps.setNull(3, Types.BIGINT);
+        }
+        ps.setTimestamp(4, Timestamp.valueOf(event.viewedAt()));
+        ps.setString(5, event.ip());
+        ps.setString(6, truncate(event.userAgent()));
+    }
+
+    private String truncate(String value) {
+        if (value == null || value.length() <= MAX_USER_AGENT_LENGTH) {
+            return value;
+        }
+        return value.substring(0, MAX_USER_AGENT_LENGTH);
+    }
+}
@@ -0,0 +1,125 @@
+package com.back.domain.history.history.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+
+@Repository
+@RequiredArgsConstructor
+public class CreatorDailyStatsJdbcRepository {
+
+    // 하루치 원본 데이터를 크리에이터별로 집계
+    // 각 원본 테이블은 날짜 컬럼 인덱스(idx_*_created_at, idx_blog_bookmarks_bookmarked_at)로 하루 범위만 읽는다
+    private static final String ROLLUP_DAY_SQL = """
+            INSERT INTO creator_daily_stats
+                (creator_id, stat_date, blog_views, shorlog_views, likes, bookmarks, comments, followers)
+            SELECT t.creator_id, ?, SUM(t.blog_views), SUM(t.shorlog_views), SUM(t.likes),
+                   SUM(t.bookmarks), SUM(t.comments), SUM(t.followers)
+            FROM (
+                SELECT b.user_id AS creator_id, COUNT(*) AS blog_views, 0 AS shorlog_views,
+                       0 AS likes, 0 AS bookmarks, 0 AS comments, 0 AS followers
+                FROM content_view_history h
+                JOIN blogs b ON h.content_type = 'BLOG' AND h.content_id = b.id
+                WHERE h.created_at >= ? AND h.created_at < ?
+                GROUP BY b.user_id
+                UNION ALL
+                SELECT s.user_id, 0, COUNT(*), 0, 0, 0, 0
+                FROM content_view_history h
+                JOIN shorlog s ON h.content_type = 'SHORLOG' AND h.content_id = s.id
+                WHERE h.created_at >= ? AND h.created_at < ?
+                GROUP BY s.user_id
+                UNION ALL
+                SELECT b.user_id, 0, 0, COUNT(*), 0, 0, 0
+                FROM blog_like bl
+                JOIN blogs b ON bl.blog_id = b.id
+                WHERE bl.created_at >= ? AND bl.created_at < ?
+                GROUP BY b.user_id
+                UNION ALL
+                SELECT s.user_id, 0, 0, COUNT(*), 0, 0, 0
+                FROM shorlog_like sl
+                JOIN shorlog s ON sl.shorlog_id = s.id
+                WHERE sl.created_at >= ? AND sl.created_at < ?
+                GROUP BY s.user_id
+                UNION ALL
+                SELECT b.user_id, 0, 0, 0, COUNT(*), 0, 0
+                FROM blog_bookmarks bb
+                JOIN blogs b ON bb.blog_id = b.id
+                WHERE bb.bookmarked_at >= ? AND bb.bookmarked_at < ?
+                GROUP BY b.user_id
+                UNION ALL
+                SELECT s.user_id, 0, 0, 0, COUNT(*), 0, 0
+                FROM shorlog_bookmark sb
+                JOIN shorlog s ON sb.shorlog_id = s.id
+                WHERE sb.created_at >= ? AND sb.created_at < ?
+                GROUP BY s.user_id
+                UNION ALL
+                SELECT b.user_id, 0, 0, 0, 0, COUNT(*), 0
+                FROM comments c
+                JOIN blogs b ON c.target_type = 'BLOG' AND c.target_id = b.id
+                WHERE c.created_at >= ? AND c.created_at < ?
+                GROUP BY b.user_id
+                UNION ALL
+                SELECT s.user_id, 0, 0, 0, 0, COUNT(*), 0
+                FROM comments c
+                JOIN shorlog s ON c.target_type = 'SHORLOG' AND c.target_id = s.id
+                WHERE c.created_at >= ? AND c.created_at < ?
+                GROUP BY s.user_id
+                UNION ALL
+                SELECT f.to_user_id, 0, 0, 0, 0, 0, COUNT(*)
+                FROM follow f
+                WHERE f.created_at >= ? AND f.created_at < ?
+                GROUP BY f.to_user_id
+            ) t
+            GROUP BY t.creator_id
+            ON DUPLICATE KEY UPDATE
+                blog_views = VALUES(blog_views),
+                shorlog_views = VALUES(shorlog_views),
+                likes = VALUES(likes),
+                bookmarks = VALUES(bookmarks),
+                comments = VALUES(comments),
+                followers = VALUES(followers)
+            """;
+
+    private static final int SOURCE_COUNT = 9;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 해당 일자의 롤업을 다시 계산 (멱등 - 여러 번 실행해도 결과 동일)
+    @Transactional
+    public int rollupDay(LocalDate day) {
+        Timestamp from = Timestamp.valueOf(day.atStartOfDay());
+        Timestamp to = Timestamp.valueOf(day.plusDays(1).atStartOfDay());
+
+        // 활동이 모두 취소된 크리에이터의 행이 남지 않도록 먼저 비운다
+        jdbcTemplate.update("DELETE FROM creator_daily_stats WHERE stat_date = ?", Date.valueOf(day));
+
+        Object[] args = new Object[1 + SOURCE_COUNT * 2];
+        args[0] = Date.valueOf(day);
+        for (int i = 0; i < SOURCE_COUNT; i++) {
+            args[1 + i * 2] = from;
+            args[2 + i * 2] = to;
+        }
+
+        return jdbcTemplate.update(ROLLUP_DAY_SQL, args);
+    }
+
+    // 백필 시작일 (좋아요/댓글/조회는 콘텐츠 작성 이후에만 생기므로 콘텐츠와 팔로우만 본다)
+    public LocalDate findEarliestActivityDate() {
+        Date earliest = jdbcTemplate.queryForObject("""
+                SELECT DATE(MIN(t.created_at))
+                FROM (
+                    SELECT MIN(created_at) AS created_at FROM blogs
+                    UNION ALL
+                    SELECT MIN(created_at) FROM shorlog
+                    UNION ALL
+                    SELECT MIN(created_at) FROM follow
+                ) t
+                """, Date.class);
+        return earliest == null ? null : earliest.toLocalDate();
+    }
+}
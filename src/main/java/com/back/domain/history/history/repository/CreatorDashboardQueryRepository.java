@@ -1,23 +1,25 @@
 package com.back.domain.history.history.repository;
 
-import com.back.domain.history.history.dto.CreatorPeriodStats;
+import com.back.domain.history.history.dto.CreatorPeriodComparison;
 import com.back.domain.history.history.dto.CreatorTotalStats;
 import com.back.domain.history.history.dto.DailyContentViewsDto;
 
-import java.time.LocalDateTime;
+import java.time.LocalDate;
 import java.util.List;
 
+// creator_daily_stats 롤업 기반 대시보드 조회
 public interface CreatorDashboardQueryRepository {
     // 전체 누적 통계
     CreatorTotalStats getTotalStats(Long creatorId);
 
-    // 특정 기간(from ~ to) 통계
-    CreatorPeriodStats getPeriodStats(Long creatorId, LocalDateTime from, LocalDateTime to);
-
-    // 최근 30일 일별 콘텐츠 조회수
-    List<DailyContentViewsDto> getDailyViews30d(
+    // 현재 기간(currentFrom ~ to)과 직전 기간(previousFrom ~ currentFrom 전날) 통계를 한 번에 조회
+    CreatorPeriodComparison getPeriodComparison(
             Long creatorId,
-            LocalDateTime from,
-            LocalDateTime to
+            LocalDate previousFrom,
+            LocalDate currentFrom,
+            LocalDate to
     );
-}
\ No newline at end of file
+
+    // 기간(from ~ to, 양 끝 포함) 일별 콘텐츠 조회수
+    List<DailyContentViewsDto> getDailyViews(Long creatorId, LocalDate from, LocalDate to);
+}
@@ -1,28 +1,21 @@
 package com.back.domain.history.history.repository;
 
-import com.back.domain.blog.blog.entity.QBlog;
-import com.back.domain.blog.bookmark.entity.QBlogBookmark;
-import com.back.domain.blog.like.entity.QBlogLike;
-import com.back.domain.comments.comments.entity.CommentsTargetType;
-import com.back.domain.comments.comments.entity.QComments;
+import com.back.domain.history.history.dto.CreatorPeriodComparison;
 import com.back.domain.history.history.dto.CreatorPeriodStats;
 import com.back.domain.history.history.dto.CreatorTotalStats;
 import com.back.domain.history.history.dto.DailyContentViewsDto;
-import com.back.domain.history.history.entity.QContentViewHistory;
-import com.back.domain.main.entity.ContentType;
-import com.back.domain.shorlog.shorlog.entity.QShorlog;
-import com.back.domain.shorlog.shorlogbookmark.entity.QShorlogBookmark;
-import com.back.domain.shorlog.shorloglike.entity.QShorlogLike;
+import com.back.domain.history.history.entity.QCreatorDailyStats;
 import com.back.domain.user.follow.entity.QFollow;
-import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.util.*;
+import java.util.List;
 
 @Repository
 @RequiredArgsConstructor
@@ -32,102 +25,23 @@ public class CreatorDashboardQueryRepositoryImpl implements CreatorDashboardQuer
 
     @Override
     public CreatorTotalStats getTotalStats(Long creatorId) {
-        QContentViewHistory h = QContentViewHistory.contentViewHistory;
-        QBlog blog = QBlog.blog;
-        QShorlog shorlog = QShorlog.shorlog;
-        QBlogLike blogLike = QBlogLike.blogLike;
-        QShorlogLike shorlogLike = QShorlogLike.shorlogLike;
-        QBlogBookmark blogBookmark = QBlogBookmark.blogBookmark;
-        QShorlogBookmark shorlogBookmark = QShorlogBookmark.shorlogBookmark;
+        QCreatorDailyStats s = QCreatorDailyStats.creatorDailyStats;
         QFollow follow = QFollow.follow;
-        QComments comments = QComments.comments;
 
-
-        // 1) 전체 조회수 (블로그 + 숏로그)
-        Long blogViews = queryFactory
-                .select(h.count())
-                .from(h)
-                .join(blog).on(
-                        h.contentType.eq(ContentType.BLOG)
-                                .and(h.contentId.eq(blog.id))
-                )
-                .where(blog.user.id.eq(creatorId))
-                .fetchOne();
-
-        Long shorlogViews = queryFactory
-                .select(h.count())
-                .from(h)
-                .join(shorlog).on(
-                        h.contentType.eq(ContentType.SHORLOG)
-                                .and(h.contentId.eq(shorlog.id))
+        // 1) 누적 조회/좋아요/북마크/댓글 = 일별 롤업 합계 (크리에이터당 하루 1행)
+        Tuple row = queryFactory
+                .select(
+                        s.blogViews.sum(),
+                        s.shorlogViews.sum(),
+                        s.likes.sum(),
+                        s.bookmarks.sum(),
+                        s.comments.sum()
                 )
-                .where(shorlog.user.id.eq(creatorId))
+                .from(s)
+                .where(s.creatorId.eq(creatorId))
                 .fetchOne();
 
-        long totalViews = n(blogViews) + n(shorlogViews);
-
-        // 2) 전체 좋아요
-        Long blogLikes = queryFactory
-                .select(blogLike.count())
-                .from(blogLike)
-                .where(blogLike.blog.user.id.eq(creatorId))
-                .fetchOne();
-
-        Long shorlogLikes = queryFactory
-                .select(shorlogLike.count())
-                .from(shorlogLike)
-                .where(shorlogLike.shorlog.user.id.eq(creatorId))
-                .fetchOne();
-
-        long totalLikes = n(blogLikes) + n(shorlogLikes);
-
-        // 3) 전체 북마크
-        Long blogBookmarks = queryFactory
-                .select(blogBookmark.count())
-                .from(blogBookmark)
-                .where(blogBookmark.blog.user.id.eq(creatorId))
-                .fetchOne();
-
-        Long shorlogBookmarks = queryFactory
-                .select(shorlogBookmark.count())
-                .from(shorlogBookmark)
-                .where(shorlogBookmark.shorlog.user.id.eq(creatorId))
-                .fetchOne();
-
-        long totalBookmarks = n(blogBookmarks) + n(shorlogBookmarks);
-
-        // 4) 전체 댓글 수
-        Long totalBlogComments = queryFactory
-                .select(comments.count())
-                .from(comments)
-                .where(
-                        comments.targetType.eq(CommentsTargetType.BLOG),
-                        comments.targetId.in(
-                                JPAExpressions
-                                        .select(blog.id)
-                                        .from(blog)
-                                        .where(blog.user.id.eq(creatorId))
-                        )
-                )
-                .fetchOne();
-
-        Long totalShorlogComments = queryFactory
-                .select(comments.count())
-                .from(comments)
-                .where(
-                        comments.targetType.eq(CommentsTargetType.SHORLOG),
-                        comments.targetId.in(
-                                JPAExpressions
-                                        .select(shorlog.id)
-                                        .from(shorlog)
-                                        .where(shorlog.user.id.eq(creatorId))
-                        )
-                )
-                .fetchOne();
-
-        long totalComments = n(totalBlogComments) + n(totalShorlogComments);
-
-        // 5) 전체 팔로워 수
+        // 2) 팔로워 수는 언팔로우가 반영되어야 하므로 현재 값을 직접 센다 (to_user_id 인덱스)
         Long followerCount = queryFactory
                 .select(follow.count())
                 .from(follow)
@@ -135,228 +49,98 @@ public class CreatorDashboardQueryRepositoryImpl implements CreatorDashboardQuer
                 .fetchOne();
 
         return new CreatorTotalStats(
-                totalViews,
-                totalLikes,
-                totalBookmarks,
-                totalComments,
+                n(row.get(s.blogViews.sum())) + n(row.get(s.shorlogViews.sum())),
+                n(row.get(s.likes.sum())),
+                n(row.get(s.bookmarks.sum())),
+                n(row.get(s.comments.sum())),
                 n(followerCount)
         );
     }
 
     @Override
-    public CreatorPeriodStats getPeriodStats(Long creatorId, LocalDateTime from, LocalDateTime to) {
-        QContentViewHistory h = QContentViewHistory.contentViewHistory;
-        QBlog blog = QBlog.blog;
-        QShorlog shorlog = QShorlog.shorlog;
-        QBlogLike blogLike = QBlogLike.blogLike;
-        QShorlogLike shorlogLike = QShorlogLike.shorlogLike;
-        QBlogBookmark blogBookmark = QBlogBookmark.blogBookmark;
-        QShorlogBookmark shorlogBookmark = QShorlogBookmark.shorlogBookmark;
-        QFollow follow = QFollow.follow;
-        QComments comments = QComments.comments;
-
-        // 1) 기간 조회수
-        Long periodBlogViews = queryFactory
-                .select(h.count())
-                .from(h)
-                .join(blog).on(
-                        h.contentType.eq(ContentType.BLOG)
-                                .and(h.contentId.eq(blog.id))
-                )
-                .where(
-                        blog.user.id.eq(creatorId),
-                        h.createdAt.between(from, to)
-                )
-                .fetchOne();
-
-        Long periodShorlogViews = queryFactory
-                .select(h.count())
-                .from(h)
-                .join(shorlog).on(
-                        h.contentType.eq(ContentType.SHORLOG)
-                                .and(h.contentId.eq(shorlog.id))
-                )
-                .where(
-                        shorlog.user.id.eq(creatorId),
-                        h.createdAt.between(from, to)
-                )
-                .fetchOne();
-
-        long periodViews = n(periodBlogViews) + n(periodShorlogViews);
-
-        // 2) 기간 좋아요
-        Long periodBlogLikes = queryFactory
-                .select(blogLike.count())
-                .from(blogLike)
-                .where(
-                        blogLike.blog.user.id.eq(creatorId),
-                        blogLike.likedAt.between(from, to)
-                )
-                .fetchOne();
-
-        Long periodShorlogLikes = queryFactory
-                .select(shorlogLike.count())
-                .from(shorlogLike)
-                .where(
-                        shorlogLike.shorlog.user.id.eq(creatorId),
-                        shorlogLike.createdAt.between(from, to)
-                )
-                .fetchOne();
-
-        long periodLikes = n(periodBlogLikes) + n(periodShorlogLikes);
-
-        // 3) 기간 북마크
-        Long periodBlogBookmarks = queryFactory
-                .select(blogBookmark.count())
-                .from(blogBookmark)
-                .where(
-                        blogBookmark.blog.user.id.eq(creatorId),
-                        blogBookmark.bookmarkedAt.between(from, to)
-                )
-                .fetchOne();
+    public CreatorPeriodComparison getPeriodComparison(
+            Long creatorId,
+            LocalDate previousFrom,
+            LocalDate currentFrom,
+            LocalDate to
+    ) {
+        QCreatorDailyStats s = QCreatorDailyStats.creatorDailyStats;
 
-        Long periodShorlogBookmarks = queryFactory
-                .select(shorlogBookmark.count())
-                .from(shorlogBookmark)
-                .where(
-                        shorlogBookmark.shorlog.user.id.eq(creatorId),
-                        shorlogBookmark.createdAt.between(from, to)
-                )
-                .fetchOne();
+        // 두 기간을 합친 범위를 한 번만 스캔하고, stat_date로 현재/직전 기간을 나눠 합산
+        BooleanExpression inCurrent = s.statDate.goe(currentFrom);
 
-        long periodBookmarks = n(periodBlogBookmarks) + n(periodShorlogBookmarks);
+        NumberExpression<Long> curViews = sumIf(inCurrent, s.blogViews.add(s.shorlogViews));
+        NumberExpression<Long> curLikes = sumIf(inCurrent, s.likes);
+        NumberExpression<Long> curBookmarks = sumIf(inCurrent, s.bookmarks);
+        NumberExpression<Long> curComments = sumIf(inCurrent, s.comments);
+        NumberExpression<Long> curFollowers = sumIf(inCurrent, s.followers);
 
-        // 4) 기간 댓글 수
-        Long periodBlogComments = queryFactory
-                .select(comments.count())
-                .from(comments)
-                .where(
-                        comments.targetType.eq(CommentsTargetType.BLOG),
-                        comments.createdAt.between(from, to),
-                        comments.targetId.in(
-                                JPAExpressions
-                                        .select(blog.id)
-                                        .from(blog)
-                                        .where(blog.user.id.eq(creatorId))
-                        )
-                )
-                .fetchOne();
+        NumberExpression<Long> prevViews = sumIf(inCurrent.not(), s.blogViews.add(s.shorlogViews));
+        NumberExpression<Long> prevLikes = sumIf(inCurrent.not(), s.likes);
+        NumberExpression<Long> prevBookmarks = sumIf(inCurrent.not(), s.bookmarks);
+        NumberExpression<Long> prevComments = sumIf(inCurrent.not(), s.comments);
+        NumberExpression<Long> prevFollowers = sumIf(inCurrent.not(), s.followers);
 
-        Long periodShorlogComments = queryFactory
-                .select(comments.count())
-                .from(comments)
-                .where(
-                        comments.targetType.eq(CommentsTargetType.SHORLOG),
-                        comments.createdAt.between(from, to),
-                        comments.targetId.in(
-                                JPAExpressions
-                                        .select(shorlog.id)
-                                        .from(shorlog)
-                                        .where(shorlog.user.id.eq(creatorId))
-                        )
+        Tuple row = queryFactory
+                .select(
+                        curViews, curLikes, curBookmarks, curComments, curFollowers,
+                        prevViews, prevLikes, prevBookmarks, prevComments, prevFollowers
                 )
-                .fetchOne();
-
-        long periodComments = n(periodBlogComments) + n(periodShorlogComments);
-
-        // 5) 기간 팔로워 증가
-        Long periodFollowers = queryFactory
-                .select(follow.count())
-                .from(follow)
+                .from(s)
                 .where(
-                        follow.toUser.id.eq(creatorId),
-                        follow.createdAt.between(from, to)
+                        s.creatorId.eq(creatorId),
+                        s.statDate.between(previousFrom, to)
                 )
                 .fetchOne();
 
-        return new CreatorPeriodStats(
-                periodViews,
-                periodLikes,
-                periodBookmarks,
-                periodComments,
-                n(periodFollowers)
+        CreatorPeriodStats current = new CreatorPeriodStats(
+                n(row.get(curViews)),
+                n(row.get(curLikes)),
+                n(row.get(curBookmarks)),
+                n(row.get(curComments)),
+                n(row.get(curFollowers))
         );
-    }
-    @Override
-    public List<DailyContentViewsDto> getDailyViews30d(
-            Long creatorId,
-            LocalDateTime from,
-            LocalDateTime to
-    ) {
-        QContentViewHistory h = QContentViewHistory.contentViewHistory;
-        QBlog blog = QBlog.blog;
-        QShorlog shorlog = QShorlog.shorlog;
-
-        // ✅ 반드시 java.sql.Date
-        var dayExpr = Expressions.dateTemplate(
-                java.sql.Date.class,
-                "date({0})",
-                h.createdAt
+        CreatorPeriodStats previous = new CreatorPeriodStats(
+                n(row.get(prevViews)),
+                n(row.get(prevLikes)),
+                n(row.get(prevBookmarks)),
+                n(row.get(prevComments)),
+                n(row.get(prevFollowers))
         );
 
-        // 1) 블로그 일별 조회수
-        var blogRows = queryFactory
-                .select(dayExpr, h.count())
-                .from(h)
-                .join(blog).on(
-                        h.contentType.eq(ContentType.BLOG)
-                                .and(h.contentId.eq(blog.id))
-                )
-                .where(
-                        blog.user.id.eq(creatorId),
-                        h.createdAt.goe(from),
-                        h.createdAt.lt(to)
-                )
-                .groupBy(dayExpr)
-                .fetch();
-
-        // 2) 쇼로그 일별 조회수
-        var shorlogRows = queryFactory
-                .select(dayExpr, h.count())
-                .from(h)
-                .join(shorlog).on(
-                        h.contentType.eq(ContentType.SHORLOG)
-                                .and(h.contentId.eq(shorlog.id))
-                )
-                .where(
-                        shorlog.user.id.eq(creatorId),
-                        h.createdAt.goe(from),
-                        h.createdAt.lt(to)
-                )
-                .groupBy(dayExpr)
-                .fetch();
-
-        Map<LocalDate, Long> blogMap = new HashMap<>();
-        for (var t : blogRows) {
-            java.sql.Date sqlDate = t.get(dayExpr);
-            LocalDate day = sqlDate.toLocalDate(); // ✅ 여기서 변환
-            blogMap.put(day, t.get(h.count()));
-        }
-
-        Map<LocalDate, Long> shorlogMap = new HashMap<>();
-        for (var t : shorlogRows) {
-            java.sql.Date sqlDate = t.get(dayExpr);
-            LocalDate day = sqlDate.toLocalDate(); // ✅ 여기서 변환
-            shorlogMap.put(day, t.get(h.count()));
-        }
+        return new CreatorPeriodComparison(current, previous);
+    }
 
-        // 날짜 union
-        Set<LocalDate> days = new HashSet<>();
-        days.addAll(blogMap.keySet());
-        days.addAll(shorlogMap.keySet());
+    @Override
+    public List<DailyContentViewsDto> getDailyViews(Long creatorId, LocalDate from, LocalDate to) {
+        QCreatorDailyStats s = QCreatorDailyStats.creatorDailyStats;
 
-        return days.stream()
-                .sorted()
-                .map(d -> new DailyContentViewsDto(
-                        d,
-                        blogMap.getOrDefault(d, 0L),
-                        shorlogMap.getOrDefault(d, 0L)
+        return queryFactory
+                .select(s.statDate, s.blogViews, s.shorlogViews)
+                .from(s)
+                .where(
+                        s.creatorId.eq(creatorId),
+                        s.statDate.between(from, to)
+                )
+                .orderBy(s.statDate.asc())
+                .fetch()
+                .stream()
+                .map(t -> new DailyContentViewsDto(
+                        t.get(s.statDate),
+                        n(t.get(s.blogViews)),
+                        n(t.get(s.shorlogViews))
                 ))
                 .toList();
     }
 
+    private NumberExpression<Long> sumIf(BooleanExpression condition, NumberExpression<Long> value) {
+        return new CaseBuilder()
+                .when(condition).then(value)
+                .otherwise(0L)
+                .sum();
+    }
 
     private long n(Long v) {
         return v == null ? 0L : v;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,106 @@
+package com.back.domain.history.history.service;
+
+import com.back.domain.history.history.dto.ContentViewEvent;
+import com.back.domain.history.history.repository.ContentViewHistoryJdbcRepository;
+import com.back.domain.main.entity.ContentType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+// 조회 이력 비동기 적재 파이프라인
+// 요청 스레드는 bounded queue에 넣기만 하고(가득 차면 버림), 백그라운드에서 모아서 JDBC batch insert 한다.
+@Slf4j
+@Service
+public class ContentViewHistoryCollector {
+
+    private static final int QUEUE_CAPACITY = 10_000;
+    private static final int BATCH_SIZE = 500;
+    private static final long FLUSH_INTERVAL_MS = 1_000;
+
+    private final ContentViewHistoryJdbcRepository contentViewHistoryJdbcRepository;
+    private final BlockingQueue<ContentViewEvent> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+    private final Counter enqueuedCounter;
+    private final Counter droppedCounter;
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+
+    public ContentViewHistoryCollector(ContentViewHistoryJdbcRepository contentViewHistoryJdbcRepository,
+                                       MeterRegistry meterRegistry) {
+        this.contentViewHistoryJdbcRepository = contentViewHistoryJdbcRepository;
+
+        this.enqueuedCounter = meterRegistry.counter("content_view_history.enqueued");
+        this.droppedCounter = meterRegistry.counter("content_view_history.dropped");
+        this.writtenCounter = meterRegistry.counter("content_view_history.written");
+        this.failedCounter = meterRegistry.counter("content_view_history.failed");
+        Gauge.builder("content_view_history.queue.size", queue, BlockingQueue::size)
+                .register(meterRegistry);
+    }
+
+    public void record(ContentType contentType, Long contentId, Long viewerId, HttpServletRequest request) {
+        ContentViewEvent event = new ContentViewEvent(
+                contentType,
+                contentId,
+                viewerId,
+                LocalDateTime.now(),
+                request.getRemoteAddr(),
+                request.getHeader("User-Agent")
+        );
+
+        // 큐가 가득 차면 요청을 막지 않고 버린다 (분석용 데이터이므로 조회 응답 지연보다 유실이 낫다)
+        if (queue.offer(event)) {
+            enqueuedCounter.increment();
+        } else {
+            droppedCounter.increment();
+        }
+    }
+
+    @Scheduled(fixedDelay = FLUSH_INTERVAL_MS)
+    public synchronized void flush() {
+        List<ContentViewEvent> batch = new ArrayList<>(BATCH_SIZE);
+
+        while (queue.drainTo(batch, BATCH_SIZE) > 0) {
+            try {
+                contentViewHistoryJdbcRepository.batchInsert(batch);
+                writtenCounter.increment(batch.size());
+            } catch (DataIntegrityViolationException e) {
+                // 특정 행의 제약 위반이면 나머지까지 버리지 않도록 건별로 다시 넣는다
+                log.warn("[ContentViewHistory] 조회 이력 batch insert 제약 위반 - 건별 재시도 ({}건)", batch.size(), e);
+                insertOneByOne(batch);
+            } catch (Exception e) {
+                log.error("[ContentViewHistory] 조회 이력 batch insert 실패 ({}건)", batch.size(), e);
+                failedCounter.increment(batch.size());
+            }
+            batch.clear();
+        }
+    }
+
+    private void insertOneByOne(List<ContentViewEvent> batch) {
+        for (ContentViewEvent event : batch) {
+            try {
+                contentViewHistoryJdbcRepository.insert(event);
+                writtenCounter.increment();
+            } catch (Exception e) {
+                log.warn("[ContentViewHistory] 조회 이력 insert 실패 - 버림 ({} {})", event.contentType(), event.contentId(), e);
+                failedCounter.increment();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
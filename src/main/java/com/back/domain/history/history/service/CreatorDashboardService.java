@@ -1,6 +1,7 @@
 package com.back.domain.history.history.service;
 
 import com.back.domain.history.history.dto.CreatorOverviewDto;
+import com.back.domain.history.history.dto.CreatorPeriodComparison;
 import com.back.domain.history.history.dto.CreatorPeriodStats;
 import com.back.domain.history.history.dto.CreatorTotalStats;
 import com.back.domain.history.history.dto.DailyContentViewsDto;
@@ -10,7 +11,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -24,15 +24,16 @@ public class CreatorDashboardService {
 
     @Transactional(readOnly = true)
     public CreatorOverviewDto getOverview(Long creatorId, int days) {
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime periodStart = now.minusDays(days);
-        LocalDateTime prevPeriodStart = now.minusDays(days * 2);
+        // 롤업이 일 단위이므로 기간도 일 단위: 현재 = 오늘 포함 최근 days일, 이전 = 그 직전 days일
+        LocalDate today = LocalDate.now();
+        LocalDate periodStart = today.minusDays(days - 1);
+        LocalDate prevPeriodStart = today.minusDays(days * 2L - 1);
 
         CreatorTotalStats total = creatorDashboardQueryRepository.getTotalStats(creatorId);
-        CreatorPeriodStats current =
-                creatorDashboardQueryRepository.getPeriodStats(creatorId, periodStart, now);
-        CreatorPeriodStats previous =
-                creatorDashboardQueryRepository.getPeriodStats(creatorId, prevPeriodStart, periodStart);
+        CreatorPeriodComparison comparison =
+                creatorDashboardQueryRepository.getPeriodComparison(creatorId, prevPeriodStart, periodStart, today);
+        CreatorPeriodStats current = comparison.current();
+        CreatorPeriodStats previous = comparison.previous();
 
         double likeRate = calcRate(current.views(), current.likes());
         double bookmarkRate = calcRate(current.views(), current.bookmarks());
@@ -42,21 +43,17 @@ public class CreatorDashboardService {
 
 
         // 최근 30일 일별 콘텐츠 조회수
-        LocalDate startDate = LocalDate.now().minusDays(29);
-        LocalDateTime dailyFrom = startDate.atStartOfDay();
-        LocalDateTime dailyTo = LocalDate.now().plusDays(1).atStartOfDay();
+        LocalDate startDate = today.minusDays(29);
 
         List<DailyContentViewsDto> raw =
-                creatorDashboardQueryRepository.getDailyViews30d(
-                        creatorId, dailyFrom, dailyTo
-                );
+                creatorDashboardQueryRepository.getDailyViews(creatorId, startDate, today);
 
         Map<LocalDate, DailyContentViewsDto> map = raw.stream()
                 .collect(Collectors.toMap(DailyContentViewsDto::date, v -> v));
 
         List<DailyContentViewsDto> dailyViews30d = new ArrayList<>();
         LocalDate d = startDate;
-        while (!d.isAfter(LocalDate.now())) {
+        while (!d.isAfter(today)) {
             DailyContentViewsDto v = map.getOrDefault(
                     d,
                     new DailyContentViewsDto(d, 0L, 0L)
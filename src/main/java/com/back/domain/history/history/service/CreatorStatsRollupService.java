@@ -0,0 +1,104 @@
+package com.back.domain.history.history.service;
+
+import com.back.domain.history.history.repository.CreatorDailyStatsJdbcRepository;
+import com.back.global.lock.RedisJobLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+// creator_daily_stats 롤업 작업
+// - 증분: 10분마다 오늘/어제 재계산 (자정 직후 어제 데이터 마감 포함)
+// - 야간: 최근 7일 재계산 (좋아요 취소/댓글 삭제 등 뒤늦은 변경 반영)
+// - 주간: 전체 기간 재계산 (7일보다 오래된 활동의 취소/삭제까지 누적 합계에 반영)
+// - 기동 시: 백필 완료 표시가 없으면 전체 기간을 한 번 채운다 (증분 작업이 먼저 돌아 테이블이 비어 있지 않아도 누락되지 않게)
+// 모든 작업은 일자 단위로 멱등이고, 인스턴스가 여러 대여도 RedisJobLock으로 한 곳에서만 실행된다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CreatorStatsRollupService {
+
+    private static final int NIGHTLY_RECOMPUTE_DAYS = 7;
+    private static final String BACKFILL_MARKER_KEY = "creator-stats:backfilled";
+    private static final String FULL_JOB = "creator-stats:full";
+    private static final Duration FULL_LOCK_AT_MOST = Duration.ofHours(3);
+
+    private final CreatorDailyStatsJdbcRepository creatorDailyStatsJdbcRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisJobLock redisJobLock;
+
+    @Scheduled(cron = "0 */10 * * * *")
+    public void rollupRecent() {
+        redisJobLock.runExclusively("creator-stats:recent", Duration.ofMinutes(9), Duration.ofSeconds(30), () -> {
+            LocalDate today = LocalDate.now();
+            rollupRange(today.minusDays(1), today);
+        });
+    }
+
+    @Scheduled(cron = "0 30 4 * * *")
+    public void rollupNightly() {
+        redisJobLock.runExclusively("creator-stats:nightly", Duration.ofHours(1), Duration.ofMinutes(1), () -> {
+            LocalDate today = LocalDate.now();
+            rollupRange(today.minusDays(NIGHTLY_RECOMPUTE_DAYS), today);
+        });
+    }
+
+    @Async("maintenanceExecutor")
+    @Scheduled(cron = "0 0 5 * * SUN")
+    public void reconcileAll() {
+        redisJobLock.runExclusively(FULL_JOB, FULL_LOCK_AT_MOST, Duration.ofMinutes(1), this::rollupAll);
+    }
+
+    @Async("maintenanceExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfNeeded() {
+        if (isBackfilled()) {
+            return;
+        }
+
+        redisJobLock.runExclusively(FULL_JOB, FULL_LOCK_AT_MOST, () -> {
+            // 잠금을 기다리는 사이 다른 인스턴스가 끝냈을 수 있다
+            if (isBackfilled()) {
+                return;
+            }
+            if (rollupAll()) {
+                stringRedisTemplate.opsForValue().set(BACKFILL_MARKER_KEY, LocalDate.now().toString());
+            }
+        });
+    }
+
+    // 가장 오래된 활동일부터 오늘까지 재계산. 모든 일자가 성공했을 때만 true
+    boolean rollupAll() {
+        LocalDate earliest = creatorDailyStatsJdbcRepository.findEarliestActivityDate();
+        if (earliest == null) {
+            return true;
+        }
+
+        log.info("[CreatorStatsRollup] {}부터 전체 재계산을 시작합니다.", earliest);
+        return rollupRange(earliest, LocalDate.now());
+    }
+
+    public boolean rollupRange(LocalDate from, LocalDate to) {
+        boolean allSucceeded = true;
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            try {
+                creatorDailyStatsJdbcRepository.rollupDay(day);
+            } catch (Exception e) {
+                log.error("[CreatorStatsRollup] {} 롤업 실패", day, e);
+                allSucceeded = false;
+            }
+        }
+        return allSucceeded;
+    }
+
+    private boolean isBackfilled() {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(BACKFILL_MARKER_KEY));
+    }
+}
@@ -2,10 +2,11 @@ package com.back.domain.notification.controller;
 
 import com.back.domain.comments.comments.service.CommentsService;
 import com.back.domain.notification.dto.NotificationResponseDto;
+import com.back.domain.notification.dto.NotificationSliceResponse;
 import com.back.domain.notification.service.NotificationService;
 import com.back.global.config.security.SecurityUser;
 import com.back.global.rsData.RsData;
-import com.back.global.sse.SseEmitterRepository;
+import com.back.global.sse.SseEventBroker;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -13,7 +14,6 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -23,39 +23,35 @@ import java.util.List;
 public class ApiV1NotificationController {
 
     private final NotificationService notificationService;
-    private final SseEmitterRepository emitterRepository;
+    private final SseEventBroker sseEventBroker;
     private final CommentsService commentsService;
 
     @GetMapping("/stream")
-    @Operation(summary = "SSE 알림 스트림 연결")
-    public SseEmitter stream(@AuthenticationPrincipal SecurityUser user) {
-
-        Long userId = user.getId();
-        SseEmitter emitter = new SseEmitter(60L * 60L * 1000);
-
-        emitterRepository.save(userId, emitter);
-
-        emitter.onCompletion(() -> emitterRepository.delete(userId));
-        emitter.onTimeout(() -> emitterRepository.delete(userId));
-        emitter.onError(e -> emitterRepository.delete(userId));
-
-        try {
-            emitter.send(SseEmitter.event().name("connect").data("connected"));
-        } catch (IOException e) {
-            emitterRepository.delete(userId);
-        }
-
-        return emitter;
+    @Operation(summary = "SSE 알림 스트림 연결 (재연결 시 Last-Event-ID 이후 알림 재전송)")
+    public SseEmitter stream(
+            @AuthenticationPrincipal SecurityUser user,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
+    ) {
+        return sseEventBroker.connect(user.getId(), lastEventId);
     }
 
     @GetMapping
-    @Operation(summary = "전체 알림 조회")
+    @Operation(summary = "전체 알림 조회 (페이징 없음 - /inbox 사용 권장)")
     public RsData<List<NotificationResponseDto>> list(
             @AuthenticationPrincipal SecurityUser user
     ) {
         return RsData.successOf(notificationService.getNotifications(user.getId()));
     }
 
+    @GetMapping("/inbox")
+    @Operation(summary = "알림함 조회 (커서 기반, cursor = 이전 응답의 nextCursor)")
+    public RsData<NotificationSliceResponse> inbox(
+            @AuthenticationPrincipal SecurityUser user,
+            @RequestParam(required = false) String cursor
+    ) {
+        return RsData.successOf(notificationService.getInbox(user.getId(), cursor));
+    }
+
     @GetMapping("/recent")
     @Operation(summary = "최근 알림 10개 조회")
     public RsData<List<NotificationResponseDto>> recent(
@@ -0,0 +1,13 @@
+package com.back.domain.notification.dto;
+
+import java.util.List;
+
+public record NotificationSliceResponse(
+        List<NotificationResponseDto> content,
+        boolean hasNext,
+        String nextCursor
+) {
+    public static NotificationSliceResponse of(List<NotificationResponseDto> content, boolean hasNext, String nextCursor) {
+        return new NotificationSliceResponse(content, hasNext, nextCursor);
+    }
+}
@@ -0,0 +1,51 @@
+package com.back.domain.notification.event;
+
+import com.back.domain.blog.blog.repository.BlogRepository;
+import com.back.domain.blog.like.event.BlogLikeCreatedEvent;
+import com.back.domain.notification.entity.NotificationType;
+import com.back.domain.notification.service.NotificationService;
+import com.back.domain.shorlog.shorlog.repository.ShorlogRepository;
+import com.back.domain.shorlog.shorloglike.event.ShorlogLikeCreatedEvent;
+import com.back.domain.user.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 좋아요 알림은 커밋된 좋아요에 대해서만, 요청 스레드 밖에서 보낸다
+// 좋아요 요청은 사용자/작성자를 조회하지 않으므로 여기서 조회해 NotificationDispatcher로 넘긴다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeNotificationListener {
+
+    private final NotificationService notificationService;
+    private final ShorlogRepository shorlogRepository;
+    private final BlogRepository blogRepository;
+    private final UserRepository userRepository;
+
+    @Async("fanoutExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleShorlogLikeCreated(ShorlogLikeCreatedEvent event) {
+        shorlogRepository.findUserIdById(event.getShorlogId()).ifPresent(authorId ->
+                send(authorId, event.getUserId(), NotificationType.SHORLOG_LIKE, event.getShorlogId()));
+    }
+
+    @Async("fanoutExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleBlogLikeCreated(BlogLikeCreatedEvent event) {
+        blogRepository.findUserIdById(event.blogId()).ifPresent(authorId ->
+                send(authorId, event.userId(), NotificationType.BLOG_LIKE, event.blogId()));
+    }
+
+    private void send(Long receiverId, Long senderId, NotificationType type, Long targetId) {
+        try {
+            userRepository.findById(senderId)
+                    .ifPresent(sender -> notificationService.send(receiverId, sender, type, targetId));
+        } catch (Exception e) {
+            log.error("[LikeNotification] {} 알림 요청 실패 - targetId={}", type, targetId, e);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.back.domain.notification.event;
+
+import com.back.domain.notification.entity.NotificationType;
+
+// 알림 발송 요청 (커밋 후 NotificationDispatcher가 모아서 저장/전송)
+// 보낸 사람 정보와 이동 경로를 미리 담아서, 발송 시 사용자/댓글을 다시 조회하지 않는다
+public record NotificationEvent(
+        Long receiverId,
+        Long senderId,
+        String senderNickname,
+        String senderProfileImage,
+        NotificationType type,
+        Long targetId,
+        String redirectUrl
+) {
+    public String message() {
+        return type.createMessage(senderNickname);
+    }
+}
@@ -0,0 +1,119 @@
+package com.back.domain.notification.repository;
+
+import com.back.domain.notification.entity.NotificationType;
+import com.back.domain.notification.event.NotificationEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class NotificationJdbcRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO notification (receiver_id, sender_id, type, target_id, message, is_read, created_at, modified_at)
+            VALUES (?, ?, ?, ?, ?, false, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 한 번의 JDBC batch로 저장하고 생성된 id를 입력 순서대로 반환 (SSE 이벤트 id로 사용)
+    @Transactional
+    public List<Long> insertAll(List<NotificationEvent> events, LocalDateTime createdAt) {
+        if (events.isEmpty()) {
+            return List.of();
+        }
+
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        NotificationEvent event = events.get(i);
+                        ps.setLong(1, event.receiverId());
+                        ps.setLong(2, event.senderId());
+                        ps.setString(3, event.type().name());
+                        ps.setLong(4, event.targetId());
+                        ps.setString(5, event.message());
+                        ps.setTimestamp(6, timestamp);
+                        ps.setTimestamp(7, timestamp);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return events.size();
+                    }
+                },
+                keyHolder
+        );
+
+        return keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+                .toList();
+    }
+
+    // 대상이 남아 있는 읽지 않은 알림 수 (목록에서 빠지는 알림은 세지 않는다)
+    // targets(대상 테이블 → 알림 타입)의 테이블명은 호출부 상수만 사용 (사용자 입력 아님)
+    public long countUnreadWithTarget(Long receiverId, Map<String, List<NotificationType>> targets) {
+        StringBuilder sql = new StringBuilder("""
+                SELECT COUNT(*)
+                FROM notification n
+                WHERE n.receiver_id = ? AND n.is_read = false
+                """);
+        List<Object> args = new ArrayList<>();
+        args.add(receiverId);
+
+        targets.forEach((table, types) -> {
+            String typePlaceholders = String.join(", ", Collections.nCopies(types.size(), "?"));
+            sql.append("  AND NOT (n.type IN (%s) AND NOT EXISTS (SELECT 1 FROM %s t WHERE t.id = n.target_id))\n"
+                    .formatted(typePlaceholders, table));
+            types.forEach(type -> args.add(type.name()));
+        });
+
+        Long count = jdbcTemplate.queryForObject(sql.toString(), Long.class, args.toArray());
+        return count == null ? 0 : count;
+    }
+
+    // 대상 행이 없는(삭제된) 알림 id를 최대 limit개 찾아 삭제하고 삭제 건수를 반환
+    // targetTable은 호출부 상수만 사용 (사용자 입력 아님)
+    @Transactional
+    public int deleteDangling(String targetTable, List<NotificationType> types, int limit) {
+        String typePlaceholders = String.join(", ", Collections.nCopies(types.size(), "?"));
+        List<Object> args = new ArrayList<>();
+        types.forEach(type -> args.add(type.name()));
+        args.add(limit);
+
+        List<Long> ids = jdbcTemplate.queryForList("""
+                SELECT n.id
+                FROM notification n
+                LEFT JOIN %s t ON t.id = n.target_id
+                WHERE n.type IN (%s) AND t.id IS NULL
+                ORDER BY n.id
+                LIMIT ?
+                """.formatted(targetTable, typePlaceholders), Long.class, args.toArray());
+
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        String idPlaceholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        return jdbcTemplate.update("DELETE FROM notification WHERE id IN (" + idPlaceholders + ")", ids.toArray());
+    }
+}
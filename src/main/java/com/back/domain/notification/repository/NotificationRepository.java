@@ -1,6 +1,7 @@
 package com.back.domain.notification.repository;
 
 import com.back.domain.notification.entity.Notification;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -14,11 +15,24 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
 
     List<Notification> findTop10ByReceiverIdOrderByCreatedAtDesc(Long receiverId);
 
-    long countByReceiverIdAndIsReadFalse(Long receiverId);
+    // 알림함 키셋 페이징 (id 내림차순 = 최신순)
+    List<Notification> findByReceiverIdOrderByIdDesc(Long receiverId, Pageable pageable);
 
+    List<Notification> findByReceiverIdAndIdLessThanOrderByIdDesc(Long receiverId, Long id, Pageable pageable);
+
+    // 읽지 않은 상태일 때만 읽음 처리 (동시에 두 번 눌러도 한 번만 1이 반환됨)
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.id = :id AND n.isRead = false")
+    int markAsReadIfUnread(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.receiverId = :userId AND n.isRead = false")
+    int markAllAsRead(@Param("userId") Long userId);
+
+    // 읽지 않은 알림일 때만 삭제 (0이면 이미 읽었거나 없는 알림)
     @Modifying
-    @Query("UPDATE Notification n SET n.isRead = true WHERE n.receiverId = :userId")
-    void markAllAsRead(@Param("userId") Long userId);
+    @Query("DELETE FROM Notification n WHERE n.id = :id AND n.isRead = false")
+    int deleteIfUnread(@Param("id") Long id);
 
     void deleteAllByReceiverId(Long userId);
 }
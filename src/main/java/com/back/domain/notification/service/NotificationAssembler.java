@@ -0,0 +1,99 @@
+package com.back.domain.notification.service;
+
+import com.back.domain.blog.blog.repository.BlogRepository;
+import com.back.domain.comments.comments.entity.CommentsTargetType;
+import com.back.domain.comments.comments.repository.CommentsRepository;
+import com.back.domain.notification.dto.CommentLocationResponse;
+import com.back.domain.notification.dto.NotificationResponseDto;
+import com.back.domain.notification.entity.Notification;
+import com.back.domain.shorlog.shorlog.repository.ShorlogRepository;
+import com.back.domain.user.user.entity.User;
+import com.back.domain.user.user.repository.UserRepository;
+import com.back.global.ut.TimeUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+// 알림 목록을 응답 DTO로 변환 (보낸 사람/대상 존재 여부/댓글 위치를 목록 단위로 일괄 조회)
+// 목록 크기와 무관하게 최대 4번의 쿼리만 실행된다.
+// 대상이 삭제된 알림은 응답에서만 빼고, 실제 삭제는 NotificationSweeper가 모아서 한다.
+@Component
+@RequiredArgsConstructor
+public class NotificationAssembler {
+
+    private final UserRepository userRepository;
+    private final CommentsRepository commentsRepository;
+    private final BlogRepository blogRepository;
+    private final ShorlogRepository shorlogRepository;
+
+    public List<NotificationResponseDto> assemble(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> userIds = new HashSet<>();
+        Set<Long> commentIds = new HashSet<>();
+        Set<Long> blogIds = new HashSet<>();
+        Set<Long> shorlogIds = new HashSet<>();
+
+        for (Notification n : notifications) {
+            userIds.add(n.getSenderId());
+            switch (n.getType()) {
+                case BLOG_COMMENT, COMMENT_REPLY, SHORLOG_COMMENT, MENTION -> commentIds.add(n.getTargetId());
+                case BLOG_LIKE, BLOG_BOOKMARK -> blogIds.add(n.getTargetId());
+                case SHORLOG_LIKE, SHORLOG_BOOKMARK -> shorlogIds.add(n.getTargetId());
+                case FOLLOW -> userIds.add(n.getTargetId());
+            }
+        }
+
+        Map<Long, User> users = buildUserMap(userIds);
+        Map<Long, CommentLocationResponse> commentLocations = buildCommentLocationMap(commentIds);
+        Set<Long> existingBlogIds = blogIds.isEmpty() ? Set.of() : new HashSet<>(blogRepository.findExistingIds(blogIds));
+        Set<Long> existingShorlogIds = shorlogIds.isEmpty() ? Set.of() : new HashSet<>(shorlogRepository.findExistingIds(shorlogIds));
+
+        List<NotificationResponseDto> result = new ArrayList<>(notifications.size());
+        for (Notification n : notifications) {
+            boolean valid = switch (n.getType()) {
+                case BLOG_COMMENT, COMMENT_REPLY, SHORLOG_COMMENT, MENTION -> commentLocations.containsKey(n.getTargetId());
+                case BLOG_LIKE, BLOG_BOOKMARK -> existingBlogIds.contains(n.getTargetId());
+                case SHORLOG_LIKE, SHORLOG_BOOKMARK -> existingShorlogIds.contains(n.getTargetId());
+                case FOLLOW -> users.containsKey(n.getTargetId());
+            };
+            if (!valid) {
+                continue;
+            }
+
+            User sender = users.get(n.getSenderId());
+            result.add(NotificationResponseDto.from(
+                    n,
+                    sender != null ? sender.getNickname() : "알 수 없음",
+                    sender != null ? sender.getProfileImgUrl() : null,
+                    TimeUtil.toRelativeTime(n.getCreatedAt()),
+                    NotificationService.redirectUrl(n.getType(), n.getTargetId(), commentLocations.get(n.getTargetId()))
+            ));
+        }
+        return result;
+    }
+
+    private Map<Long, User> buildUserMap(Set<Long> userIds) {
+        Map<Long, User> users = new HashMap<>();
+        for (User user : userRepository.findAllById(userIds)) {
+            users.put(user.getId(), user);
+        }
+        return users;
+    }
+
+    private Map<Long, CommentLocationResponse> buildCommentLocationMap(Set<Long> commentIds) {
+        Map<Long, CommentLocationResponse> locations = new HashMap<>();
+        if (commentIds.isEmpty()) {
+            return locations;
+        }
+
+        for (Object[] row : commentsRepository.findLocationsByIds(commentIds)) {
+            Long commentId = (Long) row[0];
+            locations.put(commentId, new CommentLocationResponse((CommentsTargetType) row[1], (Long) row[2], commentId));
+        }
+        return locations;
+    }
+}
@@ -0,0 +1,226 @@
+package com.back.domain.notification.service;
+
+import com.back.domain.notification.dto.NotificationResponseDto;
+import com.back.domain.notification.event.NotificationEvent;
+import com.back.domain.notification.repository.NotificationJdbcRepository;
+import com.back.global.sse.SseEventBroker;
+import com.back.global.ut.TimeUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+// 알림 발송 파이프라인
+// 요청 트랜잭션이 커밋된 뒤 이벤트를 큐에 넣기만 하고, 전용 스레드가 모아서 한 번의 batch INSERT + SSE 발행을 한다.
+// 좋아요/팔로우/댓글 요청은 알림 저장이나 느린 SSE 소켓을 기다리지 않는다.
+// 큐가 가득 차면 (DB 장애 등) 새 알림은 버리고 로그만 남긴다 - 알림 때문에 쓰기 요청이 막히지 않게 하기 위함
+// 저장 실패는 일시적인 오류로 보고 간격을 늘려 가며 다시 시도하고, 제약 위반이면 건별로 저장해 나머지를 살린다.
+// 버린 알림은 dropped(큐 초과)/failed(재시도 후 실패) 지표로 남긴다.
+@Slf4j
+@Service
+public class NotificationDispatcher {
+
+    private static final int QUEUE_CAPACITY = 10_000;
+    private static final int BATCH_SIZE = 200;
+    private static final long BATCH_WAIT_MS = 100;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_BACKOFF_MS = 200; // 200ms, 400ms
+
+    private final NotificationJdbcRepository notificationJdbcRepository;
+    private final SseEventBroker sseEventBroker;
+    private final NotificationUnreadCounter unreadCounter;
+
+    private final BlockingQueue<NotificationEvent> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private volatile boolean running = true;
+    private Thread worker;
+
+    private final Counter enqueuedCounter;
+    private final Counter droppedCounter;
+    private final Counter writtenCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+
+    public NotificationDispatcher(NotificationJdbcRepository notificationJdbcRepository,
+                                  SseEventBroker sseEventBroker,
+                                  NotificationUnreadCounter unreadCounter,
+                                  MeterRegistry meterRegistry) {
+        this.notificationJdbcRepository = notificationJdbcRepository;
+        this.sseEventBroker = sseEventBroker;
+        this.unreadCounter = unreadCounter;
+
+        this.enqueuedCounter = meterRegistry.counter("notification.dispatch.enqueued");
+        this.droppedCounter = meterRegistry.counter("notification.dispatch.dropped");
+        this.writtenCounter = meterRegistry.counter("notification.dispatch.written");
+        this.retriedCounter = meterRegistry.counter("notification.dispatch.retried");
+        this.failedCounter = meterRegistry.counter("notification.dispatch.failed");
+        Gauge.builder("notification.dispatch.queue.size", queue, BlockingQueue::size)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        worker = new Thread(this::runLoop, "notification-dispatcher");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    // 커밋된 요청의 알림만 발송 (트랜잭션 밖에서 발행된 경우 바로 큐에 넣음)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNotification(NotificationEvent event) {
+        if (queue.offer(event)) {
+            enqueuedCounter.increment();
+        } else {
+            droppedCounter.increment();
+            log.warn("[NotificationDispatcher] 큐가 가득 차서 알림을 버립니다 - receiverId={}, type={}",
+                    event.receiverId(), event.type());
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(5_000);
+        // 종료 전에 남은 알림 저장
+        List<NotificationEvent> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        dispatch(remaining);
+    }
+
+    private void runLoop() {
+        List<NotificationEvent> batch = new ArrayList<>(BATCH_SIZE);
+        while (running) {
+            try {
+                NotificationEvent first = queue.take();
+                batch.add(first);
+                // 잠깐 더 기다려서 한 번에 모아 보냄
+                TimeUnit.MILLISECONDS.sleep(BATCH_WAIT_MS);
+                queue.drainTo(batch, BATCH_SIZE - 1);
+            } catch (InterruptedException e) {
+                // 종료 중: 이미 꺼낸 알림은 보내고 끝낸다 (남은 큐는 stop()에서 처리)
+                dispatch(batch);
+                return;
+            }
+
+            dispatch(batch);
+            batch.clear();
+        }
+    }
+
+    void dispatch(List<NotificationEvent> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime createdAt = LocalDateTime.now();
+        List<NotificationEvent> saved = new ArrayList<>(batch);
+        List<Long> ids;
+        try {
+            ids = insertWithRetry(batch, createdAt);
+        } catch (DataIntegrityViolationException e) {
+            // 특정 알림의 제약 위반이면 나머지까지 버리지 않도록 건별로 다시 넣는다
+            log.warn("[NotificationDispatcher] 알림 batch 저장 제약 위반 - 건별 재시도 ({}건)", batch.size(), e);
+            saved.clear();
+            ids = new ArrayList<>();
+            insertOneByOne(batch, createdAt, saved, ids);
+        } catch (Exception e) {
+            log.error("[NotificationDispatcher] 알림 저장 재시도 후에도 실패 - 버림 ({}건)", batch.size(), e);
+            failedCounter.increment(batch.size());
+            return;
+        }
+        writtenCounter.increment(saved.size());
+
+        // 받는 사람별 읽지 않은 알림 수 증가
+        Map<Long, Long> unreadDeltas = new HashMap<>();
+        saved.forEach(event -> unreadDeltas.merge(event.receiverId(), 1L, Long::sum));
+        unreadDeltas.forEach(unreadCounter::add);
+
+        String relativeTime = TimeUtil.toRelativeTime(createdAt);
+        for (int i = 0; i < saved.size(); i++) {
+            NotificationEvent event = saved.get(i);
+            Long id = ids.get(i);
+            try {
+                sseEventBroker.publish(
+                        event.receiverId(),
+                        id.toString(),
+                        "notification",
+                        new NotificationResponseDto(
+                                id,
+                                event.senderId(),
+                                event.senderNickname(),
+                                event.senderProfileImage(),
+                                event.type(),
+                                event.targetId(),
+                                event.message(),
+                                false,
+                                relativeTime,
+                                createdAt,
+                                event.redirectUrl()
+                        )
+                );
+            } catch (Exception e) {
+                log.warn("[NotificationDispatcher] 실시간 전송 실패 - notificationId={}", id, e);
+            }
+        }
+    }
+
+    // 일시적인 DB 오류(커넥션 부족, 잠금 대기 등)는 간격을 늘려 가며 다시 시도한다
+    // insertAll은 한 트랜잭션이라 실패하면 아무 행도 남지 않으므로 다시 넣어도 중복되지 않는다
+    private List<Long> insertWithRetry(List<NotificationEvent> events, LocalDateTime createdAt) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return notificationJdbcRepository.insertAll(events, createdAt);
+            } catch (DataIntegrityViolationException e) {
+                // 다시 시도해도 결과가 같다
+                throw e;
+            } catch (RuntimeException e) {
+                if (attempt >= MAX_ATTEMPTS || !backoff(attempt)) {
+                    throw e;
+                }
+                retriedCounter.increment();
+                log.warn("[NotificationDispatcher] 알림 저장 실패 - 재시도 {}/{} ({}건)",
+                        attempt, MAX_ATTEMPTS - 1, events.size(), e);
+            }
+        }
+    }
+
+    private void insertOneByOne(List<NotificationEvent> batch, LocalDateTime createdAt,
+                                List<NotificationEvent> saved, List<Long> ids) {
+        for (NotificationEvent event : batch) {
+            try {
+                ids.add(insertWithRetry(List.of(event), createdAt).get(0));
+                saved.add(event);
+            } catch (Exception e) {
+                log.warn("[NotificationDispatcher] 알림 저장 실패 - 버림 (receiverId={}, type={})",
+                        event.receiverId(), event.type(), e);
+                failedCounter.increment();
+            }
+        }
+    }
+
+    // 종료 중(interrupt)이면 기다리지 않고 포기한다
+    private boolean backoff(int attempt) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(RETRY_BACKOFF_MS << (attempt - 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
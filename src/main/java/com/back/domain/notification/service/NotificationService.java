@@ -1,26 +1,23 @@
 package com.back.domain.notification.service;
 
-import com.back.domain.blog.blog.repository.BlogRepository;
 import com.back.domain.comments.comments.entity.Comments;
 import com.back.domain.comments.comments.entity.CommentsTargetType;
-import com.back.domain.comments.comments.exception.CommentsErrorCase;
-import com.back.domain.comments.comments.repository.CommentsRepository;
 import com.back.domain.notification.dto.CommentLocationResponse;
 import com.back.domain.notification.dto.NotificationResponseDto;
+import com.back.domain.notification.dto.NotificationSliceResponse;
 import com.back.domain.notification.entity.Notification;
 import com.back.domain.notification.entity.NotificationType;
+import com.back.domain.notification.event.NotificationEvent;
 import com.back.domain.notification.exception.NotificationErrorCase;
 import com.back.domain.notification.repository.NotificationRepository;
-import com.back.domain.shorlog.shorlog.repository.ShorlogRepository;
 import com.back.domain.user.user.entity.User;
-import com.back.domain.user.user.repository.UserRepository;
 import com.back.global.exception.ServiceException;
-import com.back.global.sse.SseEmitterRepository;
-import com.back.global.ut.TimeUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -28,117 +25,89 @@ import java.util.List;
 @RequiredArgsConstructor
 public class NotificationService {
 
+    private static final int INBOX_PAGE_SIZE = 20;
+
     private final NotificationRepository notificationRepository;
-    private final SseEmitterRepository emitterRepository;
-    private final UserRepository userRepository;
-    private final CommentsRepository commentsRepository;
-    private final BlogRepository blogRepository;
-    private final ShorlogRepository shorlogRepository;
+    private final NotificationAssembler notificationAssembler;
+    private final NotificationUnreadCounter unreadCounter;
+    private final ApplicationEventPublisher eventPublisher;
 
     /** ----------------------------
-     *  알림 생성 + SSE PUSH
+     *  알림 발송 요청
+     *  커밋 후 NotificationDispatcher가 모아서 저장 + SSE PUSH 한다 (호출한 트랜잭션은 기다리지 않음)
      * ----------------------------- */
-    public void send(Long receiverId, Long senderId,
-                     NotificationType type, Long targetId,
-                     String senderNickname) {
+    public void send(Long receiverId, User sender, NotificationType type, Long targetId) {
+        publish(receiverId, sender, type, targetId, redirectUrl(type, targetId, null));
+    }
 
-        String message = type.createMessage(senderNickname);
+    /** 댓글 기반 알림 - 이동 경로에 필요한 게시글 위치를 댓글에서 바로 꺼낸다 */
+    public void sendForComment(Long receiverId, User sender, NotificationType type, Comments comment) {
+        CommentLocationResponse loc = new CommentLocationResponse(
+                comment.getTargetType(),
+                comment.getTargetId(),
+                comment.getId()
+        );
+        publish(receiverId, sender, type, comment.getId(), redirectUrl(type, comment.getId(), loc));
+    }
 
-        Notification notification = Notification.create(
+    private void publish(Long receiverId, User sender, NotificationType type, Long targetId, String redirectUrl) {
+        eventPublisher.publishEvent(new NotificationEvent(
                 receiverId,
-                senderId,
+                sender.getId(),
+                sender.getNickname(),
+                sender.getProfileImgUrl(),
                 type,
                 targetId,
-                message
-        );
-
-        notificationRepository.save(notification);
-        sendToClient(receiverId, notification);
-    }
-
-    /** ----------------------------
-     *  SSE 실시간 전송
-     * ----------------------------- */
-    public void sendToClient(Long userId, Notification notification) {
-
-        emitterRepository.get(userId).ifPresent(emitter -> {
-
-            NotificationResponseDto dto = toDto(notification);
-
-            try {
-                emitter.send(SseEmitter.event()
-                        .id(notification.getId().toString())
-                        .name("notification")
-                        .data(dto)
-                );
-            } catch (Exception e) {
-                emitterRepository.delete(userId);
-            }
-        });
+                redirectUrl
+        ));
     }
 
     /** ----------------------------
-     *  전체 알림 조회 (삭제된 대상 자동 제거)
+     *  전체 알림 조회 (대상이 삭제된 알림은 제외, 정리는 NotificationSweeper)
      * ----------------------------- */
-    @Transactional
+    @Transactional(readOnly = true)
     public List<NotificationResponseDto> getNotifications(Long userId) {
-
-        List<Notification> list =
-                notificationRepository.findByReceiverIdOrderByCreatedAtDesc(userId);
-
-        List<Notification> valid = list.stream()
-                .filter(this::isNotificationTargetValid)
-                .toList();
-
-        list.stream()
-                .filter(n -> !isNotificationTargetValid(n))
-                .forEach(n -> notificationRepository.deleteById(n.getId()));
-
-        return valid.stream().map(this::toDto).toList();
+        return notificationAssembler.assemble(
+                notificationRepository.findByReceiverIdOrderByCreatedAtDesc(userId));
     }
 
     /** 최근 10개 조회 */
-    @Transactional
+    @Transactional(readOnly = true)
     public List<NotificationResponseDto> getRecentNotifications(Long userId) {
-
-        List<Notification> list =
-                notificationRepository.findTop10ByReceiverIdOrderByCreatedAtDesc(userId);
-
-        List<Notification> valid = list.stream()
-                .filter(this::isNotificationTargetValid)
-                .toList();
-
-        list.stream()
-                .filter(n -> !isNotificationTargetValid(n))
-                .forEach(n -> notificationRepository.deleteById(n.getId()));
-
-        return valid.stream().map(this::toDto).toList();
+        return notificationAssembler.assemble(
+                notificationRepository.findTop10ByReceiverIdOrderByCreatedAtDesc(userId));
     }
 
-
     /** ----------------------------
-     *  알림 대상 유효성 검사
+     *  알림함 (키셋 페이징, cursor = 이전 페이지 마지막 알림 id)
      * ----------------------------- */
-    private boolean isNotificationTargetValid(Notification n) {
-
-        return switch (n.getType()) {
-
-            case BLOG_COMMENT, COMMENT_REPLY, SHORLOG_COMMENT, MENTION ->
-                    commentsRepository.existsById(n.getTargetId());
-
-            case BLOG_LIKE, BLOG_BOOKMARK ->
-                    blogRepository.existsById(n.getTargetId());
+    @Transactional(readOnly = true)
+    public NotificationSliceResponse getInbox(Long userId, String cursor) {
+        Long cursorId = parseCursor(cursor);
+        Pageable pageable = PageRequest.of(0, INBOX_PAGE_SIZE + 1);
 
-            case SHORLOG_LIKE, SHORLOG_BOOKMARK ->
-                    shorlogRepository.existsById(n.getTargetId());
+        List<Notification> rows = (cursorId == null)
+                ? notificationRepository.findByReceiverIdOrderByIdDesc(userId, pageable)
+                : notificationRepository.findByReceiverIdAndIdLessThanOrderByIdDesc(userId, cursorId, pageable);
 
-            case FOLLOW ->
-                    userRepository.existsById(n.getTargetId());
+        boolean hasNext = rows.size() > INBOX_PAGE_SIZE;
+        List<Notification> page = hasNext ? rows.subList(0, INBOX_PAGE_SIZE) : rows;
+        // 대상이 삭제된 알림이 빠져도 커서는 원본 행 기준으로 이어진다
+        String nextCursor = hasNext ? String.valueOf(page.get(page.size() - 1).getId()) : null;
 
-            default -> true;
-        };
+        return NotificationSliceResponse.of(notificationAssembler.assemble(page), hasNext, nextCursor);
     }
 
+    private static Long parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("커서 형식이 올바르지 않습니다.");
+        }
+    }
 
     /** ----------------------------
      *  알림 읽음 처리
@@ -153,50 +122,34 @@ public class NotificationService {
             throw new ServiceException(NotificationErrorCase.NOTIFICATION_FORBIDDEN);
         }
 
-        n.markAsRead();
+        // 실제로 읽음으로 바뀐 경우에만 감소 (동시 요청이 두 번 빼지 않도록)
+        if (notificationRepository.markAsReadIfUnread(notificationId) == 1) {
+            unreadCounter.addAfterCommit(userId, -1);
+        }
     }
 
     @Transactional
     public void markAllAsRead(Long userId) {
-        notificationRepository.markAllAsRead(userId);
-    }
-
-    /** ----------------------------
-     *  Notification → DTO 변환
-     * ----------------------------- */
-    private NotificationResponseDto toDto(Notification n) {
-
-        User sender = userRepository.findById(n.getSenderId())
-                .orElse(null);
-
-        String senderNickname = sender != null ? sender.getNickname() : "알 수 없음";
-        String profileImage = sender != null ? sender.getProfileImgUrl() : null;
-        String relativeTime = TimeUtil.toRelativeTime(n.getCreatedAt());
-        String redirectUrl = resolveRedirectUrl(n);
-
-        return NotificationResponseDto.from(
-                n,
-                senderNickname,
-                profileImage,
-                relativeTime,
-                redirectUrl
-        );
+        // 0으로 덮어쓰면 커밋 직후 도착한 새 알림의 +1이 지워질 수 있어, 지우고 다시 세게 한다
+        if (notificationRepository.markAllAsRead(userId) > 0) {
+            unreadCounter.evictAfterCommit(userId);
+        }
     }
 
     /** ----------------------------
-     *  알림 타입별 Redirect URL 생성
+     *  알림 타입별 Redirect URL 생성 (댓글 기반 알림은 댓글 위치 필요)
      * ----------------------------- */
-    private String resolveRedirectUrl(Notification n) {
+    static String redirectUrl(NotificationType type, Long targetId, CommentLocationResponse loc) {
 
-        return switch (n.getType()) {
+        return switch (type) {
 
             // ----------- 블로그 -----------
             case BLOG_LIKE, BLOG_BOOKMARK ->
-                    "/blogs/" + n.getTargetId();
+                    "/blogs/" + targetId;
 
             // ----------- 숏로그 -----------
             case SHORLOG_LIKE, SHORLOG_BOOKMARK ->
-                    "/shorlog/" + n.getTargetId();
+                    "/shorlog/" + targetId;
 
             // ----------- 댓글 기반 (댓글 → 게시글 매핑 필요)
             case BLOG_COMMENT,
@@ -204,8 +157,6 @@ public class NotificationService {
                  COMMENT_REPLY,
                  MENTION -> {
 
-                CommentLocationResponse loc = getCommentLocation(n.getTargetId());
-
                 if (loc.postType() == CommentsTargetType.BLOG) {
                     yield "/blogs/" + loc.postId()
                             + "?focus=comment&cid=" + loc.commentId();
@@ -217,24 +168,10 @@ public class NotificationService {
 
             // ----------- 팔로우 -----------
             case FOLLOW ->
-                    "/profile/" + n.getTargetId();
+                    "/profile/" + targetId;
         };
     }
 
-    /** 댓글 → 위치 정보 조회 */
-    @Transactional(readOnly = true)
-    public CommentLocationResponse getCommentLocation(Long commentId) {
-
-        Comments comment = commentsRepository.findById(commentId)
-                .orElseThrow(() -> new ServiceException(CommentsErrorCase.COMMENT_NOT_FOUND));
-
-        return new CommentLocationResponse(
-                comment.getTargetType(),
-                comment.getTargetId(),
-                commentId
-        );
-    }
-
     /** ----------------------------
      *  알림 삭제
      * ----------------------------- */
@@ -248,15 +185,20 @@ public class NotificationService {
             throw new ServiceException(NotificationErrorCase.NOTIFICATION_FORBIDDEN);
         }
 
-        notificationRepository.deleteById(notificationId);
+        if (notificationRepository.deleteIfUnread(notificationId) == 1) {
+            unreadCounter.addAfterCommit(userId, -1);
+        } else {
+            notificationRepository.deleteById(notificationId);
+        }
     }
 
     @Transactional
     public void deleteAllNotifications(Long userId) {
         notificationRepository.deleteAllByReceiverId(userId);
+        unreadCounter.evictAfterCommit(userId);
     }
 
-    public long getUnreadCount(Long userId) { return notificationRepository.countByReceiverIdAndIsReadFalse(userId); }
+    public long getUnreadCount(Long userId) { return unreadCounter.get(userId); }
 }
 
 
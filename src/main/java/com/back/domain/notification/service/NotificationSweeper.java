@@ -0,0 +1,60 @@
+package com.back.domain.notification.service;
+
+import com.back.domain.notification.entity.NotificationType;
+import com.back.domain.notification.repository.NotificationJdbcRepository;
+import com.back.global.lock.RedisJobLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+// 대상(댓글/글/사용자)이 삭제된 알림 정리
+// 목록 조회 시에는 응답에서만 빼고, 실제 삭제는 여기서 청크 단위로 모아서 한다 (조회 요청에서 행 단위 DELETE 하지 않음)
+// 인스턴스가 여러 대여도 RedisJobLock으로 한 곳에서만 실행된다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationSweeper {
+
+    private static final int CHUNK_SIZE = 1_000;
+
+    // 대상 테이블 → 해당 테이블 id를 targetId로 쓰는 알림 타입 (읽지 않은 알림 수도 같은 기준으로 센다)
+    static final Map<String, List<NotificationType>> TARGETS = Map.of(
+            "comments", List.of(NotificationType.BLOG_COMMENT, NotificationType.SHORLOG_COMMENT,
+                    NotificationType.COMMENT_REPLY, NotificationType.MENTION),
+            "blogs", List.of(NotificationType.BLOG_LIKE, NotificationType.BLOG_BOOKMARK),
+            "shorlog", List.of(NotificationType.SHORLOG_LIKE, NotificationType.SHORLOG_BOOKMARK),
+            "users", List.of(NotificationType.FOLLOW)
+    );
+
+    private final NotificationJdbcRepository notificationJdbcRepository;
+    private final RedisJobLock redisJobLock;
+
+    @Scheduled(cron = "0 15 4 * * *")
+    public void sweep() {
+        redisJobLock.runExclusively("notification:sweep", Duration.ofHours(1), Duration.ofMinutes(1), this::sweepAll);
+    }
+
+    private synchronized void sweepAll() {
+        TARGETS.forEach((table, types) -> {
+            int deleted = 0;
+            try {
+                int chunk;
+                do {
+                    chunk = notificationJdbcRepository.deleteDangling(table, types, CHUNK_SIZE);
+                    deleted += chunk;
+                } while (chunk == CHUNK_SIZE);
+            } catch (Exception e) {
+                log.error("[NotificationSweeper] {} 대상 알림 정리 실패", table, e);
+            }
+
+            if (deleted > 0) {
+                log.info("[NotificationSweeper] 대상이 삭제된 알림 {}건 정리 ({})", deleted, table);
+            }
+        });
+    }
+}
@@ -0,0 +1,110 @@
+package com.back.domain.notification.service;
+
+import com.back.domain.notification.repository.NotificationJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+
+// 읽지 않은 알림 수 캐시 (뱃지 폴링을 COUNT 쿼리 대신 Redis GET 한 번으로)
+// - 키가 없으면 DB에서 한 번 세어 채우고 (대상이 삭제된 알림은 목록처럼 제외), 이후에는 발송 +N / 읽음·삭제 -1 로 맞춘다
+// - 모두 읽음/모두 삭제는 키를 지워서 다음 조회 때 다시 세게 한다
+// - 요청 트랜잭션 안의 변경은 커밋된 뒤에 반영한다 (롤백되면 반영하지 않음)
+// - 키가 없을 때의 증감은 무시한다 (다음 조회 때 DB 값으로 채워짐)
+// - 초기화와 동시 발송이 겹치는 경우 등 어긋남은 TTL이 지나면 DB 값으로 다시 맞춰진다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationUnreadCounter {
+
+    private static final String KEY_PREFIX = "notification:unread:";
+    private static final Duration TTL = Duration.ofHours(6);
+
+    // 키가 있을 때만 증감 (0 아래로는 내려가지 않음)
+    private static final RedisScript<Long> ADD_IF_EXISTS_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return -1
+            end
+            local value = redis.call('INCRBY', KEYS[1], ARGV[1])
+            if value < 0 then
+                redis.call('SET', KEYS[1], 0, 'KEEPTTL')
+                return 0
+            end
+            return value
+            """, Long.class);
+
+    private final NotificationJdbcRepository notificationJdbcRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public long get(Long userId) {
+        String key = KEY_PREFIX + userId;
+        try {
+            String cached = stringRedisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                return Long.parseLong(cached);
+            }
+        } catch (Exception e) {
+            log.warn("[NotificationUnreadCounter] 캐시 조회 실패 - DB로 대체 (userId={})", userId, e);
+            return countFromDb(userId);
+        }
+
+        long count = countFromDb(userId);
+        try {
+            // 그 사이 다른 요청이 먼저 채웠다면 그 값을 유지
+            stringRedisTemplate.opsForValue().setIfAbsent(key, String.valueOf(count), TTL);
+        } catch (Exception e) {
+            log.warn("[NotificationUnreadCounter] 캐시 저장 실패 (userId={})", userId, e);
+        }
+        return count;
+    }
+
+    public void add(Long userId, long delta) {
+        try {
+            stringRedisTemplate.execute(ADD_IF_EXISTS_SCRIPT, List.of(KEY_PREFIX + userId), String.valueOf(delta));
+        } catch (Exception e) {
+            evict(userId);
+        }
+    }
+
+    public void addAfterCommit(Long userId, long delta) {
+        afterCommit(() -> add(userId, delta));
+    }
+
+    public void evictAfterCommit(Long userId) {
+        afterCommit(() -> evict(userId));
+    }
+
+    // 값을 확신할 수 없으면 지워서 다음 조회 때 DB에서 다시 세게 한다
+    private void evict(Long userId) {
+        try {
+            stringRedisTemplate.delete(KEY_PREFIX + userId);
+        } catch (Exception e) {
+            log.warn("[NotificationUnreadCounter] 캐시 삭제 실패 (userId={})", userId, e);
+        }
+    }
+
+    private long countFromDb(Long userId) {
+        return notificationJdbcRepository.countUnreadWithTarget(userId, NotificationSweeper.TARGETS);
+    }
+
+    // 트랜잭션 밖에서 호출되면 바로 실행
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -4,55 +4,116 @@ import com.back.domain.recommend.search.type.PostType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
-import java.util.LinkedHashSet;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class RecentViewService {
 
-    private final StringRedisTemplate stringRedisTemplate;
-
-    public void addRecentViewPost(String guestId, PostType postType, Long postId) {
-        String key = buildKey(true, guestId, postType);
+    private static final Duration GUEST_HISTORY_TTL = Duration.ofDays(14);
+
+    // 중복 제거 → 맨 앞에 추가 → 개수 제한 → (게스트만) 만료 갱신을 한 번의 왕복으로 처리
+    // KEYS[2]가 있으면 ARGV[4]를 그 SET에 함께 추가 (추천 후보 재계산 표시)
+    private static final RedisScript<Long> ADD_RECENT_VIEW_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('LREM', KEYS[1], 0, ARGV[1])
+            redis.call('LPUSH', KEYS[1], ARGV[1])
+            redis.call('LTRIM', KEYS[1], 0, tonumber(ARGV[2]) - 1)
+            if tonumber(ARGV[3]) > 0 then
+                redis.call('EXPIRE', KEYS[1], ARGV[3])
+            end
+            if #KEYS > 1 then
+                redis.call('SADD', KEYS[2], ARGV[4])
+            end
+            return 1
+            """, Long.class);
+
+    // KEYS = (게스트 키, 회원 키) 쌍 목록, ARGV = 쌍별 개수 제한
+    // 게스트 기록을 앞에 두고 회원 기록과 합친 뒤 게스트 키는 삭제 (게스트 기록이 없으면 아무것도 하지 않음)
+    private static final RedisScript<Long> MERGE_GUEST_HISTORY_SCRIPT = new DefaultRedisScript<>("""
+            local merged = 0
+            for i = 1, #KEYS, 2 do
+                local guestKey = KEYS[i]
+                local userKey = KEYS[i + 1]
+                local limit = tonumber(ARGV[(i + 1) / 2])
+                local guest = redis.call('LRANGE', guestKey, 0, -1)
+                if #guest > 0 then
+                    local user = redis.call('LRANGE', userKey, 0, -1)
+                    local seen = {}
+                    local ids = {}
+                    for _, list in ipairs({guest, user}) do
+                        for _, id in ipairs(list) do
+                            if not seen[id] and #ids < limit then
+                                seen[id] = true
+                                ids[#ids + 1] = id
+                            end
+                        end
+                    end
+                    redis.call('DEL', guestKey, userKey)
+                    redis.call('RPUSH', userKey, unpack(ids))
+                    merged = merged + #guest
+                end
+            end
+            return merged
+            """, Long.class);
 
-        stringRedisTemplate.opsForList().remove(key, 0, postId.toString());
-        stringRedisTemplate.opsForList().leftPush(key, postId.toString());
+    private final StringRedisTemplate stringRedisTemplate;
 
-        int limit = postType.getSearchLimit();
-        stringRedisTemplate.opsForList().trim(key, 0, limit - 1);
-        stringRedisTemplate.expire(key, Duration.ofDays(14));
+    // 로그인 사용자는 회원 키에, 비로그인은 게스트 키에 바로 기록
+    public void addRecentViewPost(String guestId, Long userId, PostType postType, Long postId) {
+        addRecentViewPost(guestId, userId, postType, postId, null, null);
     }
 
-    public void mergeGuestHistoryToUser(String guestId, Long userId, PostType postType) {
-        String GUEST_KEY = buildKey(true, guestId, postType);
-        String USER_KEY = buildKey(false, userId.toString(), postType);
-
-        List<String> guestHistory = stringRedisTemplate.opsForList().range(GUEST_KEY, 0, -1);
-        if (guestHistory == null) guestHistory = List.of();
-
-        List<String> userHistory = stringRedisTemplate.opsForList().range(USER_KEY, 0, -1);
-        if (userHistory == null) userHistory = List.of();
+    // markSetKey가 있으면 같은 왕복에서 markMember를 그 SET에 추가한다
+    public void addRecentViewPost(String guestId, Long userId, PostType postType, Long postId,
+                                  @Nullable String markSetKey, @Nullable String markMember) {
+        boolean isGuest = isGuest(userId);
+        if (isGuest && guestId == null) {
+            return;
+        }
 
-        Set<String> mergedSet = new LinkedHashSet<>();
-        mergedSet.addAll(guestHistory);
-        mergedSet.addAll(userHistory);
+        String key = buildKey(isGuest, getIdentifier(guestId, userId), postType);
+        long ttlSeconds = isGuest ? GUEST_HISTORY_TTL.toSeconds() : 0;
+        boolean mark = markSetKey != null && markMember != null;
+
+        stringRedisTemplate.execute(
+                ADD_RECENT_VIEW_SCRIPT,
+                mark ? List.of(key, markSetKey) : List.of(key),
+                postId.toString(),
+                String.valueOf(postType.getSearchLimit()),
+                String.valueOf(ttlSeconds),
+                mark ? markMember : ""
+        );
+    }
 
-        int limit = postType.getSearchLimit();
-        List<String> finalHistory = mergedSet.stream()
-                .limit(limit)
-                .toList();
+    // 로그인 시 한 번만 호출 - 게스트로 본 기록(모든 타입)을 회원 기록으로 옮긴다
+    public void mergeGuestHistoryToUser(String guestId, Long userId) {
+        if (guestId == null || guestId.isBlank() || isGuest(userId)) {
+            return;
+        }
 
-        stringRedisTemplate.delete(USER_KEY);
-        stringRedisTemplate.opsForList().rightPushAll(USER_KEY, finalHistory);
+        List<String> keys = new ArrayList<>();
+        List<String> limits = new ArrayList<>();
+        for (PostType postType : PostType.values()) {
+            keys.add(buildKey(true, guestId, postType));
+            keys.add(buildKey(false, userId.toString(), postType));
+            limits.add(String.valueOf(postType.getSearchLimit()));
+        }
 
-        stringRedisTemplate.delete(GUEST_KEY);
+        try {
+            stringRedisTemplate.execute(MERGE_GUEST_HISTORY_SCRIPT, keys, limits.toArray());
+        } catch (Exception e) {
+            // 최근 본 기록 병합 실패로 로그인이 실패하면 안 된다
+            log.warn("[RecentView] 게스트 기록 병합 실패 userId={}", userId, e);
+        }
     }
 
     public List<Long> getRecentViewPosts(String guestId, Long userId, PostType postType) {
@@ -0,0 +1,14 @@
+package com.back.domain.recommend.recommend.dto;
+
+import java.util.List;
+
+// 추천 후보의 한 페이지 (ids는 추천 순서 그대로, nextCursor에는 스냅샷 버전과 offset이 담긴다)
+public record RecommendCandidatePage(
+        List<Long> ids,
+        boolean hasNext,
+        String nextCursor
+) {
+    public static RecommendCandidatePage empty() {
+        return new RecommendCandidatePage(List.of(), false, null);
+    }
+}
@@ -0,0 +1,66 @@
+package com.back.domain.recommend.recommend.repository;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import com.back.domain.recommend.search.type.PostType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class RecommendCandidateQueryRepository {
+
+    private final ElasticsearchClient esClient;
+
+    // 추천 쿼리를 한 번 실행해서 상위 후보의 id/점수만 가져온다 (_source 없음)
+    public Map<Long, Double> searchCandidates(PostType postType, List<Query> recommendQueries, int limit) {
+        return search(postType, recommendQueries, 0, limit);
+    }
+
+    // 후보 목록 밖(상한 이후, 캐시하지 않는 비회원)은 같은 쿼리를 from/size로 직접 페이징
+    public List<Long> searchCandidateIds(PostType postType, List<Query> recommendQueries, int from, int size) {
+        return List.copyOf(search(postType, recommendQueries, from, size).keySet());
+    }
+
+    private Map<Long, Double> search(PostType postType, List<Query> recommendQueries, int from, int size) {
+        Query query = Query.of(q -> q.bool(b -> {
+            b.must(m -> m.matchAll(ma -> ma));
+            b.should(recommendQueries);
+            b.minimumShouldMatch("0");
+            if (postType == PostType.BLOG) {
+                b.filter(f -> f.term(t -> t.field("status").value("PUBLISHED")));
+            }
+            return b;
+        }));
+
+        try {
+            SearchResponse<Void> response = esClient.search(s -> s
+                            .index(postType.getIndexName())
+                            .query(query)
+                            .from(from)
+                            .size(size)
+                            .source(src -> src.fetch(false))
+                            .trackScores(true)
+                            .sort(sort -> sort.score(sc -> sc.order(SortOrder.Desc)))
+                            .sort(sort -> sort.field(f -> f.field(postType.getIdSortField()).order(SortOrder.Desc))),
+                    Void.class
+            );
+
+            Map<Long, Double> candidates = new LinkedHashMap<>();
+            for (Hit<Void> hit : response.hits().hits()) {
+                candidates.put(Long.parseLong(hit.id()), hit.score() != null ? hit.score() : 0.0);
+            }
+            return candidates;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,327 @@
+package com.back.domain.recommend.recommend.service;
+
+import com.back.domain.recommend.recentview.service.RecentViewService;
+import com.back.domain.recommend.recommend.dto.RecommendCandidatePage;
+import com.back.domain.recommend.recommend.repository.RecommendCandidateQueryRepository;
+import com.back.domain.recommend.search.type.PostType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 사용자별 추천 후보 스냅샷 (Redis ZSET, member=문서 id, score=추천 점수)
+// 트렌딩/최근 본 글/활동 기반 MLT 쿼리는 스냅샷을 만들 때 한 번만 실행하고,
+// 피드 요청은 스냅샷에서 페이지 범위의 id만 꺼내 ES ids 조회로 채운다.
+// - 스냅샷은 버전(생성 시각)별 키에 저장하고 커서에 버전을 담는다 → 스크롤 도중 목록이 바뀌지 않아 중복/누락이 없다
+// - 스냅샷 생성은 요청 스레드에서 하지 않는다. 조회는 최근 본 글 기록과 같은 왕복에서 stale SET에 식별자만 넣고,
+//   주기 작업이 꺼내서 maintenanceExecutor에서 새 버전을 만든다. 새 버전으로 바뀌기 전까지는 이전 스냅샷을 그대로 보여 준다
+// - 스냅샷이 아예 없으면(첫 요청, 만료) 생성을 비동기로 넘기고 그동안은 직접 페이징한다
+// - 스냅샷 상한(CANDIDATE_LIMIT) 이후와 만료된 스냅샷은 같은 추천 쿼리로 ES를 직접 페이징한다
+// - 식별자가 없는 비회원(게스트 쿠키 없음)은 모두 같은 키를 쓰게 되므로 캐시하지 않고 직접 페이징한다
+@Slf4j
+@Service
+public class RecommendCandidateService {
+
+    private static final int CANDIDATE_LIMIT = 300;
+    private static final Duration SNAPSHOT_TTL = Duration.ofMinutes(30);
+    private static final long REFRESH_INTERVAL_MS = 1_000;
+    private static final int REFRESH_BATCH_SIZE = 20;
+
+    private static final String CANDIDATE_KEY_PREFIX = "recommend:candidates:";
+    private static final String CURRENT_KEY_PREFIX = "recommend:candidates:current:";
+    private static final String STALE_KEY_PREFIX = "recommend:candidates:stale:";
+
+    private final RecommendService recommendService;
+    private final RecommendCandidateQueryRepository recommendCandidateQueryRepository;
+    private final RecentViewService recentViewService;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TaskExecutor maintenanceExecutor;
+
+    // 이 노드에서 stale 스냅샷을 다시 만드는 중인지 (유지보수 큐를 재계산 작업으로 채우지 않도록 한 번에 하나만)
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    // 이 노드에서 첫 스냅샷을 만드는 중인 식별자 (같은 사용자의 연속 요청이 작업을 쌓지 않도록)
+    private final Set<String> generating = ConcurrentHashMap.newKeySet();
+
+    public RecommendCandidateService(RecommendService recommendService,
+                                     RecommendCandidateQueryRepository recommendCandidateQueryRepository,
+                                     RecentViewService recentViewService,
+                                     StringRedisTemplate stringRedisTemplate,
+                                     @Qualifier("maintenanceExecutor") TaskExecutor maintenanceExecutor) {
+        this.recommendService = recommendService;
+        this.recommendCandidateQueryRepository = recommendCandidateQueryRepository;
+        this.recentViewService = recentViewService;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.maintenanceExecutor = maintenanceExecutor;
+    }
+
+    // 커서 기반: 커서가 없으면 새로고침으로 보고 현재 스냅샷의 처음부터 보여 준다
+    public RecommendCandidatePage getCandidates(String guestId, Long userId, PostType postType, @Nullable String cursor, int size) {
+        CandidateCursor candidateCursor = CandidateCursor.parse(cursor);
+        String identifier = identifier(guestId, userId);
+
+        if (identifier == null || (candidateCursor != null && candidateCursor.isLive())) {
+            return livePage(guestId, userId, postType, candidateCursor == null ? 0 : candidateCursor.offset(), size);
+        }
+
+        if (candidateCursor == null) {
+            String version = currentVersion(postType, identifier);
+            return snapshotPage(guestId, userId, postType, identifier, version, 0, size);
+        }
+
+        return snapshotPage(guestId, userId, postType, identifier, candidateCursor.version(), candidateCursor.offset(), size);
+    }
+
+    // 페이지 번호 기반 (기존 API 호환): 현재 스냅샷에서 offset 위치를 잘라 쓴다
+    public RecommendCandidatePage getCandidatesByPage(String guestId, Long userId, PostType postType, int page, int size) {
+        String identifier = identifier(guestId, userId);
+        int offset = page * size;
+
+        if (identifier == null) {
+            return livePage(guestId, userId, postType, offset, size);
+        }
+
+        String version = currentVersion(postType, identifier);
+        return snapshotPage(guestId, userId, postType, identifier, version, offset, size);
+    }
+
+    // 글 조회 → 최근 본 글 기록 + 재계산 대상 표시 (스크롤 중인 목록은 건드리지 않음)
+    public void recordView(String guestId, Long userId, PostType postType, Long postId) {
+        String identifier = identifier(guestId, userId);
+        recentViewService.addRecentViewPost(guestId, userId, postType, postId,
+                identifier == null ? null : staleKey(postType), identifier);
+    }
+
+    // stale 표시된 식별자를 꺼내 스냅샷을 다시 만든다 (SPOP이라 여러 인스턴스가 같은 식별자를 중복 처리하지 않음)
+    // 스냅샷이 없는 식별자는 추천 피드를 보고 있지 않은 것이므로 건너뛰고, 다음 요청 때 만든다
+    @Scheduled(fixedDelay = REFRESH_INTERVAL_MS)
+    public void refreshStaleSnapshots() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+
+        Map<PostType, List<String>> stale = new EnumMap<>(PostType.class);
+        boolean submitted = false;
+        try {
+            for (PostType postType : PostType.values()) {
+                List<String> identifiers = stringRedisTemplate.opsForSet().pop(staleKey(postType), REFRESH_BATCH_SIZE);
+                if (identifiers != null && !identifiers.isEmpty()) {
+                    stale.put(postType, identifiers);
+                }
+            }
+            if (stale.isEmpty()) {
+                return;
+            }
+
+            maintenanceExecutor.execute(() -> {
+                try {
+                    stale.forEach(this::refresh);
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+            submitted = true;
+        } catch (RejectedExecutionException e) {
+            // 유지보수 큐가 차 있으면 꺼낸 표시를 되돌려 두고 다음 주기에 다시 시도
+            stale.forEach((postType, identifiers) ->
+                    stringRedisTemplate.opsForSet().add(staleKey(postType), identifiers.toArray(String[]::new)));
+        } finally {
+            if (!submitted) {
+                refreshing.set(false);
+            }
+        }
+    }
+
+    private void refresh(PostType postType, List<String> identifiers) {
+        for (String identifier : identifiers) {
+            try {
+                if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(currentKey(postType, identifier)))) {
+                    generate(postType, identifier);
+                }
+            } catch (Exception e) {
+                log.warn("[RecommendCandidate] 추천 후보 재계산 실패 - type={}, identifier={}", postType, identifier, e);
+            }
+        }
+    }
+
+    private RecommendCandidatePage snapshotPage(String guestId, Long userId, PostType postType,
+                                                String identifier, @Nullable String version, int offset, int size) {
+        if (version == null) {
+            return livePage(guestId, userId, postType, offset, size);
+        }
+
+        String key = candidateKey(postType, identifier, version);
+        ZSetOperations<String, String> zSet = stringRedisTemplate.opsForZSet();
+        Long total = zSet.zCard(key);
+
+        // 스냅샷이 만료됐으면 같은 위치부터 직접 페이징
+        if (total == null || total == 0) {
+            return livePage(guestId, userId, postType, offset, size);
+        }
+
+        boolean truncated = total >= CANDIDATE_LIMIT;
+        if (offset >= total) {
+            return truncated ? livePage(guestId, userId, postType, offset, size) : RecommendCandidatePage.empty();
+        }
+
+        Set<String> members = zSet.reverseRange(key, offset, offset + size - 1);
+        stringRedisTemplate.expire(key, SNAPSHOT_TTL);
+        List<Long> ids = members == null ? List.of() : members.stream().map(Long::parseLong).toList();
+
+        int nextOffset = offset + ids.size();
+        if (nextOffset < total) {
+            return new RecommendCandidatePage(ids, true, CandidateCursor.snapshot(version, nextOffset));
+        }
+        // 상한까지 다 본 경우 다음 페이지부터는 직접 페이징
+        return new RecommendCandidatePage(ids, truncated, truncated ? CandidateCursor.live(nextOffset) : null);
+    }
+
+    private RecommendCandidatePage livePage(String guestId, Long userId, PostType postType, int offset, int size) {
+        List<Long> ids = recommendCandidateQueryRepository.searchCandidateIds(
+                postType,
+                recommendService.getRecommendQueries(guestId, userId, postType),
+                offset,
+                size + 1
+        );
+
+        boolean hasNext = ids.size() > size;
+        List<Long> pageIds = hasNext ? ids.subList(0, size) : ids;
+        return new RecommendCandidatePage(pageIds, hasNext, hasNext ? CandidateCursor.live(offset + size) : null);
+    }
+
+    // 현재 스냅샷 버전. 없으면 생성을 비동기로 넘기고 null (그동안은 직접 페이징)
+    @Nullable
+    private String currentVersion(PostType postType, String identifier) {
+        String currentKey = currentKey(postType, identifier);
+        String version = stringRedisTemplate.opsForValue().get(currentKey);
+
+        if (version != null && Boolean.TRUE.equals(stringRedisTemplate.hasKey(candidateKey(postType, identifier, version)))) {
+            stringRedisTemplate.expire(currentKey, SNAPSHOT_TTL);
+            return version;
+        }
+
+        generateAsync(postType, identifier);
+        return null;
+    }
+
+    private void generateAsync(PostType postType, String identifier) {
+        String task = postType.name() + ":" + identifier;
+        if (!generating.add(task)) {
+            return;
+        }
+
+        try {
+            maintenanceExecutor.execute(() -> {
+                try {
+                    generate(postType, identifier);
+                } catch (Exception e) {
+                    log.warn("[RecommendCandidate] 추천 후보 생성 실패 - type={}, identifier={}", postType, identifier, e);
+                } finally {
+                    generating.remove(task);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 유지보수 큐가 차 있으면 이번 요청은 직접 페이징으로 끝내고 다음 요청 때 다시 시도
+            generating.remove(task);
+        }
+    }
+
+    // 새 버전 키에 채운 뒤 current를 가리키게 한다 (이전 버전은 스크롤 중인 요청이 계속 읽다가 TTL로 사라짐)
+    @Nullable
+    private String generate(PostType postType, String identifier) {
+        String guestId = identifier.startsWith("guest:") ? identifier.substring("guest:".length()) : null;
+        Long userId = identifier.startsWith("user:") ? Long.parseLong(identifier.substring("user:".length())) : null;
+
+        Map<Long, Double> candidates = recommendCandidateQueryRepository.searchCandidates(
+                postType,
+                recommendService.getRecommendQueries(guestId, userId, postType),
+                CANDIDATE_LIMIT
+        );
+        if (candidates.isEmpty()) {
+            return null;
+        }
+
+        String version = Long.toString(System.currentTimeMillis(), 36);
+        String key = candidateKey(postType, identifier, version);
+
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        candidates.forEach((id, score) -> tuples.add(new DefaultTypedTuple<>(id.toString(), score)));
+
+        stringRedisTemplate.opsForZSet().add(key, tuples);
+        stringRedisTemplate.expire(key, SNAPSHOT_TTL);
+        stringRedisTemplate.opsForValue().set(currentKey(postType, identifier), version, SNAPSHOT_TTL);
+        return version;
+    }
+
+    @Nullable
+    private String identifier(String guestId, Long userId) {
+        if (userId != null && userId > 0) {
+            return "user:" + userId;
+        }
+        if (guestId == null || guestId.isBlank()) {
+            return null;
+        }
+        return "guest:" + guestId;
+    }
+
+    private String candidateKey(PostType postType, String identifier, String version) {
+        return CANDIDATE_KEY_PREFIX + postType.name() + ":" + identifier + ":" + version;
+    }
+
+    private String currentKey(PostType postType, String identifier) {
+        return CURRENT_KEY_PREFIX + postType.name() + ":" + identifier;
+    }
+
+    private String staleKey(PostType postType) {
+        return STALE_KEY_PREFIX + postType.name();
+    }
+
+    // 커서 형식: "{스냅샷 버전}.{offset}" 또는 스냅샷 밖이면 "live.{offset}"
+    record CandidateCursor(String version, int offset) {
+
+        private static final String LIVE = "live";
+
+        static CandidateCursor parse(@Nullable String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return null;
+            }
+
+            String[] parts = cursor.split("\\.");
+            if (parts.length != 2 || parts[0].isBlank()) {
+                throw new IllegalArgumentException("커서 형식이 올바르지 않습니다.");
+            }
+
+            try {
+                return new CandidateCursor(parts[0], Math.max(0, Integer.parseInt(parts[1])));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("커서 형식이 올바르지 않습니다.");
+            }
+        }
+
+        static String snapshot(String version, int offset) {
+            return version + "." + offset;
+        }
+
+        static String live(int offset) {
+            return LIVE + "." + offset;
+        }
+
+        boolean isLive() {
+            return LIVE.equals(version);
+        }
+    }
+}
@@ -1,9 +1,10 @@
 package com.back.domain.recommend.recommend.service;
 
 import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.query_dsl.FieldValueFactorModifier;
+import co.elastic.clients.elasticsearch._types.query_dsl.FunctionBoostMode;
 import co.elastic.clients.elasticsearch._types.query_dsl.FunctionScoreMode;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
-import co.elastic.clients.json.JsonData;
 import com.back.domain.recommend.search.type.PostType;
 import com.back.domain.user.activity.dto.UserActivityDto;
 import com.back.domain.user.activity.dto.UserCommentActivityDto;
@@ -12,7 +13,6 @@ import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -20,51 +20,17 @@ import java.util.stream.IntStream;
 public class RecommendQueryBuilder {
 
     // 트렌딩 쿼리
+    // 점수는 색인 시점/주기 작업에서 미리 계산해 둔 trendingScore 필드를 그대로 읽는다 (문서별 스크립트 실행 없음)
     public Query buildTrendingMLTQuery(PostType postType) {
-
-        long now = System.currentTimeMillis();
-
-        return Query.of(q -> q.scriptScore(ss -> ss
+        return Query.of(q -> q.functionScore(fs -> fs
                 .query(m -> m.matchAll(ma -> ma))
-                .script(sc -> {
-                            if (postType == PostType.SHORLOG) {
-                                return sc.source("""
-                                                double views = doc['viewCount'].size()==0 ? 0 : doc['viewCount'].value;
-                                                double likes = doc['likeCount'].size()==0 ? 0 : doc['likeCount'].value;
-                                                double comments = doc['commentCount'].size()==0 ? 0 : doc['commentCount'].value;
-                                                
-                                                long created = doc['createdAt'].value.getMillis();
-                                                double hours = (params.now - created) / 3600000.0;
-                                                
-                                                double engagement =
-                                                    Math.log1p(views) * 0.2 +
-                                                    Math.sqrt(likes) * 0.6 +
-                                                    Math.log1p(comments) * 0.8;
-                                                
-                                                double halfLife = params.half_life_hours;
-                                                double decay = Math.exp(-Math.log(2) * (hours / halfLife));
-                                                
-                                                double trending = engagement * decay;
-                                                return trending * 0.6;
-                                                """)
-                                        .params(Map.of(
-                                                "now", JsonData.of(now),
-                                                "half_life_hours", JsonData.of(24.0)
-                                        ));
-                            }
-                            return sc.source("""
-                                            double views = doc['viewCount'].size()==0 ? 0 : doc['viewCount'].value;
-                                            double likes = doc['likeCount'].size()==0 ? 0 : doc['likeCount'].value;
-                                            double bookmarks = doc['bookmarkCount'].size()==0 ? 0 : doc['bookmarkCount'].value;
-                                            
-                                            return (
-                                                Math.log1p(views) * 0.30 +
-                                                Math.sqrt(likes) * 0.25 +
-                                                Math.sqrt(bookmarks) * 0.28
-                                            ) * 0.4;
-                                            """);
-                        }
-                )
+                .functions(f -> f.fieldValueFactor(fv -> fv
+                        .field("trendingScore")
+                        .factor(1.0)
+                        .modifier(FieldValueFactorModifier.None)
+                        .missing(0.0)
+                ))
+                .boostMode(FunctionBoostMode.Replace)
         ));
     }
 
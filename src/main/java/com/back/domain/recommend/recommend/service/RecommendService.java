@@ -3,8 +3,7 @@ package com.back.domain.recommend.recommend.service;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import com.back.domain.recommend.recentview.service.RecentViewService;
 import com.back.domain.recommend.search.type.PostType;
-import com.back.domain.user.activity.dto.UserActivityDto;
-import com.back.domain.user.activity.dto.UserCommentActivityDto;
+import com.back.domain.user.activity.dto.UserActivityProfile;
 import com.back.domain.user.activity.service.UserActivityService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -39,12 +38,10 @@ public class RecommendService {
         // 사용자 행동 기반 추천 (로그인일 때만)
         if (userId != null && userId > 0) {
             boolean isShorlog = (postType == PostType.SHORLOG);
-            List<UserActivityDto> likedPosts = userActivityService.getUserLikedPosts(userId, isShorlog, 5);
-            List<UserActivityDto> bookmarkedPosts = userActivityService.getUserBookmarkedPosts(userId, isShorlog, 5);
-            List<UserCommentActivityDto> commentedPosts = userActivityService.getUserCommentedPosts(userId, isShorlog, 3);
-            List<UserActivityDto> writtenPosts = userActivityService.getUserWrittenPosts(userId, isShorlog, 3);
+            UserActivityProfile profile = userActivityService.getActivityProfile(userId, isShorlog, 5, 5, 3, 3);
 
-            List<Query> userActivityQuery = queryBuilder.buildUserActivityMLTQuery(postType, likedPosts, bookmarkedPosts, commentedPosts, writtenPosts);
+            List<Query> userActivityQuery = queryBuilder.buildUserActivityMLTQuery(postType,
+                    profile.likedPosts(), profile.bookmarkedPosts(), profile.commentedPosts(), profile.writtenPosts());
             recommendQueries.addAll(userActivityQuery);
         }
 
@@ -10,25 +10,30 @@ public enum PostType {
             "app1_shorlogs",
             List.of("content", "hashtags"),
             10,
-            List.of("id", "content", "thumbnailUrl", "profileImgUrl", "nickname", "hashtags", "likeCount", "commentCount")
+            List.of("id", "content", "thumbnailUrl", "profileImgUrl", "nickname", "hashtags", "likeCount", "commentCount"),
+            "id.keyword"
     ),
 
     BLOG(
             "app1_blogs",
             List.of("content", "title", "hashtagName"),
             5,
-            List.of()
+            List.of(),
+            "id"
     );
 
     private final String indexName;
     private final List<String> searchFields;
     private final int searchLimit;
     private final List<String> resultFields;
+    // 점수가 같은 문서끼리 순서를 고정하기 위한 정렬 필드 (ES 8은 _id 정렬 불가, _doc은 세그먼트 병합 시 바뀜)
+    private final String idSortField;
 
-    PostType(String indexName, List<String> searchFields, int searchLimit, List<String> resultFields) {
+    PostType(String indexName, List<String> searchFields, int searchLimit, List<String> resultFields, String idSortField) {
         this.indexName = indexName;
         this.searchFields = searchFields;
         this.searchLimit = searchLimit;
         this.resultFields = resultFields;
+        this.idSortField = idSortField;
     }
 }
@@ -0,0 +1,134 @@
+package com.back.domain.recommend.trending.service;
+
+import com.back.domain.blog.blogdoc.document.BlogDoc;
+import com.back.domain.blog.blogdoc.service.BlogDocIndexer;
+import com.back.domain.main.entity.ContentType;
+import com.back.domain.shared.countersync.dto.ContentCounterSnapshot;
+import com.back.domain.shared.countersync.repository.ContentCounterJdbcRepository;
+import com.back.domain.shorlog.shorlogdoc.document.ShorlogDoc;
+import com.back.domain.shorlog.shorlogdoc.service.ShorlogDocService;
+import com.back.global.lock.RedisJobLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 추천 트렌딩 점수(trendingScore) 갱신 작업
+// 카운터가 바뀐 글은 카운터 동기화에서 같이 갱신되므로, 여기서는 시간이 지나며 바뀌는 감쇠분만 맞춰 준다.
+// - 10분마다: 최근 7일 숏로그 (반감기 24시간이라 그 이전 글은 점수가 거의 0)
+// - 야간: 숏로그/공개 블로그 전체 (최근 구간을 벗어난 글의 점수 마감 + 누락 보정)
+// - 최초 1회: 기존 인덱스에 매핑 추가 + 전체 계산 (Redis 표시로 인스턴스/재시작과 무관하게 한 번만, 기동 경로 밖에서 실행)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendingScoreRefreshService {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int RECENT_DAYS = 7;
+    private static final String TRENDING_SCORE_MAPPING = """
+            {"properties": {"trendingScore": {"type": "double"}}}
+            """;
+    private static final String INITIALIZED_MARKER_KEY = "trending-score:initialized";
+    private static final String FULL_JOB = "trending-score:full";
+    private static final Duration FULL_LOCK_AT_MOST = Duration.ofHours(1);
+
+    private final ContentCounterJdbcRepository contentCounterJdbcRepository;
+    private final ShorlogDocService shorlogDocService;
+    private final BlogDocIndexer blogDocIndexer;
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisJobLock redisJobLock;
+
+    // 기존 인덱스에 필드 매핑 추가 후 한 번 전체 계산 (블로그 매핑은 strict라 매핑 없이는 부분 업데이트가 거부됨)
+    // 새로 만드는 인덱스는 mappings.json에 필드가 있으므로, 이미 끝났으면 재시작해도 다시 하지 않는다
+    @Async("maintenanceExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeIfNeeded() {
+        if (isInitialized()) {
+            return;
+        }
+
+        redisJobLock.runExclusively(FULL_JOB, FULL_LOCK_AT_MOST, () -> {
+            // 잠금을 기다리는 사이 다른 인스턴스가 끝냈을 수 있다
+            if (isInitialized()) {
+                return;
+            }
+
+            try {
+                elasticsearchOperations.indexOps(ShorlogDoc.class).putMapping(Document.parse(TRENDING_SCORE_MAPPING));
+                elasticsearchOperations.indexOps(BlogDoc.class).putMapping(Document.parse(TRENDING_SCORE_MAPPING));
+            } catch (Exception e) {
+                log.error("[TrendingScore] trendingScore 매핑 추가 실패 - 다음 기동 때 재시도", e);
+                return;
+            }
+
+            if (refreshAllTypes()) {
+                stringRedisTemplate.opsForValue().set(INITIALIZED_MARKER_KEY, LocalDateTime.now().toString());
+            }
+        });
+    }
+
+    @Scheduled(cron = "0 */10 * * * *")
+    public void refreshRecent() {
+        redisJobLock.runExclusively("trending-score:recent", Duration.ofMinutes(9), Duration.ofSeconds(30),
+                () -> refresh(ContentType.SHORLOG, LocalDateTime.now().minusDays(RECENT_DAYS)));
+    }
+
+    @Scheduled(cron = "0 0 5 * * *")
+    public void refreshAll() {
+        redisJobLock.runExclusively(FULL_JOB, FULL_LOCK_AT_MOST, Duration.ofMinutes(1), this::refreshAllTypes);
+    }
+
+    // 모든 구간이 성공했을 때만 true
+    boolean refreshAllTypes() {
+        boolean allSucceeded = true;
+        for (ContentType contentType : ContentType.values()) {
+            allSucceeded &= refresh(contentType, null);
+        }
+        return allSucceeded;
+    }
+
+    private boolean refresh(ContentType contentType, LocalDateTime createdSince) {
+        long lastId = 0;
+        int updated = 0;
+        boolean allSucceeded = true;
+
+        while (true) {
+            List<Long> ids = contentCounterJdbcRepository.findIdsAfter(contentType, createdSince, lastId, CHUNK_SIZE);
+            if (ids.isEmpty()) {
+                break;
+            }
+            lastId = ids.get(ids.size() - 1);
+
+            try {
+                List<ContentCounterSnapshot> counters = contentCounterJdbcRepository.findCounters(contentType, ids);
+                switch (contentType) {
+                    case SHORLOG -> shorlogDocService.bulkUpdateCounters(counters);
+                    case BLOG -> blogDocIndexer.bulkUpdateCounters(counters);
+                }
+                updated += counters.size();
+            } catch (Exception e) {
+                // 실패한 구간은 다음 주기에 다시 계산됨
+                log.error("[TrendingScore] {} 트렌딩 점수 갱신 실패 (id > {})", contentType, ids.get(0) - 1, e);
+                allSucceeded = false;
+            }
+        }
+
+        log.debug("[TrendingScore] {} 트렌딩 점수 {}건 갱신", contentType, updated);
+        return allSucceeded;
+    }
+
+    private boolean isInitialized() {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(INITIALIZED_MARKER_KEY));
+    }
+}
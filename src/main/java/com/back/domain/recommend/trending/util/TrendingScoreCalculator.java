@@ -0,0 +1,36 @@
+package com.back.domain.recommend.trending.util;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+// 추천 트렌딩 점수 계산 (ES 문서의 trendingScore 필드에 미리 저장해 두고 쿼리에서는 값만 읽는다)
+// 숏로그: 반응도 * 시간 감쇠(반감기 24시간), 블로그: 반응도만 사용
+public final class TrendingScoreCalculator {
+
+    private static final double SHORLOG_HALF_LIFE_HOURS = 24.0;
+    private static final double SHORLOG_WEIGHT = 0.6;
+    private static final double BLOG_WEIGHT = 0.4;
+
+    private TrendingScoreCalculator() {
+    }
+
+    public static double shorlog(long views, long likes, long comments, LocalDateTime createdAt, LocalDateTime now) {
+        double engagement =
+                Math.log1p(views) * 0.2 +
+                Math.sqrt(likes) * 0.6 +
+                Math.log1p(comments) * 0.8;
+
+        double hours = Math.max(0, Duration.between(createdAt, now).toMillis() / 3_600_000.0);
+        double decay = Math.exp(-Math.log(2) * (hours / SHORLOG_HALF_LIFE_HOURS));
+
+        return engagement * decay * SHORLOG_WEIGHT;
+    }
+
+    public static double blog(long views, long likes, long bookmarks) {
+        return (
+                Math.log1p(views) * 0.30 +
+                Math.sqrt(likes) * 0.25 +
+                Math.sqrt(bookmarks) * 0.28
+        ) * BLOG_WEIGHT;
+    }
+}
@@ -3,12 +3,17 @@ package com.back.domain.search.searchKeyword.entity;
 import com.back.global.jpa.entity.BaseEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Getter
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_search_keyword_modified_at", columnList = "modified_at") // 자동완성 변경분 동기화
+})
 @AllArgsConstructor
 @NoArgsConstructor
 public class SearchKeyword extends BaseEntity {
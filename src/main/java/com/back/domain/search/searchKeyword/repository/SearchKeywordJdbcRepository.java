@@ -0,0 +1,43 @@
+package com.back.domain.search.searchKeyword.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class SearchKeywordJdbcRepository {
+
+    // keyword 유니크 키 기준 upsert - 조회 후 저장하지 않으므로 동시 증가분이 유실되거나 중복 INSERT가 나지 않는다
+    // modified_at은 JPA auditing과 같은 애플리케이션 시각으로 쓴다
+    // (자동완성 동기화가 애플리케이션 시각과 비교하므로 DB NOW()를 쓰면 타임존/시계 차이만큼 변경분을 놓친다)
+    private static final String UPSERT_SQL = """
+            INSERT INTO search_keyword (keyword, search_count, created_at, modified_at)
+            VALUES (?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                search_count = search_count + VALUES(search_count),
+                modified_at = VALUES(modified_at)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void addSearchCounts(Map<String, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+        deltas.forEach((keyword, delta) -> batchArgs.add(new Object[]{keyword, delta, now, now}));
+
+        jdbcTemplate.batchUpdate(UPSERT_SQL, batchArgs);
+    }
+}
@@ -1,21 +1,34 @@
 package com.back.domain.search.searchKeyword.repository;
 
+import com.back.domain.search.searchKeyword.dto.SearchKeywordResponseDto;
 import com.back.domain.search.searchKeyword.entity.SearchKeyword;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 @Repository
 public interface SearchKeywordRepository extends JpaRepository<SearchKeyword, Long> {
 
-    List<SearchKeyword> findTop10ByModifiedAtGreaterThanEqualOrderBySearchCountDesc(LocalDateTime modifiedAtIsGreaterThan);
+    // 자동완성 인덱스 초기 적재 (검색 횟수 상위만, 엔티티 대신 키워드/카운트만)
+    @Query("""
+            SELECT new com.back.domain.search.searchKeyword.dto.SearchKeywordResponseDto(k.keyword, k.searchCount)
+            FROM SearchKeyword k
+            ORDER BY k.searchCount DESC
+            """)
+    List<SearchKeywordResponseDto> findTopKeywordCounts(Pageable pageable);
 
-    List<SearchKeyword> findTop10ByKeywordContainingIgnoreCaseOrderBySearchCountDesc(String part);
-
-    Optional<SearchKeyword> findByKeyword(String keyword);
+    // 자동완성 변경분 동기화
+    @Query("""
+            SELECT new com.back.domain.search.searchKeyword.dto.SearchKeywordResponseDto(k.keyword, k.searchCount)
+            FROM SearchKeyword k
+            WHERE k.modifiedAt >= :modifiedAt
+            """)
+    List<SearchKeywordResponseDto> findKeywordCountsModifiedSince(@Param("modifiedAt") LocalDateTime modifiedAt);
 
     List<SearchKeyword> findTop10ByOrderBySearchCountDesc();
 }
@@ -0,0 +1,230 @@
+package com.back.domain.search.searchKeyword.service;
+
+import com.back.domain.search.searchKeyword.dto.SearchKeywordResponseDto;
+import com.back.domain.search.searchKeyword.repository.SearchKeywordRepository;
+import com.back.domain.search.searchKeyword.util.HangulJamo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 검색어 자동완성 (MySQL을 거치지 않는 힙 내 접두어 인덱스)
+// - 자모 분해 문자열 / 초성 문자열을 각각 정렬 배열로 두고 이진 탐색으로 접두어 구간을 찾는다.
+// - 구간이 큰 짧은 접두어는 빌드 시점에 상위 k개를 미리 계산해 두고, 나머지는 구간을 훑어 상위 k개를 고른다.
+// - 30초마다 변경된 키워드만 읽어 카운트를 반영하고 인덱스를 새로 만들어 교체한다.
+// - 메모리에는 인덱스에 들어가는 상위 MAX_KEYWORDS개만 남긴다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchKeywordAutocompleteService {
+
+    private static final int TOP_K = 10;
+    private static final int SCAN_LIMIT = 1_000; // 이보다 큰 구간은 미리 계산
+    private static final int MAX_KEYWORDS = 50_000; // 인덱스에 넣을 키워드 수 (검색 횟수 상위)
+    // 동기화 구간을 이만큼 겹쳐 읽는다 (인스턴스 간 시계 차이, 커밋이 늦은 트랜잭션의 modified_at 보정)
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+
+    private final SearchKeywordRepository searchKeywordRepository;
+
+    // refresh()에서만 접근 (synchronized)
+    private final Map<String, Long> keywordCounts = new HashMap<>();
+    private volatile LocalDateTime lastSyncedAt;
+    private volatile Index index = Index.EMPTY;
+
+    public List<SearchKeywordResponseDto> autocomplete(String query) {
+        if (query == null || HangulJamo.normalize(query).isEmpty()) {
+            return List.of();
+        }
+
+        Index current = index;
+        int[] matched = HangulJamo.isChoseongQuery(query)
+                ? current.choseong.topK(HangulJamo.choseong(query))
+                : current.jamo.topK(HangulJamo.decompose(query));
+
+        List<SearchKeywordResponseDto> result = new ArrayList<>(matched.length);
+        for (int keywordIdx : matched) {
+            result.add(new SearchKeywordResponseDto(current.keywords[keywordIdx], current.counts[keywordIdx]));
+        }
+        return result;
+    }
+
+    @Scheduled(fixedDelay = 30_000)
+    public synchronized void refresh() {
+        LocalDateTime syncStartedAt = LocalDateTime.now();
+
+        try {
+            List<SearchKeywordResponseDto> changed = (lastSyncedAt == null)
+                    ? searchKeywordRepository.findTopKeywordCounts(PageRequest.of(0, MAX_KEYWORDS))
+                    : searchKeywordRepository.findKeywordCountsModifiedSince(lastSyncedAt.minus(SYNC_OVERLAP));
+
+            // 겹쳐 읽은 구간은 이미 반영한 값이므로, 카운트가 바뀐 키워드가 없으면 인덱스를 다시 만들지 않는다
+            boolean updated = false;
+            for (SearchKeywordResponseDto keywordCount : changed) {
+                Long previous = keywordCounts.put(keywordCount.keyword(), keywordCount.searchCount());
+                updated |= !keywordCount.searchCount().equals(previous);
+            }
+
+            if (lastSyncedAt == null || updated) {
+                Index built = Index.build(keywordCounts);
+                retainIndexed(built);
+                index = built;
+            }
+            // 동기화 도중 수정된 행을 놓치지 않도록 시작 시각 기준으로 다음 구간을 잡는다
+            lastSyncedAt = syncStartedAt;
+        } catch (Exception e) {
+            log.error("[SearchKeywordAutocomplete] 자동완성 인덱스 갱신 실패", e);
+        }
+    }
+
+    // 상위 MAX_KEYWORDS개 밖으로 밀려난 키워드는 버린다 (다시 검색되면 변경분 동기화로 DB 카운트와 함께 돌아온다)
+    private void retainIndexed(Index built) {
+        if (keywordCounts.size() <= built.keywords.length) {
+            return;
+        }
+
+        keywordCounts.clear();
+        for (int i = 0; i < built.keywords.length; i++) {
+            keywordCounts.put(built.keywords[i], built.counts[i]);
+        }
+    }
+
+    // 카운트 순으로 정렬된 키워드 배열 + 자모/초성 접두어 인덱스 (불변, 통째로 교체)
+    private static final class Index {
+
+        static final Index EMPTY = new Index(new String[0], new long[0], PrefixIndex.EMPTY, PrefixIndex.EMPTY);
+
+        final String[] keywords;
+        final long[] counts;
+        final PrefixIndex jamo;
+        final PrefixIndex choseong;
+
+        Index(String[] keywords, long[] counts, PrefixIndex jamo, PrefixIndex choseong) {
+            this.keywords = keywords;
+            this.counts = counts;
+            this.jamo = jamo;
+            this.choseong = choseong;
+        }
+
+        static Index build(Map<String, Long> keywordCounts) {
+            List<Map.Entry<String, Long>> entries = keywordCounts.entrySet().stream()
+                    .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                    .limit(MAX_KEYWORDS)
+                    .toList();
+
+            String[] keywords = new String[entries.size()];
+            long[] counts = new long[entries.size()];
+            String[] jamoKeys = new String[entries.size()];
+            String[] choseongKeys = new String[entries.size()];
+
+            for (int i = 0; i < entries.size(); i++) {
+                keywords[i] = entries.get(i).getKey();
+                counts[i] = entries.get(i).getValue();
+                jamoKeys[i] = HangulJamo.decompose(keywords[i]);
+                choseongKeys[i] = HangulJamo.choseong(keywords[i]);
+            }
+
+            return new Index(keywords, counts, PrefixIndex.build(jamoKeys), PrefixIndex.build(choseongKeys));
+        }
+    }
+
+    // 정렬된 (키, 키워드 번호) 배열. 키워드 번호가 작을수록 검색 횟수가 많다.
+    private static final class PrefixIndex {
+
+        static final PrefixIndex EMPTY = new PrefixIndex(new String[0], new int[0], Map.of());
+
+        final String[] keys;
+        final int[] keywordIdx;
+        final Map<String, int[]> precomputed;
+
+        PrefixIndex(String[] keys, int[] keywordIdx, Map<String, int[]> precomputed) {
+            this.keys = keys;
+            this.keywordIdx = keywordIdx;
+            this.precomputed = precomputed;
+        }
+
+        static PrefixIndex build(String[] keyByKeyword) {
+            Integer[] order = new Integer[keyByKeyword.length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.comparing((Integer i) -> keyByKeyword[i]).thenComparingInt(i -> i));
+
+            String[] keys = new String[order.length];
+            int[] keywordIdx = new int[order.length];
+            for (int i = 0; i < order.length; i++) {
+                keys[i] = keyByKeyword[order[i]];
+                keywordIdx[i] = order[i];
+            }
+
+            Map<String, int[]> precomputed = new HashMap<>();
+            precomputeHeavyPrefixes(keys, keywordIdx, 0, keys.length, 1, precomputed);
+            return new PrefixIndex(keys, keywordIdx, precomputed);
+        }
+
+        // 구간이 SCAN_LIMIT보다 큰 접두어만 길이를 늘려 가며 상위 k개를 저장
+        private static void precomputeHeavyPrefixes(String[] keys, int[] keywordIdx, int from, int to, int length,
+                                                    Map<String, int[]> precomputed) {
+            int start = from;
+            while (start < to) {
+                if (keys[start].length() < length) {
+                    start++;
+                    continue;
+                }
+
+                String prefix = keys[start].substring(0, length);
+                int end = start + 1;
+                while (end < to && keys[end].startsWith(prefix)) {
+                    end++;
+                }
+
+                if (end - start > SCAN_LIMIT) {
+                    precomputed.put(prefix, scanTopK(keywordIdx, start, end));
+                    precomputeHeavyPrefixes(keys, keywordIdx, start, end, length + 1, precomputed);
+                }
+                start = end;
+            }
+        }
+
+        int[] topK(String prefix) {
+            int[] cached = precomputed.get(prefix);
+            if (cached != null) {
+                return cached;
+            }
+
+            int from = lowerBound(prefix);
+            int to = lowerBound(prefix + Character.MAX_VALUE);
+            return scanTopK(keywordIdx, from, to);
+        }
+
+        // 키워드 번호가 곧 순위이므로 구간에서 가장 작은 번호 k개를 고른다
+        private static int[] scanTopK(int[] keywordIdx, int from, int to) {
+            int[] sorted = Arrays.copyOfRange(keywordIdx, from, to);
+            Arrays.sort(sorted);
+            return Arrays.copyOf(sorted, Math.min(TOP_K, sorted.length));
+        }
+
+        private int lowerBound(String target) {
+            int lo = 0;
+            int hi = keys.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (keys[mid].compareTo(target) < 0) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+    }
+}
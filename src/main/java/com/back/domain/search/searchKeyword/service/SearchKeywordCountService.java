@@ -0,0 +1,123 @@
+package com.back.domain.search.searchKeyword.service;
+
+import com.back.domain.search.searchKeyword.repository.SearchKeywordJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 검색어 카운트
+// - 최근 검색량: 시간별 ZSET에 ZINCRBY (SearchKeywordTrendingService가 감쇠 가중 합산으로 인기 검색어 계산)
+// - 누적 검색량: 증가분을 메모리에 모았다가 주기적으로 search_keyword에 batch upsert (검색마다 DB 쓰기 없음)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchKeywordCountService {
+
+    private static final long FLUSH_INTERVAL_MS = 10_000;
+    private static final int MAX_KEYWORD_LENGTH = 100;
+    private static final String HOURLY_KEY_PREFIX = "search:keyword:hourly:";
+    private static final DateTimeFormatter HOUR_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+
+    static final int WINDOW_HOURS = 7 * 24;
+    private static final Duration HOURLY_KEY_TTL = Duration.ofHours(WINDOW_HOURS + 1);
+
+    // 버킷에 처음 쓸 때 만료를 같이 건다 (flush에서 현재 시각 키에만 걸면 정각 직전 검색이 들어간 버킷이 만료 없이 남는다)
+    private static final RedisScript<Long> INCREMENT_HOURLY_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('ZINCRBY', KEYS[1], 1, ARGV[1])
+            if redis.call('TTL', KEYS[1]) < 0 then
+                redis.call('EXPIRE', KEYS[1], ARGV[2])
+            end
+            return 1
+            """, Long.class);
+
+    private final SearchKeywordJdbcRepository searchKeywordJdbcRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // merge/remove는 키 단위로 원자적이라 drain과 겹친 증가분도 꺼낸 값에 포함되거나 새 항목으로 다시 쌓인다
+    private final ConcurrentHashMap<String, Long> pending = new ConcurrentHashMap<>();
+
+    public void record(String keyword) {
+        String normalized = normalize(keyword);
+        if (normalized == null) {
+            return;
+        }
+
+        pending.merge(normalized, 1L, Long::sum);
+
+        try {
+            stringRedisTemplate.execute(INCREMENT_HOURLY_SCRIPT, List.of(hourlyKey(LocalDateTime.now())),
+                    normalized, String.valueOf(HOURLY_KEY_TTL.toSeconds()));
+        } catch (Exception e) {
+            // 인기 검색어 집계 실패로 검색이 실패하면 안 된다
+            log.warn("[SearchKeywordCount] 시간별 검색어 집계 실패: {}", normalized, e);
+        }
+    }
+
+    @Scheduled(fixedDelay = FLUSH_INTERVAL_MS)
+    public synchronized void flush() {
+        Map<String, Long> deltas = drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            searchKeywordJdbcRepository.addSearchCounts(deltas);
+        } catch (Exception e) {
+            log.error("[SearchKeywordCount] 검색어 카운트 DB 반영 실패 - 다음 주기에 재시도 ({}건)", deltas.size(), e);
+            deltas.forEach((keyword, delta) -> pending.merge(keyword, delta, Long::sum));
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 항목을 통째로 꺼내므로 맵은 다음 주기까지 검색된 키워드만 남는다
+    private Map<String, Long> drain() {
+        Map<String, Long> deltas = new HashMap<>();
+
+        for (String keyword : pending.keySet()) {
+            Long delta = pending.remove(keyword);
+            if (delta != null && delta > 0) {
+                deltas.put(keyword, delta);
+            }
+        }
+
+        return deltas;
+    }
+
+    // 아직 DB에 반영되지 않은 증가분
+    long getPendingCount(String keyword) {
+        return pending.getOrDefault(keyword, 0L);
+    }
+
+    private String normalize(String keyword) {
+        if (keyword == null) {
+            return null;
+        }
+        String trimmed = keyword.trim();
+        if (trimmed.isEmpty() || trimmed.length() > MAX_KEYWORD_LENGTH) {
+            return null;
+        }
+        return trimmed;
+    }
+
+    // 시간 단위 버킷 (TTL로 윈도우 밖 버킷은 자동 삭제되는 링 버퍼)
+    static String hourlyKey(LocalDateTime time) {
+        return HOURLY_KEY_PREFIX + time.format(HOUR_FORMAT);
+    }
+}
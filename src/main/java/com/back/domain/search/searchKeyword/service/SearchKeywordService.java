@@ -1,51 +1,41 @@
 package com.back.domain.search.searchKeyword.service;
 
 import com.back.domain.search.searchKeyword.dto.SearchKeywordResponseDto;
-import com.back.domain.search.searchKeyword.entity.SearchKeyword;
 import com.back.domain.search.searchKeyword.repository.SearchKeywordRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class SearchKeywordService {
     private final SearchKeywordRepository searchKeywordRepository;
+    private final SearchKeywordAutocompleteService searchKeywordAutocompleteService;
+    private final SearchKeywordCountService searchKeywordCountService;
+    private final SearchKeywordTrendingService searchKeywordTrendingService;
 
+    // 최근 검색량 기준 (1분마다 미리 계산된 감쇠 합산 목록), 집계가 비어 있으면 누적 검색량 상위
     @Transactional(readOnly = true)
     public List<SearchKeywordResponseDto> getTop10TrendingKeywords() {
-        LocalDateTime from = LocalDateTime.now().minusDays(14);
-        List<SearchKeyword> trendingKeywords = searchKeywordRepository.findTop10ByModifiedAtGreaterThanEqualOrderBySearchCountDesc(from);
-
-        if (trendingKeywords.isEmpty()) {
-            trendingKeywords =
-                    searchKeywordRepository.findTop10ByOrderBySearchCountDesc();
+        List<SearchKeywordResponseDto> trending = searchKeywordTrendingService.getTopKeywords();
+        if (!trending.isEmpty()) {
+            return trending;
         }
 
-        return trendingKeywords.stream()
+        return searchKeywordRepository.findTop10ByOrderBySearchCountDesc().stream()
                 .map(SearchKeywordResponseDto::new)
                 .toList();
     }
 
-    @Transactional(readOnly = true)
+    // 입력 중인 검색어 자동완성 (접두어/자모/초성, 힙 내 인덱스에서 바로 응답)
     public List<SearchKeywordResponseDto> getRecommendedKeywords(String keyword) {
-        List<SearchKeyword> recommendedKeywords = searchKeywordRepository.findTop10ByKeywordContainingIgnoreCaseOrderBySearchCountDesc(keyword);
-
-        return recommendedKeywords.stream()
-                .map(SearchKeywordResponseDto::new)
-                .toList();
+        return searchKeywordAutocompleteService.autocomplete(keyword);
     }
 
-    @Transactional
     public void incrementSearchCount(String keyword) {
-        SearchKeyword searchKeyword = searchKeywordRepository.findByKeyword(keyword)
-                .orElseGet(() -> new SearchKeyword(keyword, 1L));
-
-        searchKeyword.incrementSearchCount();
-        searchKeywordRepository.save(searchKeyword);
+        searchKeywordCountService.record(keyword);
     }
 
 }
@@ -0,0 +1,88 @@
+package com.back.domain.search.searchKeyword.service;
+
+import com.back.domain.search.searchKeyword.dto.SearchKeywordResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+// 인기 검색어 (시간별 버킷 + 지수 감쇠)
+// 최근 7일 시간별 ZSET을 반감기 24시간 가중치로 합산해 상위 N개를 1분마다 미리 계산해 둔다.
+// 합산은 Redis 안에서 임시 키로 ZUNIONSTORE 하고 상위 N개만 읽어 온다 (전체 키워드를 JVM으로 가져오지 않음).
+// 누적 검색량이 아니라 최근 수요를 반영하고, 조회 API는 계산해 둔 목록을 그대로 돌려준다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchKeywordTrendingService {
+
+    private static final double HALF_LIFE_HOURS = 24.0;
+    private static final int TOP_N = 10;
+    private static final String UNION_KEY_PREFIX = "search:keyword:trending:tmp:";
+    private static final Duration UNION_KEY_TTL = Duration.ofMinutes(1);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private volatile List<SearchKeywordResponseDto> topKeywords = List.of();
+
+    public List<SearchKeywordResponseDto> getTopKeywords() {
+        return topKeywords;
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void refresh() {
+        LocalDateTime now = LocalDateTime.now();
+
+        String currentKey = SearchKeywordCountService.hourlyKey(now);
+        List<String> olderKeys = new ArrayList<>(SearchKeywordCountService.WINDOW_HOURS - 1);
+        double[] weights = new double[SearchKeywordCountService.WINDOW_HOURS];
+        weights[0] = 1.0;
+        for (int age = 1; age < SearchKeywordCountService.WINDOW_HOURS; age++) {
+            olderKeys.add(SearchKeywordCountService.hourlyKey(now.minusHours(age)));
+            weights[age] = Math.pow(0.5, age / HALF_LIFE_HOURS);
+        }
+
+        // 인스턴스마다 다른 임시 키 (다른 인스턴스가 지운 키를 읽지 않도록)
+        String unionKey = UNION_KEY_PREFIX + UUID.randomUUID();
+        ZSetOperations<String, String> zSet = stringRedisTemplate.opsForZSet();
+
+        try {
+            zSet.unionAndStore(currentKey, olderKeys, unionKey, Aggregate.SUM, Weights.of(weights));
+            // 삭제 전에 죽어도 남지 않도록
+            stringRedisTemplate.expire(unionKey, UNION_KEY_TTL);
+
+            Set<ZSetOperations.TypedTuple<String>> tuples = zSet.reverseRangeWithScores(unionKey, 0, TOP_N - 1);
+            if (tuples == null) {
+                return;
+            }
+
+            topKeywords = tuples.stream()
+                    .filter(t -> t.getValue() != null && t.getScore() != null)
+                    .map(t -> new SearchKeywordResponseDto(t.getValue(), Math.round(t.getScore())))
+                    .toList();
+        } catch (Exception e) {
+            // 실패하면 이전 목록을 유지
+            log.error("[SearchKeywordTrending] 인기 검색어 계산 실패", e);
+        } finally {
+            deleteQuietly(unionKey);
+        }
+    }
+
+    private void deleteQuietly(String key) {
+        try {
+            stringRedisTemplate.delete(key);
+        } catch (Exception e) {
+            log.warn("[SearchKeywordTrending] 임시 키 삭제 실패 ({}) - TTL로 정리됨", key, e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.back.domain.shared.countersync.dto;
+
+import java.time.LocalDateTime;
+
+// 검색 문서에 반영할 카운터 현재값 (블로그는 commentCount, 숏로그는 bookmarkCount 미사용)
+// createdAt은 숏로그 트렌딩 점수의 시간 감쇠 계산용
+public record ContentCounterSnapshot(
+        Long contentId,
+        long viewCount,
+        long likeCount,
+        long commentCount,
+        long bookmarkCount,
+        LocalDateTime createdAt
+) {
+}
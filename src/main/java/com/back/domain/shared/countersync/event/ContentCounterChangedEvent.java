@@ -0,0 +1,7 @@
+package com.back.domain.shared.countersync.event;
+
+import com.back.domain.main.entity.ContentType;
+
+// 좋아요/북마크/댓글 등 카운터만 바뀐 경우 발행 (문서 전체 재색인 대신 카운터 동기화 대상으로 표시)
+public record ContentCounterChangedEvent(ContentType contentType, Long contentId) {
+}
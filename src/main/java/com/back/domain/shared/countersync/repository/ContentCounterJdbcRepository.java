@@ -0,0 +1,126 @@
+package com.back.domain.shared.countersync.repository;
+
+import com.back.domain.main.entity.ContentType;
+import com.back.domain.shared.countersync.dto.ContentCounterSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class ContentCounterJdbcRepository {
+
+    // 좋아요 수는 카운터 컬럼, 댓글 수는 id 목록 단위로 한 번에 그룹 집계
+    private static final String SHORLOG_COUNTERS_SQL = """
+            SELECT s.id, s.view_count,
+                   s.like_count,
+                   COALESCE(c.cnt, 0) AS comment_count,
+                   0 AS bookmark_count,
+                   s.created_at
+            FROM shorlog s
+            LEFT JOIN (
+                SELECT target_id, COUNT(*) AS cnt
+                FROM comments
+                WHERE target_type = 'SHORLOG' AND target_id IN (:ids)
+                GROUP BY target_id
+            ) c ON c.target_id = s.id
+            WHERE s.id IN (:ids)
+            """;
+
+    // 블로그는 카운터 컬럼을 직접 관리하므로 그대로 읽는다
+    private static final String BLOG_COUNTERS_SQL = """
+            SELECT b.id, b.view_count, b.like_count, 0 AS comment_count, b.bookmark_count, b.created_at
+            FROM blogs b
+            WHERE b.id IN (:ids)
+            """;
+
+    private static final RowMapper<ContentCounterSnapshot> ROW_MAPPER = (rs, rowNum) -> new ContentCounterSnapshot(
+            rs.getLong(1),
+            rs.getLong(2),
+            rs.getLong(3),
+            rs.getLong(4),
+            rs.getLong(5),
+            rs.getTimestamp(6) == null ? null : rs.getTimestamp(6).toLocalDateTime()
+    );
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public List<ContentCounterSnapshot> findCounters(ContentType contentType, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        String sql = switch (contentType) {
+            case SHORLOG -> SHORLOG_COUNTERS_SQL;
+            case BLOG -> BLOG_COUNTERS_SQL;
+        };
+
+        return namedParameterJdbcTemplate.query(sql, new MapSqlParameterSource("ids", ids), ROW_MAPPER);
+    }
+
+    // 트렌딩 점수 재계산 대상 id (키셋 페이징, createdSince가 null이면 전체)
+    // 블로그는 색인되는 공개 글만 대상
+    public List<Long> findIdsAfter(ContentType contentType, LocalDateTime createdSince, long lastId, int limit) {
+        String table = switch (contentType) {
+            case SHORLOG -> "shorlog";
+            case BLOG -> "blogs";
+        };
+
+        StringBuilder sql = new StringBuilder("SELECT id FROM ").append(table).append(" WHERE id > :lastId");
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("lastId", lastId)
+                .addValue("limit", limit);
+
+        if (contentType == ContentType.BLOG) {
+            sql.append(" AND status = 'PUBLISHED'");
+        }
+        if (createdSince != null) {
+            sql.append(" AND created_at >= :createdSince");
+            params.addValue("createdSince", Timestamp.valueOf(createdSince));
+        }
+        sql.append(" ORDER BY id LIMIT :limit");
+
+        return namedParameterJdbcTemplate.queryForList(sql.toString(), params, Long.class);
+    }
+
+    // 좋아요 수 보정 (id 구간 단위, 좋아요 행 수와 다른 행만 갱신)
+    // 구간마다 짧은 문장으로 끝나므로 잠금이 길게 잡히지 않고, 행 단위로 계산하므로 보정 중 들어온 좋아요도
+    // 해당 행의 잠금을 기다렸다가 커밋된 좋아요 행 수로 맞춰진다 (테이블 전체 GROUP BY 결과로 덮어쓰지 않음)
+    public int reconcileLikeCounts(ContentType contentType, long fromIdExclusive, long toIdInclusive) {
+        String sql = switch (contentType) {
+            case SHORLOG -> """
+                    UPDATE shorlog s
+                    SET like_count = (SELECT COUNT(*) FROM shorlog_like l WHERE l.shorlog_id = s.id)
+                    WHERE s.id > :fromId AND s.id <= :toId
+                      AND s.like_count <> (SELECT COUNT(*) FROM shorlog_like l WHERE l.shorlog_id = s.id)
+                    """;
+            case BLOG -> """
+                    UPDATE blogs b
+                    SET like_count = (SELECT COUNT(*) FROM blog_like l WHERE l.blog_id = b.id)
+                    WHERE b.id > :fromId AND b.id <= :toId
+                      AND b.like_count <> (SELECT COUNT(*) FROM blog_like l WHERE l.blog_id = b.id)
+                    """;
+        };
+
+        return namedParameterJdbcTemplate.update(sql, new MapSqlParameterSource()
+                .addValue("fromId", fromIdExclusive)
+                .addValue("toId", toIdInclusive));
+    }
+
+    public long findMaxId(ContentType contentType) {
+        String sql = switch (contentType) {
+            case SHORLOG -> "SELECT COALESCE(MAX(id), 0) FROM shorlog";
+            case BLOG -> "SELECT COALESCE(MAX(id), 0) FROM blogs";
+        };
+
+        Long maxId = namedParameterJdbcTemplate.getJdbcTemplate().queryForObject(sql, Long.class);
+        return maxId == null ? 0 : maxId;
+    }
+}
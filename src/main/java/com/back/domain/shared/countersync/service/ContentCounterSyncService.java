@@ -0,0 +1,115 @@
+package com.back.domain.shared.countersync.service;
+
+import com.back.domain.blog.blogdoc.service.BlogDocIndexer;
+import com.back.domain.main.entity.ContentType;
+import com.back.domain.recommend.search.type.PostType;
+import com.back.domain.shared.countersync.dto.ContentCounterSnapshot;
+import com.back.domain.shared.countersync.event.ContentCounterChangedEvent;
+import com.back.domain.shared.countersync.repository.ContentCounterJdbcRepository;
+import com.back.domain.shared.searchindex.service.SearchIndexChangeTracker;
+import com.back.domain.shorlog.shorlogdoc.service.ShorlogDocService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// ES 카운터(조회/좋아요/댓글/북마크/인기점수) 동기화
+// 변경된 id만 dirty로 모아 두었다가 주기마다 DB 현재값을 읽어 _bulk 부분 업데이트 한다.
+// 한 주기 안에 같은 글에 반응이 몰려도 ES 쓰기는 글당 1번이고, 절대값을 쓰므로 중복 반영돼도 결과가 같다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ContentCounterSyncService {
+
+    private static final long FLUSH_INTERVAL_MS = 2_000;
+    private static final int CHUNK_SIZE = 500;
+
+    private final ContentCounterJdbcRepository contentCounterJdbcRepository;
+    private final ShorlogDocService shorlogDocService;
+    private final BlogDocIndexer blogDocIndexer;
+    private final SearchIndexChangeTracker changeTracker;
+
+    private final Map<ContentType, Set<Long>> dirtyIds = initDirtyIds();
+
+    public void markDirty(ContentType contentType, Long contentId) {
+        dirtyIds.get(contentType).add(contentId);
+    }
+
+    public void markDirty(ContentType contentType, Iterable<Long> contentIds) {
+        Set<Long> dirty = dirtyIds.get(contentType);
+        contentIds.forEach(dirty::add);
+    }
+
+    // 커밋된 변경만 반영 (트랜잭션 밖에서 발행된 경우 바로 표시)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCounterChanged(ContentCounterChangedEvent event) {
+        markDirty(event.contentType(), event.contentId());
+    }
+
+    @Scheduled(fixedDelay = FLUSH_INTERVAL_MS)
+    public synchronized void flush() {
+        for (ContentType contentType : ContentType.values()) {
+            List<Long> ids = drain(dirtyIds.get(contentType));
+
+            for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+                List<Long> chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+                sync(contentType, chunk);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void sync(ContentType contentType, List<Long> ids) {
+        try {
+            // 전체 재색인 중이면 새 인덱스에도 반영되도록 기록
+            changeTracker.record(PostType.valueOf(contentType.name()), ids);
+
+            List<ContentCounterSnapshot> counters = contentCounterJdbcRepository.findCounters(contentType, ids);
+
+            switch (contentType) {
+                case SHORLOG -> shorlogDocService.bulkUpdateCounters(counters);
+                case BLOG -> blogDocIndexer.bulkUpdateCounters(counters);
+            }
+        } catch (Exception e) {
+            log.warn("[CounterSync] {} 카운터 동기화 실패 - 다음 주기에 재시도 ({}건): {}",
+                    contentType, ids.size(), e.getMessage());
+            markDirty(contentType, ids);
+        }
+    }
+
+    private List<Long> drain(Set<Long> dirty) {
+        List<Long> ids = new ArrayList<>();
+
+        // 제거 후 다시 들어온 id는 다음 주기에 처리된다
+        Iterator<Long> it = dirty.iterator();
+        while (it.hasNext()) {
+            ids.add(it.next());
+            it.remove();
+        }
+
+        return ids;
+    }
+
+    private static Map<ContentType, Set<Long>> initDirtyIds() {
+        Map<ContentType, Set<Long>> map = new EnumMap<>(ContentType.class);
+        for (ContentType contentType : ContentType.values()) {
+            map.put(contentType, ConcurrentHashMap.newKeySet());
+        }
+        return map;
+    }
+}
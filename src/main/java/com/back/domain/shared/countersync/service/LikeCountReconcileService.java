@@ -0,0 +1,98 @@
+package com.back.domain.shared.countersync.service;
+
+import com.back.domain.main.entity.ContentType;
+import com.back.domain.shared.countersync.repository.ContentCounterJdbcRepository;
+import com.back.global.lock.RedisJobLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+// 좋아요 카운터 컬럼(shorlog.like_count, blogs.like_count) 보정
+// 좋아요/취소는 원자적 +1/-1 만 하므로, 좋아요 행이 다른 경로(회원 탈퇴 등)로 지워지면 어긋날 수 있다.
+// - 최초 1회: 새로 추가된 컬럼 백필 (Redis 표시로 인스턴스/재시작과 무관하게 한 번만, 기동 경로 밖에서 실행)
+// - 야간: 트렌딩 전체 갱신(05:00) 전에 보정해서 ES에도 같이 반영되게 한다
+// 보정은 id 구간 단위로 나눠 실행한다 (테이블 전체를 한 문장으로 잠그지 않도록)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LikeCountReconcileService {
+
+    private static final long CHUNK_SIZE = 1_000;
+    private static final String BACKFILL_MARKER_KEY = "like-count:backfilled";
+    private static final String RECONCILE_JOB = "like-count:reconcile";
+    private static final Duration RECONCILE_LOCK_AT_MOST = Duration.ofHours(1);
+
+    private final ContentCounterJdbcRepository contentCounterJdbcRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisJobLock redisJobLock;
+
+    @Async("maintenanceExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfNeeded() {
+        if (isBackfilled()) {
+            return;
+        }
+
+        redisJobLock.runExclusively(RECONCILE_JOB, RECONCILE_LOCK_AT_MOST, () -> {
+            // 잠금을 기다리는 사이 다른 인스턴스가 끝냈을 수 있다
+            if (isBackfilled()) {
+                return;
+            }
+            if (reconcileAll()) {
+                stringRedisTemplate.opsForValue().set(BACKFILL_MARKER_KEY, LocalDateTime.now().toString());
+            }
+        });
+    }
+
+    @Scheduled(cron = "0 45 4 * * *")
+    public void reconcile() {
+        redisJobLock.runExclusively(RECONCILE_JOB, RECONCILE_LOCK_AT_MOST, Duration.ofMinutes(1), this::reconcileAll);
+    }
+
+    // 모든 구간이 성공했을 때만 true
+    boolean reconcileAll() {
+        boolean allSucceeded = true;
+        for (ContentType contentType : ContentType.values()) {
+            allSucceeded &= reconcile(contentType);
+        }
+        return allSucceeded;
+    }
+
+    private boolean reconcile(ContentType contentType) {
+        long maxId;
+        try {
+            maxId = contentCounterJdbcRepository.findMaxId(contentType);
+        } catch (Exception e) {
+            log.error("[LikeCountReconcile] {} 좋아요 수 보정 실패", contentType, e);
+            return false;
+        }
+
+        boolean allSucceeded = true;
+        int corrected = 0;
+        for (long from = 0; from < maxId; from += CHUNK_SIZE) {
+            long to = Math.min(from + CHUNK_SIZE, maxId);
+            try {
+                corrected += contentCounterJdbcRepository.reconcileLikeCounts(contentType, from, to);
+            } catch (Exception e) {
+                // 실패한 구간은 다음 주기에 다시 보정됨
+                log.error("[LikeCountReconcile] {} 좋아요 수 보정 실패 (id {} ~ {})", contentType, from + 1, to, e);
+                allSucceeded = false;
+            }
+        }
+
+        log.info("[LikeCountReconcile] {} 좋아요 수 보정 {}건", contentType, corrected);
+        return allSucceeded;
+    }
+
+    private boolean isBackfilled() {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(BACKFILL_MARKER_KEY));
+    }
+}
@@ -8,6 +8,7 @@ import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -17,6 +18,7 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Table(name = "hashtags")
+@BatchSize(size = 50) // 참조(프록시)로 넘겨진 해시태그의 이름을 읽을 때 한 번의 IN 조회로 초기화
 public class Hashtag extends BaseEntity {
     @OneToMany(mappedBy = "hashtag", orphanRemoval = true, cascade = CascadeType.ALL)
     private final List<BlogHashtag> blogHashtag = new ArrayList<>();
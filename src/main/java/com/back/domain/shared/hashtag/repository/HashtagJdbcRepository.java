@@ -0,0 +1,57 @@
+package com.back.domain.shared.hashtag.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class HashtagJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // name -> id (한 번의 IN 조회)
+    public Map<String, Long> findIdsByNames(Collection<String> names) {
+        return findIds(names, false);
+    }
+
+    // INSERT IGNORE 직후 재조회용 잠금 읽기
+    // REPEATABLE READ 스냅샷에서는 다른 트랜잭션이 방금 커밋한 행이 안 보이므로 최신 커밋 값을 읽는다
+    public Map<String, Long> findIdsByNamesForShare(Collection<String> names) {
+        return findIds(names, true);
+    }
+
+    // name 유니크 키로 중복을 걸러 한 번의 multi-row INSERT (동시에 같은 태그를 만들어도 예외 없음)
+    public void insertIgnore(Collection<String> names) {
+        if (names.isEmpty()) {
+            return;
+        }
+
+        String values = String.join(", ", Collections.nCopies(names.size(), "(?, NOW(6), NOW(6))"));
+        jdbcTemplate.update(
+                "INSERT IGNORE INTO hashtags (name, created_at, modified_at) VALUES " + values,
+                names.toArray()
+        );
+    }
+
+    private Map<String, Long> findIds(Collection<String> names, boolean lockingRead) {
+        Map<String, Long> ids = new HashMap<>();
+        if (names.isEmpty()) {
+            return ids;
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(names.size(), "?"));
+        String sql = "SELECT id, name FROM hashtags WHERE name IN (" + placeholders + ")"
+                + (lockingRead ? " LOCK IN SHARE MODE" : "");
+
+        jdbcTemplate.query(sql, rs -> {
+            ids.put(rs.getString(2), rs.getLong(1));
+        }, names.toArray());
+        return ids;
+    }
+}
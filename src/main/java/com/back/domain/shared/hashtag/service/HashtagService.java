@@ -1,12 +1,19 @@
 package com.back.domain.shared.hashtag.service;
 
 import com.back.domain.shared.hashtag.entity.Hashtag;
+import com.back.domain.shared.hashtag.repository.HashtagJdbcRepository;
 import com.back.domain.shared.hashtag.repository.HashtagRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -14,27 +21,94 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 public class HashtagService {
 
+    private static final int ID_CACHE_SIZE = 10_000;
+    // hashtags.name 컬럼 길이와 같아야 한다 (넘으면 INSERT IGNORE가 경고만 남기고 잘라서 저장함)
+    private static final int MAX_NAME_LENGTH = 50;
+
     private final HashtagRepository hashtagRepository;
+    private final HashtagJdbcRepository hashtagJdbcRepository;
+
+    // 해시태그 name -> id LRU 캐시 (해시태그는 삭제되지 않으므로 무효화 불필요)
+    // 이미 커밋돼 있던 행만 담아서, 롤백된 INSERT의 id가 들어가는 일이 없게 한다
+    private final Map<String, Long> idCache = Collections.synchronizedMap(
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                    return size() > ID_CACHE_SIZE;
+                }
+            });
 
     @Transactional
     public Hashtag findOrCreate(String name) {
-        String cleanName = name.startsWith("#") ? name.substring(1) : name;
-        validateHashtagName(cleanName);
-
-        return hashtagRepository.findByName(cleanName)
-                .orElseGet(() -> {
-                    Hashtag newHashtag = new Hashtag(cleanName);
-                    return hashtagRepository.save(newHashtag);
-                });
+        return findOrCreateAll(List.of(name)).get(0);
     }
 
+    // 캐시 → IN 조회 1번 → 없는 것만 multi-row INSERT IGNORE 1번 → 재조회 1번
+    // 반환값은 id만 채워진 참조(프록시)라 연관관계 설정에는 추가 조회가 없다
     @Transactional
     public List<Hashtag> findOrCreateAll(List<String> names) {
-        return names.stream()
-                .map(this::findOrCreate)
+        if (names == null || names.isEmpty()) {
+            return List.of();
+        }
+
+        // 정제/검증 후 입력 순서대로 중복 제거 (DB 콜레이션처럼 대소문자 구분 없이)
+        Map<String, String> cleanNames = new LinkedHashMap<>();
+        for (String name : names) {
+            String cleanName = cleanName(name);
+            validateHashtagName(cleanName);
+            cleanNames.putIfAbsent(cacheKey(cleanName), cleanName);
+        }
+
+        Map<String, Long> ids = new HashMap<>();
+        List<String> uncached = new ArrayList<>();
+        cleanNames.forEach((key, cleanName) -> {
+            Long id = idCache.get(key);
+            if (id != null) {
+                ids.put(key, id);
+            } else {
+                uncached.add(cleanName);
+            }
+        });
+
+        if (!uncached.isEmpty()) {
+            Map<String, Long> found = byCacheKey(hashtagJdbcRepository.findIdsByNames(uncached));
+            found.forEach(idCache::put);
+            ids.putAll(found);
+
+            List<String> missing = uncached.stream()
+                    .filter(cleanName -> !found.containsKey(cacheKey(cleanName)))
+                    .toList();
+            if (!missing.isEmpty()) {
+                hashtagJdbcRepository.insertIgnore(missing);
+                ids.putAll(byCacheKey(hashtagJdbcRepository.findIdsByNamesForShare(missing)));
+            }
+        }
+
+        return cleanNames.keySet().stream()
+                .map(key -> {
+                    Long id = ids.get(key);
+                    if (id == null) {
+                        throw new IllegalStateException("해시태그를 생성하지 못했습니다: " + cleanNames.get(key));
+                    }
+                    return hashtagRepository.getReferenceById(id);
+                })
                 .toList();
     }
 
+    public static String cleanName(String name) {
+        return name.startsWith("#") ? name.substring(1) : name;
+    }
+
+    private static String cacheKey(String cleanName) {
+        return cleanName.toLowerCase(Locale.ROOT);
+    }
+
+    private static Map<String, Long> byCacheKey(Map<String, Long> idsByName) {
+        Map<String, Long> result = new HashMap<>();
+        idsByName.forEach((name, id) -> result.put(cacheKey(name), id));
+        return result;
+    }
+
     private void validateHashtagName(String name) {
         if (name == null || name.isBlank()) {
             throw new IllegalArgumentException("해시태그는 비어있을 수 없습니다.");
@@ -42,8 +116,8 @@ public class HashtagService {
         if (name.length() < 2) {
             throw new IllegalArgumentException("해시태그는 최소 2글자 이상이어야 합니다.");
         }
-        if (name.length() > 255) {
-            throw new IllegalArgumentException("해시태그는 최대 255자까지 가능합니다.");
+        if (name.length() > MAX_NAME_LENGTH) {
+            throw new IllegalArgumentException("해시태그는 최대 " + MAX_NAME_LENGTH + "자까지 가능합니다.");
         }
         if (!name.matches("^[가-힣a-zA-Z0-9]+$")) {
             throw new IllegalArgumentException("해시태그는 한글, 영문, 숫자만 사용 가능합니다.");
@@ -55,7 +129,6 @@ public class HashtagService {
     }
 
     public Optional<Hashtag> findByName(String name) {
-        String cleanName = name.startsWith("#") ? name.substring(1) : name;
-        return hashtagRepository.findByName(cleanName);
+        return hashtagRepository.findByName(cleanName(name));
     }
-}
\ No newline at end of file
+}
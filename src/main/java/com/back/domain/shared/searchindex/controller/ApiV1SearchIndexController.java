@@ -0,0 +1,51 @@
+package com.back.domain.shared.searchindex.controller;
+
+import com.back.domain.recommend.search.type.PostType;
+import com.back.domain.shared.searchindex.dto.SearchIndexRebuildStatusDto;
+import com.back.domain.shared.searchindex.exception.SearchIndexErrorCase;
+import com.back.domain.shared.searchindex.service.SearchIndexRebuildService;
+import com.back.domain.user.user.entity.UserRole;
+import com.back.global.config.security.SecurityUser;
+import com.back.global.exception.ServiceException;
+import com.back.global.rsData.RsData;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/admin/search-index")
+@RequiredArgsConstructor
+@Tag(name = "Search Index Admin API", description = "검색 인덱스 관리 API (관리자 전용)")
+public class ApiV1SearchIndexController {
+    private final SearchIndexRebuildService searchIndexRebuildService;
+
+    @PostMapping("/{type}/rebuild")
+    @Operation(summary = "검색 인덱스 전체 재색인", description = "새 인덱스에 MySQL 데이터를 전부 색인한 뒤 alias를 교체 (무중단)")
+    public RsData<SearchIndexRebuildStatusDto> rebuild(@AuthenticationPrincipal SecurityUser user,
+                                                       @PathVariable PostType type) {
+        checkAdmin(user);
+        SearchIndexRebuildStatusDto status = searchIndexRebuildService.requestRebuild(type);
+        return RsData.of("202", "재색인이 예약되었습니다.", status);
+    }
+
+    @GetMapping("/{type}/rebuild")
+    @Operation(summary = "검색 인덱스 재색인 진행 상태")
+    public RsData<SearchIndexRebuildStatusDto> getRebuildStatus(@AuthenticationPrincipal SecurityUser user,
+                                                                @PathVariable PostType type) {
+        checkAdmin(user);
+        SearchIndexRebuildStatusDto status = searchIndexRebuildService.getStatus(type);
+        return RsData.of("200", "재색인 상태 조회 성공", status);
+    }
+
+    private void checkAdmin(SecurityUser user) {
+        if (user == null || user.getRole() != UserRole.ADMIN) {
+            throw new ServiceException(SearchIndexErrorCase.FORBIDDEN);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.back.domain.shared.searchindex.dto;
+
+import com.back.domain.recommend.search.type.PostType;
+
+public record SearchIndexOutboxRow(Long id, PostType docType, Long docId, int attempts) {
+}
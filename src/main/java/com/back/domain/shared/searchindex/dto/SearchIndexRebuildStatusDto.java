@@ -0,0 +1,40 @@
+package com.back.domain.shared.searchindex.dto;
+
+import com.back.domain.recommend.search.type.PostType;
+
+import java.time.LocalDateTime;
+
+// 전체 재색인 진행 상태
+public record SearchIndexRebuildStatusDto(
+        PostType type,
+        State state,
+        String targetIndex,
+        long indexedCount,
+        String lastError,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt
+) {
+    public enum State {
+        PENDING, RUNNING, DONE, FAILED
+    }
+
+    public static SearchIndexRebuildStatusDto pending(PostType type) {
+        return new SearchIndexRebuildStatusDto(type, State.PENDING, null, 0, null, null, null);
+    }
+
+    public SearchIndexRebuildStatusDto running(String targetIndex, long indexedCount, LocalDateTime startedAt) {
+        return new SearchIndexRebuildStatusDto(type, State.RUNNING, targetIndex, indexedCount, null, startedAt, null);
+    }
+
+    public SearchIndexRebuildStatusDto done() {
+        return new SearchIndexRebuildStatusDto(type, State.DONE, targetIndex, indexedCount, null, startedAt, LocalDateTime.now());
+    }
+
+    public SearchIndexRebuildStatusDto failed(String error) {
+        return new SearchIndexRebuildStatusDto(type, State.FAILED, targetIndex, indexedCount, error, startedAt, LocalDateTime.now());
+    }
+
+    public boolean isInProgress() {
+        return state == State.PENDING || state == State.RUNNING;
+    }
+}
@@ -0,0 +1,43 @@
+package com.back.domain.shared.searchindex.entity;
+
+import com.back.domain.recommend.search.type.PostType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 검색 인덱스 반영 대기열 (transactional outbox)
+// 원본 변경과 같은 트랜잭션에서 기록되고, SearchIndexOutboxRelay가 모아서 ES에 반영한 뒤 삭제한다.
+// 쓰기는 SearchIndexOutboxJdbcRepository로만 하고, 엔티티는 테이블 스키마 관리용이다.
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "search_index_outbox",
+        indexes = {
+                @Index(name = "idx_search_index_outbox_next_attempt", columnList = "next_attempt_at, id")
+        }
+)
+public class SearchIndexOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "doc_type", nullable = false, length = 20)
+    private PostType docType;
+
+    @Column(name = "doc_id", nullable = false)
+    private Long docId;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
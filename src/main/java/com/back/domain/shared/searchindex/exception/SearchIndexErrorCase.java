@@ -0,0 +1,18 @@
+package com.back.domain.shared.searchindex.exception;
+
+import com.back.global.exception.ErrorCase;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+@Getter
+@RequiredArgsConstructor
+public enum SearchIndexErrorCase implements ErrorCase {
+
+    FORBIDDEN(HttpStatus.FORBIDDEN, 1, "관리자만 사용할 수 있습니다."),
+    REBUILD_ALREADY_RUNNING(HttpStatus.CONFLICT, 2, "이미 재색인이 진행 중입니다.");
+
+    private final HttpStatus httpStatus;
+    private final int code;
+    private final String message;
+}
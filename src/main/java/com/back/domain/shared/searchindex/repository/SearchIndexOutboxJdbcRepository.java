@@ -0,0 +1,84 @@
+package com.back.domain.shared.searchindex.repository;
+
+import com.back.domain.recommend.search.type.PostType;
+import com.back.domain.shared.searchindex.dto.SearchIndexOutboxRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class SearchIndexOutboxJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    // 호출한 쪽의 트랜잭션에 참여한다 (원본 변경과 함께 커밋/롤백)
+    public void enqueue(PostType docType, Long docId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("""
+                INSERT INTO search_index_outbox (doc_type, doc_id, attempts, next_attempt_at, created_at)
+                VALUES (?, ?, 0, ?, ?)
+                """, docType.name(), docId, now, now);
+    }
+
+    // 처리할 행을 가져가면서 next_attempt_at을 leaseUntil로 미뤄 다른 인스턴스가 같은 행을 집지 않게 한다
+    // - SKIP LOCKED: 다른 인스턴스가 선점 중인 행은 기다리지 않고 건너뜀
+    // - 처리 도중 인스턴스가 죽으면 leaseUntil 이후 다시 대상이 된다
+    @Transactional
+    public List<SearchIndexOutboxRow> claimReady(LocalDateTime now, LocalDateTime leaseUntil, int limit) {
+        List<SearchIndexOutboxRow> rows = jdbcTemplate.query("""
+                        SELECT id, doc_type, doc_id, attempts
+                        FROM search_index_outbox
+                        WHERE next_attempt_at <= ?
+                        ORDER BY id
+                        LIMIT ?
+                        FOR UPDATE SKIP LOCKED
+                        """,
+                (rs, rowNum) -> new SearchIndexOutboxRow(
+                        rs.getLong("id"),
+                        PostType.valueOf(rs.getString("doc_type")),
+                        rs.getLong("doc_id"),
+                        rs.getInt("attempts")
+                ),
+                Timestamp.valueOf(now), limit);
+
+        if (!rows.isEmpty()) {
+            namedParameterJdbcTemplate.update(
+                    "UPDATE search_index_outbox SET next_attempt_at = :leaseUntil WHERE id IN (:ids)",
+                    new MapSqlParameterSource("ids", rows.stream().map(SearchIndexOutboxRow::id).toList())
+                            .addValue("leaseUntil", Timestamp.valueOf(leaseUntil)));
+        }
+        return rows;
+    }
+
+    public void deleteByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        namedParameterJdbcTemplate.update(
+                "DELETE FROM search_index_outbox WHERE id IN (:ids)",
+                new MapSqlParameterSource("ids", ids));
+    }
+
+    public void markRetry(Collection<Long> ids, LocalDateTime nextAttemptAt) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        namedParameterJdbcTemplate.update("""
+                        UPDATE search_index_outbox
+                        SET attempts = attempts + 1, next_attempt_at = :nextAttemptAt
+                        WHERE id IN (:ids)
+                        """,
+                new MapSqlParameterSource("ids", ids)
+                        .addValue("nextAttemptAt", Timestamp.valueOf(nextAttemptAt)));
+    }
+}
@@ -0,0 +1,87 @@
+package com.back.domain.shared.searchindex.service;
+
+import com.back.domain.recommend.search.type.PostType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.StreamSupport;
+
+// 전체 재색인 중에 발생한 증분 색인 대상 id 기록
+// 재색인 도중의 변경은 alias가 가리키는 기존 인덱스에만 반영되므로, alias 교체 후 새 인덱스에 다시 반영한다.
+// 증분 반영(outbox relay, 카운터 동기화)은 모든 인스턴스에서 일어나므로 기록은 Redis SET에 모은다.
+// 재색인 중 표시 키가 있을 때만 기록하고, 재색인하던 인스턴스가 죽어도 TTL이 지나면 기록이 멈춘다.
+@Component
+@RequiredArgsConstructor
+public class SearchIndexChangeTracker {
+
+    private static final String ACTIVE_KEY_PREFIX = "search-index:rebuild:active:";
+    private static final String CHANGED_KEY_PREFIX = "search-index:rebuild:changed:";
+    private static final Duration TRACKING_TTL = Duration.ofHours(6);
+    private static final int DRAIN_CHUNK_SIZE = 1_000;
+
+    // 재색인 중일 때만 SADD (재색인 여부 확인과 기록을 한 번의 왕복으로)
+    private static final RedisScript<Long> RECORD_IF_ACTIVE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            local added = redis.call('SADD', KEYS[2], unpack(ARGV, 2))
+            redis.call('EXPIRE', KEYS[2], ARGV[1])
+            return added
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public void start(PostType type) {
+        stringRedisTemplate.delete(changedKey(type));
+        stringRedisTemplate.opsForValue().set(activeKey(type), "1", TRACKING_TTL);
+    }
+
+    public void stop(PostType type) {
+        stringRedisTemplate.delete(List.of(activeKey(type), changedKey(type)));
+    }
+
+    public void record(PostType type, Long id) {
+        record(type, List.of(id));
+    }
+
+    public void record(PostType type, Iterable<Long> ids) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(TRACKING_TTL.toSeconds()));
+        StreamSupport.stream(ids.spliterator(), false).map(String::valueOf).forEach(args::add);
+        if (args.size() == 1) {
+            return;
+        }
+
+        stringRedisTemplate.execute(RECORD_IF_ACTIVE_SCRIPT, List.of(activeKey(type), changedKey(type)), args.toArray());
+    }
+
+    // 지금까지 기록된 id를 꺼낸다 (꺼내는 중에 들어온 id도 비워질 때까지 함께 꺼냄)
+    public Set<Long> drain(PostType type) {
+        Set<Long> drained = new LinkedHashSet<>();
+        List<String> chunk;
+        do {
+            chunk = stringRedisTemplate.opsForSet().pop(changedKey(type), DRAIN_CHUNK_SIZE);
+            if (chunk == null) {
+                break;
+            }
+            chunk.forEach(id -> drained.add(Long.parseLong(id)));
+        } while (chunk.size() == DRAIN_CHUNK_SIZE);
+        return drained;
+    }
+
+    private static String activeKey(PostType type) {
+        return ACTIVE_KEY_PREFIX + type.name();
+    }
+
+    private static String changedKey(PostType type) {
+        return CHANGED_KEY_PREFIX + type.name();
+    }
+}
@@ -0,0 +1,80 @@
+package com.back.domain.shared.searchindex.service;
+
+import com.back.domain.blog.blog.entity.BlogStatus;
+import com.back.domain.blog.blog.repository.BlogRepository;
+import com.back.domain.blog.blogdoc.document.BlogDoc;
+import com.back.domain.blog.blogdoc.repository.BlogDocRepository;
+import com.back.domain.recommend.search.type.PostType;
+import com.back.domain.shorlog.shorlog.repository.ShorlogRepository;
+import com.back.domain.shorlog.shorlogdoc.document.ShorlogDoc;
+import com.back.domain.shorlog.shorlogdoc.repository.ShorlogDocRepository;
+import com.back.domain.shorlog.shorlogdoc.service.ShorlogDocService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// id 목록의 검색 문서를 현재 DB 상태로 맞춘다 (존재/공개 글은 색인, 없거나 비공개면 삭제)
+// 항상 현재 상태를 다시 읽어 쓰므로 같은 id를 여러 번 처리해도 결과가 같다.
+@Service
+@RequiredArgsConstructor
+public class SearchIndexDocSyncService {
+
+    private final ShorlogRepository shorlogRepository;
+    private final BlogRepository blogRepository;
+    private final ShorlogDocService shorlogDocService;
+    private final ShorlogDocRepository shorlogDocRepository;
+    private final BlogDocRepository blogDocRepository;
+
+    public void syncByIds(PostType type, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        switch (type) {
+            case SHORLOG -> syncShorlogs(ids);
+            case BLOG -> syncBlogs(ids);
+        }
+    }
+
+    private void syncShorlogs(Collection<Long> ids) {
+        List<ShorlogDoc> docs = shorlogDocService.buildDocs(shorlogRepository.findAllWithUserByIdIn(ids));
+        if (!docs.isEmpty()) {
+            shorlogDocRepository.saveAll(docs);
+        }
+
+        Set<Long> existing = docs.stream()
+                .map(doc -> Long.valueOf(doc.getId()))
+                .collect(Collectors.toSet());
+        List<String> removed = ids.stream()
+                .filter(id -> !existing.contains(id))
+                .map(String::valueOf)
+                .toList();
+        if (!removed.isEmpty()) {
+            shorlogDocRepository.deleteAllById(removed);
+        }
+    }
+
+    private void syncBlogs(Collection<Long> ids) {
+        List<BlogDoc> docs = blogRepository.findAllForIndexingByIds(ids).stream()
+                .filter(blog -> blog.getStatus() == BlogStatus.PUBLISHED)
+                .map(BlogDoc::from)
+                .toList();
+        if (!docs.isEmpty()) {
+            blogDocRepository.saveAll(docs);
+        }
+
+        Set<Long> published = docs.stream()
+                .map(BlogDoc::getId)
+                .collect(Collectors.toSet());
+        List<Long> removed = ids.stream()
+                .filter(id -> !published.contains(id))
+                .toList();
+        if (!removed.isEmpty()) {
+            blogDocRepository.deleteAllById(removed);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.back.domain.shared.searchindex.service;
+
+import com.back.domain.recommend.search.type.PostType;
+import com.back.domain.shared.searchindex.dto.SearchIndexOutboxRow;
+import com.back.domain.shared.searchindex.repository.SearchIndexOutboxJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// search_index_outbox를 주기적으로 읽어 ES에 반영
+// - 같은 문서에 대한 여러 행은 한 번만 처리 (항상 DB 현재값으로 색인/삭제하므로 마지막 상태만 의미 있음)
+// - 실패한 행은 지수 백오프로 재시도하고, 성공한 행만 삭제한다 (프로세스가 죽어도 커밋된 변경은 유실되지 않음)
+// - 행은 잠깐 선점(lease)한 뒤 처리하므로 인스턴스가 여러 대여도 같은 행을 중복으로 처리하지 않는다
+@Slf4j
+@Service
+public class SearchIndexOutboxRelay {
+
+    private static final int BATCH_SIZE = 500;
+    private static final long POLL_INTERVAL_MS = 1_000;
+    private static final long BASE_BACKOFF_SECONDS = 5;
+    private static final long MAX_BACKOFF_SECONDS = 300;
+    private static final int ALERT_ATTEMPTS = 10;
+    private static final long LEASE_SECONDS = 60;
+
+    private final SearchIndexOutboxJdbcRepository outboxRepository;
+    private final SearchIndexDocSyncService searchIndexDocSyncService;
+    private final SearchIndexChangeTracker changeTracker;
+
+    private final Counter syncedCounter;
+    private final Counter failedCounter;
+
+    public SearchIndexOutboxRelay(SearchIndexOutboxJdbcRepository outboxRepository,
+                                  SearchIndexDocSyncService searchIndexDocSyncService,
+                                  SearchIndexChangeTracker changeTracker,
+                                  MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.searchIndexDocSyncService = searchIndexDocSyncService;
+        this.changeTracker = changeTracker;
+
+        this.syncedCounter = meterRegistry.counter("search_index_outbox.synced");
+        this.failedCounter = meterRegistry.counter("search_index_outbox.failed");
+    }
+
+    @Scheduled(fixedDelay = POLL_INTERVAL_MS)
+    public synchronized void relay() {
+        List<SearchIndexOutboxRow> rows;
+        do {
+            LocalDateTime now = LocalDateTime.now();
+            rows = outboxRepository.claimReady(now, now.plusSeconds(LEASE_SECONDS), BATCH_SIZE);
+
+            Map<PostType, List<SearchIndexOutboxRow>> byType = rows.stream()
+                    .collect(Collectors.groupingBy(SearchIndexOutboxRow::docType));
+            byType.forEach(this::relay);
+        } while (rows.size() == BATCH_SIZE);
+    }
+
+    private void relay(PostType type, List<SearchIndexOutboxRow> rows) {
+        List<Long> rowIds = rows.stream().map(SearchIndexOutboxRow::id).toList();
+        Set<Long> docIds = rows.stream()
+                .map(SearchIndexOutboxRow::docId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        try {
+            // 전체 재색인 중이면 새 인덱스에도 반영되도록 기록
+            changeTracker.record(type, docIds);
+            searchIndexDocSyncService.syncByIds(type, docIds);
+
+            outboxRepository.deleteByIds(rowIds);
+            syncedCounter.increment(docIds.size());
+        } catch (Exception e) {
+            int attempts = rows.stream().mapToInt(SearchIndexOutboxRow::attempts).max().orElse(0) + 1;
+            long backoff = Math.min(BASE_BACKOFF_SECONDS << Math.min(attempts - 1, 10), MAX_BACKOFF_SECONDS);
+
+            outboxRepository.markRetry(rowIds, LocalDateTime.now().plusSeconds(backoff));
+            failedCounter.increment(docIds.size());
+
+            if (attempts >= ALERT_ATTEMPTS) {
+                log.error("[SearchIndexOutbox] {} {}건 반영 계속 실패 ({}회) - {}초 후 재시도",
+                        type, docIds.size(), attempts, backoff, e);
+            } else {
+                log.warn("[SearchIndexOutbox] {} {}건 반영 실패 ({}회) - {}초 후 재시도: {}",
+                        type, docIds.size(), attempts, backoff, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.back.domain.shared.searchindex.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.indices.update_aliases.Action;
+import com.back.domain.blog.blog.entity.BlogStatus;
+import com.back.domain.blog.blog.repository.BlogRepository;
+import com.back.domain.blog.blogdoc.document.BlogDoc;
+import com.back.domain.recommend.search.type.PostType;
+import com.back.domain.shared.searchindex.dto.SearchIndexRebuildStatusDto;
+import com.back.domain.shared.searchindex.exception.SearchIndexErrorCase;
+import com.back.domain.shorlog.shorlog.entity.Shorlog;
+import com.back.domain.shorlog.shorlog.repository.ShorlogRepository;
+import com.back.domain.shorlog.shorlogdoc.document.ShorlogDoc;
+import com.back.domain.shorlog.shorlogdoc.service.ShorlogDocService;
+import com.back.global.exception.ServiceException;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.index.Settings;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+// MySQL 원본으로 검색 인덱스 전체 재구성 (무중단)
+// 1) 버전이 붙은 새 인덱스 생성 (refresh 끔, replica 0)
+// 2) id keyset 순으로 청크를 읽어 _bulk 색인
+// 3) refresh/replica 복구 후 alias를 새 인덱스로 원자적 교체, 이전 인덱스 삭제
+// 4) 재색인 도중 기존 인덱스에만 반영된 변경분을 새 인덱스에 다시 반영
+// 매핑 변경 배포나 ES 데이터 유실 시 사용한다. alias 이름은 기존 인덱스 이름(app1_shorlogs, app1_blogs)과 같다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchIndexRebuildService {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int MAX_CHUNK_ATTEMPTS = 3;
+    private static final DateTimeFormatter VERSION_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final ElasticsearchClient esClient;
+    private final ShorlogRepository shorlogRepository;
+    private final BlogRepository blogRepository;
+    private final ShorlogDocService shorlogDocService;
+    private final SearchIndexDocSyncService searchIndexDocSyncService;
+    private final SearchIndexChangeTracker changeTracker;
+
+    @Value("${search.reindex.replicas:1}")
+    private String replicas;
+
+    private final Map<PostType, SearchIndexRebuildStatusDto> statuses = new EnumMap<>(PostType.class);
+
+    // 재색인은 수십 분 걸릴 수 있어 요청 스레드나 공용 @Scheduled 스레드가 아닌 전용 스레드에서 실행 (타입별 1개)
+    private final ExecutorService rebuildExecutor = Executors.newFixedThreadPool(
+            PostType.values().length,
+            Thread.ofPlatform().name("search-index-rebuild-", 0).daemon(true).factory()
+    );
+
+    public synchronized SearchIndexRebuildStatusDto requestRebuild(PostType type) {
+        SearchIndexRebuildStatusDto current = statuses.get(type);
+        if (current != null && current.isInProgress()) {
+            throw new ServiceException(SearchIndexErrorCase.REBUILD_ALREADY_RUNNING);
+        }
+
+        SearchIndexRebuildStatusDto pending = SearchIndexRebuildStatusDto.pending(type);
+        statuses.put(type, pending);
+        rebuildExecutor.execute(() -> rebuild(type));
+        return pending;
+    }
+
+    public synchronized SearchIndexRebuildStatusDto getStatus(PostType type) {
+        return statuses.get(type);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 진행 중인 재색인은 중단한다 (alias 교체 전이면 기존 인덱스가 그대로 쓰이고, 새 인덱스만 남는다)
+        rebuildExecutor.shutdownNow();
+    }
+
+    private void rebuild(PostType type) {
+        String alias = type.getIndexName();
+        String target = alias + "_" + LocalDateTime.now().format(VERSION_FORMAT);
+        LocalDateTime startedAt = LocalDateTime.now();
+
+        updateStatus(type, status -> status.running(target, 0, startedAt));
+        log.info("[SearchIndexRebuild] {} -> {} 재색인 시작", alias, target);
+
+        changeTracker.start(type);
+        try {
+            createIndex(type, target);
+            long indexed = bulkLoad(type, target, startedAt);
+            restoreSettings(target);
+            swapAlias(alias, target);
+
+            Set<Long> changed = changeTracker.drain(type);
+            replay(type, changed);
+
+            updateStatus(type, SearchIndexRebuildStatusDto::done);
+            log.info("[SearchIndexRebuild] {} 재색인 완료 ({}건, 재반영 {}건)", alias, indexed, changed.size());
+        } catch (Exception e) {
+            log.error("[SearchIndexRebuild] {} 재색인 실패 - 기존 인덱스 유지", alias, e);
+            deleteIndexQuietly(target);
+            updateStatus(type, status -> status.failed(e.getMessage()));
+        } finally {
+            changeTracker.stop(type);
+        }
+    }
+
+    private void createIndex(PostType type, String target) {
+        IndexOperations aliasOps = elasticsearchOperations.indexOps(docClass(type));
+        Settings settings = aliasOps.createSettings();
+        Document mapping = aliasOps.createMapping();
+
+        // 대량 색인 중에는 refresh/복제를 끄고 끝난 뒤 복구
+        settings.put("index.refresh_interval", "-1");
+        settings.put("index.number_of_replicas", "0");
+
+        elasticsearchOperations.indexOps(IndexCoordinates.of(target)).create(settings, mapping);
+    }
+
+    private long bulkLoad(PostType type, String target, LocalDateTime startedAt) {
+        IndexCoordinates index = IndexCoordinates.of(target);
+        long lastId = 0L;
+        long indexed = 0L;
+
+        while (true) {
+            List<?> docs;
+            switch (type) {
+                case SHORLOG -> {
+                    List<Shorlog> chunk = shorlogRepository.findIndexChunkAfter(lastId, PageRequest.of(0, CHUNK_SIZE));
+                    if (chunk.isEmpty()) {
+                        return indexed;
+                    }
+                    lastId = chunk.get(chunk.size() - 1).getId();
+                    docs = shorlogDocService.buildDocs(chunk);
+                }
+                case BLOG -> {
+                    List<Long> ids = blogRepository.findIdsForIndexingAfter(
+                            lastId, BlogStatus.PUBLISHED, PageRequest.of(0, CHUNK_SIZE));
+                    if (ids.isEmpty()) {
+                        return indexed;
+                    }
+                    lastId = ids.get(ids.size() - 1);
+                    docs = blogRepository.findAllForIndexingByIds(ids).stream().map(BlogDoc::from).toList();
+                }
+                default -> throw new IllegalStateException("지원하지 않는 타입: " + type);
+            }
+
+            saveWithRetry(docs, index);
+            indexed += docs.size();
+
+            long progress = indexed;
+            updateStatus(type, status -> status.running(target, progress, startedAt));
+        }
+    }
+
+    private void saveWithRetry(List<?> docs, IndexCoordinates index) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                elasticsearchOperations.save(docs, index);
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= MAX_CHUNK_ATTEMPTS) {
+                    throw e;
+                }
+                log.warn("[SearchIndexRebuild] {} 청크 색인 실패 - 재시도 ({}회): {}", index.getIndexName(), attempt, e.getMessage());
+                sleepQuietly(1_000L * attempt);
+            }
+        }
+    }
+
+    private void restoreSettings(String target) throws IOException {
+        esClient.indices().putSettings(p -> p
+                .index(target)
+                .settings(s -> s
+                        .refreshInterval(t -> t.time("1s"))
+                        .numberOfReplicas(replicas)));
+        esClient.indices().refresh(r -> r.index(target));
+    }
+
+    // alias 추가/제거를 한 요청으로 보내 검색이 끊기지 않게 교체
+    // 아직 alias가 아닌 실제 인덱스(최초 전환)라면 같은 요청에서 그 인덱스를 삭제한다
+    private void swapAlias(String alias, String target) throws IOException {
+        List<Action> actions = new ArrayList<>();
+        actions.add(Action.of(a -> a.add(add -> add.index(target).alias(alias))));
+
+        Set<String> oldIndices = new HashSet<>();
+        if (esClient.indices().existsAlias(e -> e.name(alias)).value()) {
+            oldIndices.addAll(esClient.indices().getAlias(g -> g.name(alias)).result().keySet());
+            oldIndices.forEach(old -> actions.add(Action.of(a -> a.remove(r -> r.index(old).alias(alias)))));
+        } else if (esClient.indices().exists(e -> e.index(alias)).value()) {
+            actions.add(Action.of(a -> a.removeIndex(r -> r.index(alias))));
+        }
+
+        esClient.indices().updateAliases(u -> u.actions(actions));
+
+        for (String old : oldIndices) {
+            deleteIndexQuietly(old);
+        }
+    }
+
+    private void replay(PostType type, Set<Long> ids) {
+        List<Long> idList = new ArrayList<>(ids);
+        for (int from = 0; from < idList.size(); from += CHUNK_SIZE) {
+            searchIndexDocSyncService.syncByIds(type, idList.subList(from, Math.min(from + CHUNK_SIZE, idList.size())));
+        }
+    }
+
+    private void deleteIndexQuietly(String index) {
+        try {
+            elasticsearchOperations.indexOps(IndexCoordinates.of(index)).delete();
+        } catch (Exception e) {
+            log.warn("[SearchIndexRebuild] 인덱스 {} 삭제 실패: {}", index, e.getMessage());
+        }
+    }
+
+    private synchronized void updateStatus(PostType type, Function<SearchIndexRebuildStatusDto, SearchIndexRebuildStatusDto> updater) {
+        statuses.computeIfPresent(type, (k, status) -> updater.apply(status));
+    }
+
+    private Class<?> docClass(PostType type) {
+        return switch (type) {
+            case SHORLOG -> ShorlogDoc.class;
+            case BLOG -> BlogDoc.class;
+        };
+    }
+
+    private void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
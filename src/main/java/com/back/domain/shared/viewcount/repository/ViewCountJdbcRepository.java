@@ -0,0 +1,36 @@
+package com.back.domain.shared.viewcount.repository;
+
+import com.back.domain.main.entity.ContentType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class ViewCountJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 버퍼링된 조회수 증가분을 한 번의 JDBC batch로 반영 (행 단위 UPDATE를 조회마다 실행하지 않음)
+    @Transactional
+    public void addViewCounts(ContentType contentType, Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        String sql = switch (contentType) {
+            case SHORLOG -> "UPDATE shorlog SET view_count = view_count + ? WHERE id = ?";
+            case BLOG -> "UPDATE blogs SET view_count = view_count + ? WHERE id = ?";
+        };
+
+        List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+        deltas.forEach((id, delta) -> batchArgs.add(new Object[]{delta, id}));
+
+        jdbcTemplate.batchUpdate(sql, batchArgs);
+    }
+}
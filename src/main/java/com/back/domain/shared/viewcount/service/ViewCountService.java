@@ -0,0 +1,95 @@
+package com.back.domain.shared.viewcount.service;
+
+import com.back.domain.main.entity.ContentType;
+import com.back.domain.shared.countersync.service.ContentCounterSyncService;
+import com.back.domain.shared.viewcount.repository.ViewCountJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 조회수 write-behind 버퍼
+// 조회마다 행 잠금 UPDATE + ES 재색인을 하지 않고, 증가분을 메모리에 모아 주기적으로 일괄 반영한다.
+// 증가분(+delta)만 반영하므로 인스턴스가 여러 대여도 각자 flush 하면 된다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ViewCountService {
+
+    private static final long FLUSH_INTERVAL_MS = 5_000;
+
+    private final ViewCountJdbcRepository viewCountJdbcRepository;
+    private final ContentCounterSyncService contentCounterSyncService;
+
+    private final Map<ContentType, ConcurrentHashMap<Long, Long>> buffers = initBuffers();
+
+    // merge/remove는 키 단위로 원자적이라, flush가 항목을 꺼내는 순간과 겹친 증가분도
+    // 꺼낸 값에 포함되거나 새 항목으로 다시 쌓인다 (꺼낸 뒤의 카운터 객체에 더해져 유실되는 경우가 없음)
+    public void increase(ContentType contentType, Long contentId) {
+        buffers.get(contentType).merge(contentId, 1L, Long::sum);
+    }
+
+    // 아직 DB에 반영되지 않은 증가분 (응답 시 DB 값에 더해서 보여주기 위함)
+    public long getPendingCount(ContentType contentType, Long contentId) {
+        return buffers.get(contentType).getOrDefault(contentId, 0L);
+    }
+
+    @Scheduled(fixedDelay = FLUSH_INTERVAL_MS)
+    public synchronized void flush() {
+        for (ContentType contentType : ContentType.values()) {
+            Map<Long, Long> deltas = drain(buffers.get(contentType));
+            if (deltas.isEmpty()) {
+                continue;
+            }
+
+            try {
+                viewCountJdbcRepository.addViewCounts(contentType, deltas);
+            } catch (Exception e) {
+                log.error("[ViewCount] {} 조회수 DB 반영 실패 - 다음 주기에 재시도 ({}건)", contentType, deltas.size(), e);
+                restore(contentType, deltas);
+                continue;
+            }
+
+            // ES에는 DB에 반영된 현재값을 카운터 동기화로 쓴다 (증가분을 따로 보내면 중복 반영될 수 있음)
+            contentCounterSyncService.markDirty(contentType, deltas.keySet());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 항목을 통째로 꺼내므로 맵은 다음 주기까지 조회된 id만 남는다
+    private Map<Long, Long> drain(ConcurrentHashMap<Long, Long> buffer) {
+        Map<Long, Long> deltas = new HashMap<>();
+
+        for (Long id : buffer.keySet()) {
+            Long delta = buffer.remove(id);
+            if (delta != null && delta > 0) {
+                deltas.put(id, delta);
+            }
+        }
+
+        return deltas;
+    }
+
+    private void restore(ContentType contentType, Map<Long, Long> deltas) {
+        ConcurrentHashMap<Long, Long> buffer = buffers.get(contentType);
+        deltas.forEach((id, delta) -> buffer.merge(id, delta, Long::sum));
+    }
+
+    private static Map<ContentType, ConcurrentHashMap<Long, Long>> initBuffers() {
+        Map<ContentType, ConcurrentHashMap<Long, Long>> map = new EnumMap<>(ContentType.class);
+        for (ContentType contentType : ContentType.values()) {
+            map.put(contentType, new ConcurrentHashMap<>());
+        }
+        return map;
+    }
+}
@@ -35,6 +35,8 @@ import static com.back.domain.recommend.recentview.constants.GuestConstants.GUES
 @RequiredArgsConstructor
 public class ApiV1ShorlogController {
 
+    public static final String RANDOM_FEED_SEED_HEADER = "X-Feed-Seed";
+
     private final Rq rq;
     private final ShorlogService shorlogService;
     private final ImageUploadService imageUploadService;
@@ -58,9 +60,23 @@ public class ApiV1ShorlogController {
     @GetMapping("/feed")
     @Operation(summary = "숏로그 전체 피드 조회 (랜덤)")
     public RsData<Page<ShorlogFeedResponse>> getFeed(
-            @RequestParam(defaultValue = "0") int page
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) String seed
+    ) {
+        // 시드가 없으면 새로 발급해 응답 헤더로 돌려준다 → 다음 페이지부터 같은 시드를 보내면 중복/누락 없이 이어진다
+        boolean newSeed = seed == null || seed.isBlank();
+        String feedSeed = newSeed ? shorlogService.newRandomFeedSeed() : seed;
+        rq.setHeader(RANDOM_FEED_SEED_HEADER, feedSeed);
+
+        return RsData.successOf(shorlogService.getRandomFeed(page, feedSeed, newSeed));
+    }
+
+    @GetMapping("/feed/random")
+    @Operation(summary = "숏로그 전체 피드 조회 (랜덤, 커서 기반 무한스크롤)")
+    public RsData<ShorlogSliceResponse<ShorlogFeedResponse>> getRandomFeed(
+            @RequestParam(required = false) String cursor
     ) {
-        return RsData.successOf(shorlogService.getRandomFeed(page));
+        return RsData.successOf(shorlogService.getRandomFeedSlice(cursor));
     }
 
     @GetMapping("/feed/recommended")
@@ -74,6 +90,17 @@ public class ApiV1ShorlogController {
         return RsData.successOf(shorlogService.getRecommendedFeed(guestId, userId, page));
     }
 
+    @GetMapping("/feed/recommended/slice")
+    @Operation(summary = "숏로그 추천 피드 조회 (AI 추천, 커서 기반 무한스크롤)")
+    public RsData<ShorlogSliceResponse<ShorlogFeedResponse>> getRecommendedFeedSlice(
+            @CookieValue(value = GUEST_COOKIE_NAME, required = false) String guestId,
+            @AuthenticationPrincipal SecurityUser securityUser,
+            @RequestParam(required = false) String cursor
+    ) {
+        Long userId = (securityUser == null) ? null : securityUser.getId();
+        return RsData.successOf(shorlogService.getRecommendedFeedSlice(guestId, userId, cursor));
+    }
+
     @GetMapping("/following")
     @Operation(summary = "팔로잉 피드 조회 (최신순)")
     public RsData<Page<ShorlogFeedResponse>> getFollowingFeed(
@@ -83,6 +110,23 @@ public class ApiV1ShorlogController {
         return RsData.successOf(shorlogService.getFollowingFeed(securityUser.getId(), page));
     }
 
+    @GetMapping("/feed/latest")
+    @Operation(summary = "숏로그 전체 피드 조회 (최신순, 커서 기반 무한스크롤)")
+    public RsData<ShorlogSliceResponse<ShorlogFeedResponse>> getLatestFeed(
+            @RequestParam(required = false) String cursor
+    ) {
+        return RsData.successOf(shorlogService.getLatestFeedSlice(cursor));
+    }
+
+    @GetMapping("/feed/following")
+    @Operation(summary = "팔로잉 피드 조회 (최신순, 커서 기반 무한스크롤)")
+    public RsData<ShorlogSliceResponse<ShorlogFeedResponse>> getFollowingFeedSlice(
+            @AuthenticationPrincipal SecurityUser securityUser,
+            @RequestParam(required = false) String cursor
+    ) {
+        return RsData.successOf(shorlogService.getFollowingFeedSlice(securityUser.getId(), cursor));
+    }
+
     @GetMapping("/my")
     @Operation(summary = "내 숏로그 조회")
     public RsData<Page<ShorlogFeedResponse>> getMyShorlogs(
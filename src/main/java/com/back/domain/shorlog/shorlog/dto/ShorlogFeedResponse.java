@@ -27,9 +27,14 @@ public class ShorlogFeedResponse {
                 ? thumbnailUrls.getFirst()
                 : null;
 
+        return of(shorlog, firstThumbnail, hashtags, likeCount, commentCount);
+    }
+
+    // 썸네일을 별도로 일괄 조회한 경우 (images 컬렉션을 초기화하지 않음)
+    public static ShorlogFeedResponse of(Shorlog shorlog, String thumbnailUrl, List<String> hashtags, Integer likeCount, Integer commentCount) {
         return new ShorlogFeedResponse(
                 shorlog.getId(),
-                firstThumbnail,
+                thumbnailUrl,
                 shorlog.getUser().getProfileImgUrl(),
                 shorlog.getUser().getNickname(),
                 hashtags != null ? List.copyOf(hashtags) : List.of(),
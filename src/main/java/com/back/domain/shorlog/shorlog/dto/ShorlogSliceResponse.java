@@ -0,0 +1,17 @@
+package com.back.domain.shorlog.shorlog.dto;
+
+import java.util.List;
+
+public record ShorlogSliceResponse<T>(
+        List<T> content,
+        boolean hasNext,
+        String nextCursor
+) {
+    public static <T> ShorlogSliceResponse<T> of(List<T> content, boolean hasNext, String nextCursor) {
+        return new ShorlogSliceResponse<>(content, hasNext, nextCursor);
+    }
+
+    public static <T> ShorlogSliceResponse<T> empty() {
+        return new ShorlogSliceResponse<>(List.of(), false, null);
+    }
+}
@@ -17,6 +17,12 @@ import java.util.List;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    indexes = {
+        @Index(name = "idx_shorlog_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_shorlog_user_created_at_id", columnList = "user_id, created_at, id")
+    }
+)
 public class Shorlog extends BaseEntity {
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -42,6 +48,10 @@ public class Shorlog extends BaseEntity {
     @Column(name = "view_count", nullable = false, columnDefinition = "INT DEFAULT 0")
     private Integer viewCount = 0;
 
+    // 좋아요 수 (좋아요/취소 시 원자적 UPDATE로 관리, 야간 보정)
+    @Column(name = "like_count", nullable = false, columnDefinition = "INT DEFAULT 0")
+    private Integer likeCount = 0;
+
     @Column(name = "tts_url")
     private String ttsUrl;
 
@@ -55,6 +65,7 @@ public class Shorlog extends BaseEntity {
         shorlog.images = new ArrayList<>();
         shorlog.hashtags = new ArrayList<>();
         shorlog.viewCount = 0;
+        shorlog.likeCount = 0;
         return shorlog;
     }
 
@@ -4,11 +4,13 @@ import com.back.domain.shorlog.shorlog.entity.Shorlog;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,40 +26,66 @@ public interface ShorlogRepository extends JpaRepository<Shorlog, Long> {
     Optional<Shorlog> findByIdWithUser(@Param("id") Long id);
 
      // 전체 피드 조회 (최신순)
-    @Query(value = "SELECT DISTINCT s FROM Shorlog s " +
+     // 썸네일은 ShorlogFeedAssembler에서 일괄 조회하므로 컬렉션 FETCH JOIN 없이 DB 레벨 LIMIT 적용
+    @Query(value = "SELECT s FROM Shorlog s " +
            "JOIN FETCH s.user " +
-           "LEFT JOIN FETCH s.images si " +
-           "LEFT JOIN FETCH si.image " +
-           "ORDER BY s.createdAt DESC",
-           countQuery = "SELECT COUNT(DISTINCT s) FROM Shorlog s")
+           "ORDER BY s.createdAt DESC, s.id DESC",
+           countQuery = "SELECT COUNT(s) FROM Shorlog s")
     Page<Shorlog> findAllByOrderByCreatedAtDesc(Pageable pageable);
 
      // 팔로잉 피드 조회
-    @Query(value = "SELECT DISTINCT s FROM Shorlog s " +
+    @Query(value = "SELECT s FROM Shorlog s " +
            "JOIN FETCH s.user " +
-           "LEFT JOIN FETCH s.images si " +
-           "LEFT JOIN FETCH si.image " +
            "WHERE s.user.id IN :followingUserIds " +
-           "ORDER BY s.createdAt DESC",
-           countQuery = "SELECT COUNT(DISTINCT s) FROM Shorlog s WHERE s.user.id IN :followingUserIds")
+           "ORDER BY s.createdAt DESC, s.id DESC",
+           countQuery = "SELECT COUNT(s) FROM Shorlog s WHERE s.user.id IN :followingUserIds")
     Page<Shorlog> findByFollowingUsers(@Param("followingUserIds") List<Long> followingUserIds, Pageable pageable);
 
-    @Query(value = "SELECT DISTINCT s FROM Shorlog s " +
+    // 전체 피드 무한스크롤 (키셋 페이징: createdAt DESC, id DESC) - count 쿼리 없음
+    @Query("SELECT s FROM Shorlog s " +
+           "JOIN FETCH s.user " +
+           "ORDER BY s.createdAt DESC, s.id DESC")
+    List<Shorlog> findFeedFirstSlice(Pageable pageable);
+
+    @Query("SELECT s FROM Shorlog s " +
+           "JOIN FETCH s.user " +
+           "WHERE s.createdAt < :createdAt " +
+           "OR (s.createdAt = :createdAt AND s.id < :id) " +
+           "ORDER BY s.createdAt DESC, s.id DESC")
+    List<Shorlog> findFeedSliceBefore(@Param("createdAt") LocalDateTime createdAt,
+                                      @Param("id") Long id,
+                                      Pageable pageable);
+
+    // 팔로잉 피드 무한스크롤 (키셋 페이징)
+    @Query("SELECT s FROM Shorlog s " +
+           "JOIN FETCH s.user " +
+           "WHERE s.user.id IN :followingUserIds " +
+           "ORDER BY s.createdAt DESC, s.id DESC")
+    List<Shorlog> findFollowingFeedFirstSlice(@Param("followingUserIds") List<Long> followingUserIds,
+                                              Pageable pageable);
+
+    @Query("SELECT s FROM Shorlog s " +
+           "JOIN FETCH s.user " +
+           "WHERE s.user.id IN :followingUserIds " +
+           "AND (s.createdAt < :createdAt OR (s.createdAt = :createdAt AND s.id < :id)) " +
+           "ORDER BY s.createdAt DESC, s.id DESC")
+    List<Shorlog> findFollowingFeedSliceBefore(@Param("followingUserIds") List<Long> followingUserIds,
+                                               @Param("createdAt") LocalDateTime createdAt,
+                                               @Param("id") Long id,
+                                               Pageable pageable);
+
+    @Query(value = "SELECT s FROM Shorlog s " +
            "JOIN FETCH s.user " +
-           "LEFT JOIN FETCH s.images si " +
-           "LEFT JOIN FETCH si.image " +
            "WHERE s.user.id = :userId " +
-           "ORDER BY s.createdAt DESC",
-           countQuery = "SELECT COUNT(DISTINCT s) FROM Shorlog s WHERE s.user.id = :userId")
+           "ORDER BY s.createdAt DESC, s.id DESC",
+           countQuery = "SELECT COUNT(s) FROM Shorlog s WHERE s.user.id = :userId")
     Page<Shorlog> findByUserIdOrderByCreatedAtDesc(@Param("userId") Long userId, Pageable pageable);
 
-    @Query(value = "SELECT DISTINCT s FROM Shorlog s " +
+    @Query(value = "SELECT s FROM Shorlog s " +
            "JOIN FETCH s.user " +
-           "LEFT JOIN FETCH s.images si " +
-           "LEFT JOIN FETCH si.image " +
            "WHERE s.user.id = :userId " +
-           "ORDER BY s.createdAt ASC",
-           countQuery = "SELECT COUNT(DISTINCT s) FROM Shorlog s WHERE s.user.id = :userId")
+           "ORDER BY s.createdAt ASC, s.id ASC",
+           countQuery = "SELECT COUNT(s) FROM Shorlog s WHERE s.user.id = :userId")
     Page<Shorlog> findByUserIdOrderByCreatedAtAsc(@Param("userId") Long userId, Pageable pageable);
 
     // 내 쇼로그 조회 (인기순 - 조회수 + 좋아요 * 2 종합 점수)
@@ -79,14 +107,6 @@ public interface ShorlogRepository extends JpaRepository<Shorlog, Long> {
 
     int countAllByUserId(Long userId);
 
-    @Query("""
-            SELECT s.id, s.createdAt
-            FROM Shorlog s
-            WHERE s.user.id = :userId
-            ORDER BY s.id DESC
-            """)
-    Page<Object[]> findUserShorlogActivities(@Param("userId") Long userId, Pageable pageable);
-
     // 블로그 연결 모달용
     @Query("SELECT DISTINCT s FROM Shorlog s " +
            "LEFT JOIN FETCH s.hashtags sh " +
@@ -126,7 +146,6 @@ public interface ShorlogRepository extends JpaRepository<Shorlog, Long> {
     """, nativeQuery = true)
     List<Long> findDistinctUserIdsWithAnyPost();
 
-
     @Query("""
     select distinct s from Shorlog s
     left join fetch s.user u
@@ -145,5 +164,34 @@ public interface ShorlogRepository extends JpaRepository<Shorlog, Long> {
 
     @Query("SELECT s.ttsUrl FROM Shorlog s WHERE s.user.id = :userId AND s.ttsUrl IS NOT NULL")
     List<String> findTtsUrlsByUserId(@Param("userId") Long userId);
-}
 
+    // 전체 재색인용 id 순 청크 조회 (keyset)
+    @Query("SELECT s FROM Shorlog s " +
+           "JOIN FETCH s.user " +
+           "WHERE s.id > :lastId " +
+           "ORDER BY s.id ASC")
+    List<Shorlog> findIndexChunkAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("SELECT s FROM Shorlog s " +
+           "JOIN FETCH s.user " +
+           "WHERE s.id IN :ids")
+    List<Shorlog> findAllWithUserByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT s.user.id FROM Shorlog s WHERE s.id = :id")
+    Optional<Long> findUserIdById(@Param("id") Long id);
+
+    @Query("SELECT s.likeCount FROM Shorlog s WHERE s.id = :id")
+    long findLikeCount(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Shorlog s SET s.likeCount = s.likeCount + 1 WHERE s.id = :id")
+    void incrementLikeCount(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Shorlog s SET s.likeCount = GREATEST(s.likeCount - 1, 0) WHERE s.id = :id")
+    void decrementLikeCount(@Param("id") Long id);
+
+    // 주어진 id 중 존재하는 것만
+    @Query("SELECT s.id FROM Shorlog s WHERE s.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,105 @@
+package com.back.domain.shorlog.shorlog.service;
+
+import com.back.domain.comments.comments.entity.CommentsTargetType;
+import com.back.domain.comments.comments.service.CommentsService;
+import com.back.domain.shorlog.shorlog.dto.ShorlogFeedResponse;
+import com.back.domain.shorlog.shorlog.entity.Shorlog;
+import com.back.domain.shorlog.shorloghashtag.repository.ShorlogHashtagRepository;
+import com.back.domain.shorlog.shorlogimage.repository.ShorlogImagesRepository;
+import com.back.domain.shorlog.shorloglike.repository.ShorlogLikeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+// 피드 한 페이지 분량의 숏로그를 응답 DTO로 변환 (해시태그/좋아요/댓글/썸네일을 페이지 단위로 일괄 조회)
+// 페이지 크기와 무관하게 항상 최대 4번의 쿼리만 실행된다.
+@Component
+@RequiredArgsConstructor
+public class ShorlogFeedAssembler {
+
+    private final ShorlogHashtagRepository shorlogHashtagRepository;
+    private final ShorlogLikeRepository shorlogLikeRepository;
+    private final ShorlogImagesRepository shorlogImagesRepository;
+    private final CommentsService commentsService;
+
+    public Page<ShorlogFeedResponse> assemble(Page<Shorlog> shorlogs) {
+        Map<Long, ShorlogFeedResponse> responseMap = toResponseMap(shorlogs.getContent());
+        return shorlogs.map(shorlog -> responseMap.get(shorlog.getId()));
+    }
+
+    public List<ShorlogFeedResponse> assemble(List<Shorlog> shorlogs) {
+        Map<Long, ShorlogFeedResponse> responseMap = toResponseMap(shorlogs);
+        return shorlogs.stream()
+                .map(shorlog -> responseMap.get(shorlog.getId()))
+                .toList();
+    }
+
+    private Map<Long, ShorlogFeedResponse> toResponseMap(List<Shorlog> shorlogs) {
+        if (shorlogs.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<Long> shorlogIds = shorlogs.stream()
+                .map(Shorlog::getId)
+                .distinct()
+                .toList();
+
+        Map<Long, List<String>> hashtagsMap = buildHashtagsMap(shorlogIds);
+        Map<Long, Long> likeCountMap = buildLikeCountMap(shorlogIds);
+        Map<Long, Long> commentCountMap = commentsService.getCommentCounts(shorlogIds, CommentsTargetType.SHORLOG);
+        Map<Long, String> thumbnailMap = buildThumbnailMap(shorlogIds);
+
+        Map<Long, ShorlogFeedResponse> responseMap = new HashMap<>();
+        for (Shorlog shorlog : shorlogs) {
+            Long id = shorlog.getId();
+            responseMap.put(id, ShorlogFeedResponse.of(
+                    shorlog,
+                    thumbnailMap.get(id),
+                    hashtagsMap.getOrDefault(id, List.of()),
+                    likeCountMap.getOrDefault(id, 0L).intValue(),
+                    commentCountMap.getOrDefault(id, 0L).intValue()
+            ));
+        }
+
+        return responseMap;
+    }
+
+    private Map<Long, List<String>> buildHashtagsMap(List<Long> shorlogIds) {
+        Map<Long, List<String>> hashtagsMap = new HashMap<>();
+
+        for (Object[] row : shorlogHashtagRepository.findHashtagsByShorlogIds(shorlogIds)) {
+            Long shorlogId = (Long) row[0];
+            String hashtagName = (String) row[1];
+
+            hashtagsMap.computeIfAbsent(shorlogId, k -> new ArrayList<>()).add(hashtagName);
+        }
+
+        return hashtagsMap;
+    }
+
+    private Map<Long, Long> buildLikeCountMap(List<Long> shorlogIds) {
+        Map<Long, Long> likeCountMap = new HashMap<>();
+
+        for (Object[] row : shorlogLikeRepository.countByShorlogIds(shorlogIds)) {
+            Long shorlogId = (Long) row[0];
+            Long count = (Long) row[1];
+            likeCountMap.put(shorlogId, count);
+        }
+
+        return likeCountMap;
+    }
+
+    private Map<Long, String> buildThumbnailMap(List<Long> shorlogIds) {
+        Map<Long, String> thumbnailMap = new HashMap<>();
+
+        for (Object[] row : shorlogImagesRepository.findFirstImageUrlByShorlogIds(shorlogIds)) {
+            Long shorlogId = ((Number) row[0]).longValue();
+            String url = (String) row[1];
+            thumbnailMap.putIfAbsent(shorlogId, url);
+        }
+
+        return thumbnailMap;
+    }
+}
@@ -0,0 +1,202 @@
+package com.back.domain.shorlog.shorlog.service;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import com.back.domain.shorlog.shorlogdoc.repository.ShorlogDocQueryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 랜덤 피드 순서 캐시 (시드별 id 순서를 Redis ZSET에 member=id, score=순번으로 저장)
+// 같은 시드면 ES random_score 순서가 같으므로, 앞에서부터 search_after로 필요한 만큼만 이어 붙인다.
+// 같은 구간을 동시에 이어 붙여도 순번이 같아서 결과가 같다 (멱등).
+// 요청 스레드에서는 최대 SYNC_EXTEND_LIMIT까지만 이어 붙이고, 그보다 깊은 페이지는 from/size로 한 페이지만 가져온다.
+// 캐시 끝에 가까워지면 다음 구간을 미리 비동기로 이어 붙인다.
+@Slf4j
+@Service
+public class ShorlogRandomFeedService {
+
+    private static final int CHUNK_SIZE = 200;
+    private static final int SYNC_EXTEND_LIMIT = CHUNK_SIZE * 2;
+    private static final int PREFETCH_MARGIN = CHUNK_SIZE / 2;
+    private static final int MAX_SEQUENCE_SIZE = 3_000;
+    private static final Duration SEQUENCE_TTL = Duration.ofMinutes(10);
+
+    private static final String IDS_KEY_PREFIX = "shorlog:random:ids:";
+    private static final String META_KEY_PREFIX = "shorlog:random:meta:";
+    private static final String META_NEXT = "next";
+    private static final String META_TOTAL = "total";
+    private static final String META_DONE = "done";
+    private static final String META_AFTER_SCORE = "afterScore";
+    private static final String META_AFTER_ID = "afterId";
+
+    private final ShorlogDocQueryRepository shorlogDocQueryRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TaskExecutor maintenanceExecutor;
+
+    // 이 노드에서 이어 붙이는 중인 시드 (같은 시드의 비동기 작업이 쌓이지 않도록)
+    private final Set<String> extending = ConcurrentHashMap.newKeySet();
+
+    public ShorlogRandomFeedService(ShorlogDocQueryRepository shorlogDocQueryRepository,
+                                    StringRedisTemplate stringRedisTemplate,
+                                    @Qualifier("maintenanceExecutor") TaskExecutor maintenanceExecutor) {
+        this.shorlogDocQueryRepository = shorlogDocQueryRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.maintenanceExecutor = maintenanceExecutor;
+    }
+
+    public String newSeed() {
+        return Long.toHexString(ThreadLocalRandom.current().nextLong());
+    }
+
+    public List<Long> getIds(String seed, int offset, int size) {
+        String idsKey = IDS_KEY_PREFIX + seed;
+        String metaKey = META_KEY_PREFIX + seed;
+        ZSetOperations<String, String> zSet = stringRedisTemplate.opsForZSet();
+
+        int required = Math.min(offset + size, MAX_SEQUENCE_SIZE);
+
+        // 캐시보다 한참 앞선 페이지는 from/size로 바로 가져오고, 캐시는 뒤에서 따라 채운다
+        if (!isDone(metaKey) && required - nextPosition(metaKey) > SYNC_EXTEND_LIMIT) {
+            extendAsync(seed, required + CHUNK_SIZE);
+            return getIdsOnce(seed, offset, size);
+        }
+
+        while (!isDone(metaKey) && nextPosition(metaKey) < required) {
+            extend(idsKey, metaKey, seed);
+        }
+        if (!isDone(metaKey) && nextPosition(metaKey) - required < PREFETCH_MARGIN) {
+            extendAsync(seed, required + CHUNK_SIZE);
+        }
+
+        stringRedisTemplate.expire(idsKey, SEQUENCE_TTL);
+        stringRedisTemplate.expire(metaKey, SEQUENCE_TTL);
+
+        Set<String> members = zSet.range(idsKey, offset, offset + size - 1);
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+        return members.stream().map(Long::parseLong).toList();
+    }
+
+    // 순서 캐시 없이 한 페이지만 조회 (시드 없이 중간 페이지를 요청한 경우 처음부터 이어 붙이지 않도록)
+    // 정렬이 캐시와 같아서, 같은 시드로 이어서 요청하면 캐시 경로와 같은 순서가 된다
+    public List<Long> getIdsOnce(String seed, int offset, int size) {
+        if (offset >= MAX_SEQUENCE_SIZE) {
+            return List.of();
+        }
+
+        SearchResponse<Void> response = shorlogDocQueryRepository.searchRandomIds(
+                seed, offset, Math.min(size, MAX_SEQUENCE_SIZE - offset));
+
+        // 같은 시드로 이어지는 요청이 getTotal을 쓸 수 있게 전체 문서 수만 남겨 둔다
+        if (response.hits().total() != null) {
+            String metaKey = META_KEY_PREFIX + seed;
+            stringRedisTemplate.opsForHash().putIfAbsent(metaKey, META_TOTAL, String.valueOf(response.hits().total().value()));
+            stringRedisTemplate.expire(metaKey, SEQUENCE_TTL);
+        }
+
+        return response.hits().hits().stream()
+                .map(hit -> Long.parseLong(hit.id()))
+                .toList();
+    }
+
+    // 전체 문서 수 (순서 캐시 길이는 MAX_SEQUENCE_SIZE로 제한)
+    public long getTotal(String seed) {
+        Object total = stringRedisTemplate.opsForHash().get(META_KEY_PREFIX + seed, META_TOTAL);
+        if (total == null) {
+            return 0;
+        }
+        return Math.min(Long.parseLong((String) total), MAX_SEQUENCE_SIZE);
+    }
+
+    private void extendAsync(String seed, int target) {
+        if (!extending.add(seed)) {
+            return;
+        }
+
+        String idsKey = IDS_KEY_PREFIX + seed;
+        String metaKey = META_KEY_PREFIX + seed;
+        int required = Math.min(target, MAX_SEQUENCE_SIZE);
+        try {
+            maintenanceExecutor.execute(() -> {
+                try {
+                    while (!isDone(metaKey) && nextPosition(metaKey) < required) {
+                        extend(idsKey, metaKey, seed);
+                    }
+                } catch (Exception e) {
+                    log.warn("[ShorlogRandomFeedService] 랜덤 피드 순서 미리 채우기 실패 - seed={}", seed, e);
+                } finally {
+                    extending.remove(seed);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 유지보수 작업으로 큐가 차 있으면 미리 채우기는 건너뛴다 (다음 요청이 필요한 만큼 채움)
+            extending.remove(seed);
+        }
+    }
+
+    private void extend(String idsKey, String metaKey, String seed) {
+        HashOperations<String, String, String> hash = stringRedisTemplate.opsForHash();
+        Map<String, String> meta = hash.entries(metaKey);
+
+        long next = meta.containsKey(META_NEXT) ? Long.parseLong(meta.get(META_NEXT)) : 0;
+        List<FieldValue> searchAfter = meta.containsKey(META_AFTER_SCORE) && meta.containsKey(META_AFTER_ID)
+                ? List.of(FieldValue.of(Double.parseDouble(meta.get(META_AFTER_SCORE))),
+                FieldValue.of(meta.get(META_AFTER_ID)))
+                : List.of();
+
+        SearchResponse<Void> response = shorlogDocQueryRepository.searchRandomIds(seed, searchAfter, CHUNK_SIZE);
+        List<Hit<Void>> hits = response.hits().hits();
+
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        for (int i = 0; i < hits.size(); i++) {
+            tuples.add(new DefaultTypedTuple<>(hits.get(i).id(), (double) (next + i)));
+        }
+        if (!tuples.isEmpty()) {
+            stringRedisTemplate.opsForZSet().add(idsKey, tuples);
+        }
+
+        Map<String, String> updated = new HashMap<>();
+        updated.put(META_NEXT, String.valueOf(next + hits.size()));
+        if (!meta.containsKey(META_TOTAL) && response.hits().total() != null) {
+            updated.put(META_TOTAL, String.valueOf(response.hits().total().value()));
+        }
+        if (hits.size() < CHUNK_SIZE || next + hits.size() >= MAX_SEQUENCE_SIZE) {
+            updated.put(META_DONE, "1");
+        }
+        if (!hits.isEmpty()) {
+            List<FieldValue> sort = hits.get(hits.size() - 1).sort();
+            updated.put(META_AFTER_SCORE, String.valueOf(sort.get(0).isDouble() ? sort.get(0).doubleValue() : sort.get(0).longValue()));
+            updated.put(META_AFTER_ID, sort.get(1).isString() ? sort.get(1).stringValue() : String.valueOf(sort.get(1).longValue()));
+        }
+        hash.putAll(metaKey, updated);
+        stringRedisTemplate.expire(metaKey, SEQUENCE_TTL);
+        stringRedisTemplate.expire(idsKey, SEQUENCE_TTL);
+    }
+
+    private boolean isDone(String metaKey) {
+        return stringRedisTemplate.opsForHash().hasKey(metaKey, META_DONE);
+    }
+
+    private long nextPosition(String metaKey) {
+        Object next = stringRedisTemplate.opsForHash().get(metaKey, META_NEXT);
+        return next == null ? 0 : Long.parseLong((String) next);
+    }
+}
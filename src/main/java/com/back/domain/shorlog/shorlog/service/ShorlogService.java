@@ -1,21 +1,18 @@
 package com.back.domain.shorlog.shorlog.service;
 
-import co.elastic.clients.elasticsearch._types.query_dsl.Query;
-import co.elastic.clients.elasticsearch.core.SearchResponse;
-import co.elastic.clients.elasticsearch.core.search.Hit;
 import com.back.domain.comments.comments.entity.CommentsTargetType;
 import com.back.domain.comments.comments.service.CommentsService;
-import com.back.domain.history.history.entity.ContentViewHistory;
-import com.back.domain.history.history.repository.ContentViewHistoryRepository;
+import com.back.domain.history.history.service.ContentViewHistoryCollector;
 import com.back.domain.main.entity.ContentType;
-import com.back.domain.recommend.recentview.service.RecentViewService;
-import com.back.domain.recommend.recommend.service.RecommendService;
+import com.back.domain.recommend.recommend.dto.RecommendCandidatePage;
+import com.back.domain.recommend.recommend.service.RecommendCandidateService;
 import com.back.domain.recommend.search.type.PostType;
 import com.back.domain.shared.hashtag.entity.Hashtag;
 import com.back.domain.shared.hashtag.service.HashtagService;
 import com.back.domain.shared.image.entity.Image;
 import com.back.domain.shared.image.repository.ImageRepository;
 import com.back.domain.shared.link.repository.ShorlogBlogLinkRepository;
+import com.back.domain.shared.viewcount.service.ViewCountService;
 import com.back.domain.shorlog.shorlog.dto.*;
 import com.back.domain.shorlog.shorlog.entity.Shorlog;
 import com.back.domain.shorlog.shorlog.event.ShorlogCreatedEvent;
@@ -46,9 +43,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.NoSuchElementException;
-import java.util.Objects;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -71,10 +71,12 @@ public class ShorlogService {
     private final FollowRepository followRepository;
     private final CommentsService commentsService;
     private final ApplicationEventPublisher eventPublisher;
-    private final RecommendService recommendService;
+    private final RecommendCandidateService recommendCandidateService;
     private final ShorlogDocQueryRepository shorlogDocQueryRepository;
-    private final RecentViewService recentViewService;
-    private final ContentViewHistoryRepository contentViewHistoryRepository;
+    private final ContentViewHistoryCollector contentViewHistoryCollector;
+    private final ShorlogFeedAssembler shorlogFeedAssembler;
+    private final ShorlogRandomFeedService shorlogRandomFeedService;
+    private final ViewCountService viewCountService;
 
     @Transactional
     public CreateShorlogResponse createShorlog(Long userId, CreateShorlogRequest request) {
@@ -115,14 +117,13 @@ public class ShorlogService {
         return CreateShorlogResponse.of(savedShorlog, hashtagNames, thumbnailUrls);
     }
 
-    @Transactional
     public ShorlogDetailResponse getShorlog(Long id) {
         Shorlog shorlog = shorlogRepository.findByIdWithUser(id)
                 .orElseThrow(() -> new NoSuchElementException("숏로그를 찾을 수 없습니다."));
 
-        shorlog.increaseViewCount();
-
-        shorlogDocService.updateElasticsearchCounts(id);
+        // 조회수는 버퍼에 모았다가 주기적으로 DB/ES에 일괄 반영
+        viewCountService.increase(ContentType.SHORLOG, id);
+        int viewCount = shorlog.getViewCount() + (int) viewCountService.getPendingCount(ContentType.SHORLOG, id);
 
         List<String> hashtags = shorlogHashtagRepository.findHashtagNamesByShorlogId(id);
 
@@ -136,7 +137,7 @@ public class ShorlogService {
         ).getOrDefault(id, 0L);
         int commentCount = commentCountLong.intValue();
 
-        return ShorlogDetailResponse.from(shorlog, hashtags, shorlog.getViewCount(),
+        return ShorlogDetailResponse.from(shorlog, hashtags, viewCount,
                 (int) likeCount, (int) bookmarkCount, commentCount, linkedBlogId);
     }
 
@@ -145,49 +146,73 @@ public class ShorlogService {
 
         Page<Shorlog> shorlogs = shorlogRepository.findAllByOrderByCreatedAtDesc(pageable);
 
-        List<Long> shorlogIds = shorlogs.stream()
-                .map(Shorlog::getId)
-                .toList();
-        var commentCountMap = commentsService.getCommentCounts(shorlogIds, CommentsTargetType.SHORLOG);
-
-        return shorlogs.map(shorlog -> {
-            List<String> hashtags = shorlogHashtagRepository.findHashtagNamesByShorlogId(shorlog.getId());
-            long likeCount = shorlogLikeRepository.countByShorlog(shorlog);
-            int commentCount = commentCountMap.getOrDefault(shorlog.getId(), 0L).intValue();
-            return ShorlogFeedResponse.from(shorlog, hashtags, (int) likeCount, commentCount);
-        });
+        return shorlogFeedAssembler.assemble(shorlogs);
     }
 
-    public Page<ShorlogFeedResponse> getRandomFeed(int pageNumber) {
-        Query randomQuery = Query.of(q -> q.functionScore(fs -> fs
-                .query(Query.of(mq -> mq.matchAll(ma -> ma)))
-                .functions(fn -> fn.randomScore(rs -> rs
-                        .seed(String.valueOf(System.currentTimeMillis()))
-                        .field("_seq_no")
-                ))
-                .boostMode(co.elastic.clients.elasticsearch._types.query_dsl.FunctionBoostMode.Replace)
-        ));
+    public String newRandomFeedSeed() {
+        return shorlogRandomFeedService.newSeed();
+    }
 
+    // 랜덤 피드 - 시드가 같으면 같은 순서라 페이지 사이 중복/누락이 없다
+    // 방금 발급한 시드로 중간 페이지를 요청하면 순서 캐시를 처음부터 채우지 않고 그 페이지만 조회한다
+    public Page<ShorlogFeedResponse> getRandomFeed(int pageNumber, String seed, boolean newSeed) {
         int pageSize = FEED_PAGE_SIZE;
-        SearchResponse<SearchShorlogResponseDto> response = shorlogDocQueryRepository.searchRecommendShorlogs(randomQuery, pageNumber, pageSize);
+        int offset = pageNumber * pageSize;
 
-        return convertToPage(response, pageNumber, pageSize);
+        List<Long> ids = (newSeed && pageNumber > 0)
+                ? shorlogRandomFeedService.getIdsOnce(seed, offset, pageSize)
+                : shorlogRandomFeedService.getIds(seed, offset, pageSize);
+        List<ShorlogFeedResponse> content = shorlogDocQueryRepository.findByIds(ids).stream()
+                .map(this::toFeedResponse)
+                .toList();
+
+        return new PageImpl<>(content, PageRequest.of(pageNumber, pageSize), shorlogRandomFeedService.getTotal(seed));
     }
 
-    public Page<ShorlogFeedResponse> getRecommendedFeed(String guestId, Long userId, int pageNumber) {
-        List<Query> shouldQueries = recommendService.getRecommendQueries(guestId, userId, PostType.SHORLOG);
+    // 랜덤 피드 무한스크롤 (커서 = 시드:offset, 첫 요청에서 시드 발급)
+    public ShorlogSliceResponse<ShorlogFeedResponse> getRandomFeedSlice(String cursor) {
+        RandomFeedCursor feedCursor = RandomFeedCursor.parse(cursor);
+        String seed = (feedCursor == null) ? shorlogRandomFeedService.newSeed() : feedCursor.seed();
+        int offset = (feedCursor == null) ? 0 : feedCursor.offset();
+
+        List<Long> ids = shorlogRandomFeedService.getIds(seed, offset, FEED_PAGE_SIZE + 1);
+        boolean hasNext = ids.size() > FEED_PAGE_SIZE;
+        List<Long> pageIds = hasNext ? ids.subList(0, FEED_PAGE_SIZE) : ids;
 
-        Query finalQuery = Query.of(q -> q.bool(b -> {
-            b.must(m -> m.matchAll(ma -> ma));
-            b.should(shouldQueries);
-            b.minimumShouldMatch("0");
-            return b;
-        }));
+        List<ShorlogFeedResponse> content = shorlogDocQueryRepository.findByIds(pageIds).stream()
+                .map(this::toFeedResponse)
+                .toList();
+
+        String nextCursor = hasNext ? RandomFeedCursor.of(seed, offset + FEED_PAGE_SIZE) : null;
+        return ShorlogSliceResponse.of(content, hasNext, nextCursor);
+    }
 
+    // 추천 피드 - 미리 계산해 둔 사용자별 후보 스냅샷에서 페이지를 잘라 ES 문서로 채운다
+    // 페이지 번호 API라 전체 개수 대신 다음 페이지 존재 여부만 맞춘다 (스냅샷 상한 이후는 직접 페이징)
+    public Page<ShorlogFeedResponse> getRecommendedFeed(String guestId, Long userId, int pageNumber) {
         int pageSize = FEED_PAGE_SIZE;
-        SearchResponse<SearchShorlogResponseDto> response = shorlogDocQueryRepository.searchRecommendShorlogs(finalQuery, pageNumber, pageSize);
+        RecommendCandidatePage candidates = recommendCandidateService.getCandidatesByPage(
+                guestId, userId, PostType.SHORLOG, pageNumber, pageSize);
+
+        List<ShorlogFeedResponse> content = shorlogDocQueryRepository.findByIds(candidates.ids()).stream()
+                .map(this::toFeedResponse)
+                .toList();
+
+        long offset = (long) pageNumber * pageSize;
+        long total = candidates.hasNext() ? offset + pageSize + 1 : offset + content.size();
+        return new PageImpl<>(content, PageRequest.of(pageNumber, pageSize), total);
+    }
 
-        return convertToPage(response, pageNumber, pageSize);
+    // 추천 피드 무한스크롤 (커서 = 스냅샷 버전 + offset, 커서 없이 요청하면 새로고침)
+    public ShorlogSliceResponse<ShorlogFeedResponse> getRecommendedFeedSlice(String guestId, Long userId, String cursor) {
+        RecommendCandidatePage candidates = recommendCandidateService.getCandidates(
+                guestId, userId, PostType.SHORLOG, cursor, FEED_PAGE_SIZE);
+
+        List<ShorlogFeedResponse> content = shorlogDocQueryRepository.findByIds(candidates.ids()).stream()
+                .map(this::toFeedResponse)
+                .toList();
+
+        return ShorlogSliceResponse.of(content, candidates.hasNext(), candidates.nextCursor());
     }
 
     public Page<ShorlogFeedResponse> getFollowingFeed(Long userId, int page) {
@@ -200,17 +225,37 @@ public class ShorlogService {
         Pageable pageable = PageRequest.of(page, FEED_PAGE_SIZE);
         Page<Shorlog> shorlogs = shorlogRepository.findByFollowingUsers(followingUserIds, pageable);
 
-        List<Long> shorlogIds = shorlogs.stream()
-                .map(Shorlog::getId)
-                .toList();
-        var commentCountMap = commentsService.getCommentCounts(shorlogIds, CommentsTargetType.SHORLOG);
-
-        return shorlogs.map(shorlog -> {
-            List<String> hashtags = shorlogHashtagRepository.findHashtagNamesByShorlogId(shorlog.getId());
-            long likeCount = shorlogLikeRepository.countByShorlog(shorlog);
-            int commentCount = commentCountMap.getOrDefault(shorlog.getId(), 0L).intValue();
-            return ShorlogFeedResponse.from(shorlog, hashtags, (int) likeCount, commentCount);
-        });
+        return shorlogFeedAssembler.assemble(shorlogs);
+    }
+
+    // 전체 피드 무한스크롤 (최신순, 키셋 페이징)
+    public ShorlogSliceResponse<ShorlogFeedResponse> getLatestFeedSlice(String cursor) {
+        Pageable limit = PageRequest.of(0, FEED_PAGE_SIZE + 1);
+        FeedCursor feedCursor = FeedCursor.parse(cursor);
+
+        List<Shorlog> shorlogs = (feedCursor == null)
+                ? shorlogRepository.findFeedFirstSlice(limit)
+                : shorlogRepository.findFeedSliceBefore(feedCursor.createdAt(), feedCursor.id(), limit);
+
+        return toSliceResponse(shorlogs);
+    }
+
+    // 팔로잉 피드 무한스크롤 (최신순, 키셋 페이징)
+    public ShorlogSliceResponse<ShorlogFeedResponse> getFollowingFeedSlice(Long userId, String cursor) {
+        List<Long> followingUserIds = followRepository.findFollowingIdsByUserId(userId);
+
+        if (followingUserIds.isEmpty()) {
+            return ShorlogSliceResponse.empty();
+        }
+
+        Pageable limit = PageRequest.of(0, FEED_PAGE_SIZE + 1);
+        FeedCursor feedCursor = FeedCursor.parse(cursor);
+
+        List<Shorlog> shorlogs = (feedCursor == null)
+                ? shorlogRepository.findFollowingFeedFirstSlice(followingUserIds, limit)
+                : shorlogRepository.findFollowingFeedSliceBefore(followingUserIds, feedCursor.createdAt(), feedCursor.id(), limit);
+
+        return toSliceResponse(shorlogs);
     }
 
     public Page<ShorlogFeedResponse> getMyShorlogs(Long userId, String sort, int page) {
@@ -241,20 +286,7 @@ public class ShorlogService {
             default -> throw new IllegalArgumentException("정렬 기준은 'popular', 'oldest', 'latest' 중 하나여야 합니다.");
         }
 
-        List<Long> shorlogIds = shorlogs.stream()
-                .map(Shorlog::getId)
-                .toList();
-
-        var hashtagsMap = buildHashtagsMap(shorlogIds);
-        var likeCountMap = buildLikeCountMap(shorlogIds);
-        var commentCountMap = commentsService.getCommentCounts(shorlogIds, CommentsTargetType.SHORLOG);
-
-        return shorlogs.map(shorlog -> {
-            List<String> hashtags = hashtagsMap.getOrDefault(shorlog.getId(), List.of());
-            long likeCount = likeCountMap.getOrDefault(shorlog.getId(), 0L);
-            int commentCount = commentCountMap.getOrDefault(shorlog.getId(), 0L).intValue();
-            return ShorlogFeedResponse.from(shorlog, hashtags, (int) likeCount, commentCount);
-        });
+        return shorlogFeedAssembler.assemble(shorlogs);
     }
 
     public Page<ShorlogFeedResponse> getUserShorlogs(Long userId, String sort, int page) {
@@ -352,19 +384,20 @@ public class ShorlogService {
                 .limit(MAX_HASHTAGS)
                 .toList();
 
+        // 생성 시엔 새 글이고 수정 시엔 기존 연결을 먼저 지우므로, 태그별 존재 확인 없이 바로 저장
         List<Hashtag> hashtags = hashtagService.findOrCreateAll(uniqueHashtags);
 
         List<ShorlogHashtag> shorlogHashtags = hashtags.stream()
-                .filter(hashtag -> !shorlogHashtagRepository.existsByShorlogIdAndHashtagId(shorlog.getId(), hashtag.getId()))
                 .map(hashtag -> ShorlogHashtag.create(shorlog, hashtag))
                 .toList();
 
-        if (!shorlogHashtags.isEmpty()) {
-            shorlogHashtagRepository.saveAll(shorlogHashtags);
-        }
+        shorlogHashtagRepository.saveAll(shorlogHashtags);
 
-        return hashtags.stream()
-                .map(Hashtag::getName)
+        // 반환된 해시태그는 id만 채워진 참조라 이름은 입력값에서 가져온다 (프록시 초기화 조회 방지)
+        Set<String> seen = new HashSet<>();
+        return uniqueHashtags.stream()
+                .map(HashtagService::cleanName)
+                .filter(name -> seen.add(name.toLowerCase(Locale.ROOT)))
                 .toList();
     }
 
@@ -406,91 +439,91 @@ public class ShorlogService {
         );
     }
 
-    @Transactional
     public void viewShorlog(String guestId, Long userId, Long shorlogId, HttpServletRequest request) {
-        shorlogRepository.findById(shorlogId)
-                .orElseThrow(() -> new NoSuchElementException("숏로그를 찾을 수 없습니다."));
-
-        recentViewService.addRecentViewPost(guestId, PostType.SHORLOG, shorlogId);
-
-        if (userId != null && userId > 0) {
-            recentViewService.mergeGuestHistoryToUser(guestId, userId, PostType.SHORLOG);
-        }
-        User viewer = null;
-        if (userId != null) {
-            viewer = userRepository.findById(userId).orElse(null);
+        if (!shorlogRepository.existsById(shorlogId)) {
+            throw new NoSuchElementException("숏로그를 찾을 수 없습니다.");
         }
 
-        ContentViewHistory history = new ContentViewHistory(
-                ContentType.SHORLOG,
-                shorlogId,
-                viewer,
-                LocalDateTime.now(),
-                request.getRemoteAddr(),
-                request.getHeader("User-Agent")
-        );
-        contentViewHistoryRepository.save(history);
-    }
+        // 최근 본 글 기록과 추천 후보 재계산 표시를 한 번에
+        recommendCandidateService.recordView(guestId, userId, PostType.SHORLOG, shorlogId);
 
-    private Page<ShorlogFeedResponse> convertToPage(SearchResponse<SearchShorlogResponseDto> response, int pageNumber, int pageSize) {
-        Pageable pageable = PageRequest.of(pageNumber, pageSize);
+        // 조회 이력은 비동기 batch insert (요청 스레드에서 INSERT 하지 않음)
+        contentViewHistoryCollector.record(ContentType.SHORLOG, shorlogId, userId, request);
+    }
 
-        List<ShorlogFeedResponse> content = response.hits().hits().stream()
-                .map(Hit::source)
-                .filter(Objects::nonNull)
-                .map(dto -> {
-                    return new ShorlogFeedResponse(
-                            dto.getId(),
-                            dto.getThumbnailUrl(),
-                            dto.getProfileImgUrl(),
-                            dto.getNickname(),
-                            dto.getHashtags(),
-                            dto.getLikeCount(),
-                            dto.getCommentCount(),
-                            ShorlogFeedResponse.extractFirstLine(dto.getContent())
-                    );
-                })
-                .toList();
+    // 페이지 크기 + 1개를 조회해서 다음 페이지 존재 여부를 판단 (count 쿼리 없음)
+    private ShorlogSliceResponse<ShorlogFeedResponse> toSliceResponse(List<Shorlog> shorlogs) {
+        boolean hasNext = shorlogs.size() > FEED_PAGE_SIZE;
+        List<Shorlog> content = hasNext ? shorlogs.subList(0, FEED_PAGE_SIZE) : shorlogs;
 
-        long totalHits = response.hits().total() != null
-                ? response.hits().total().value()
-                : content.size();
+        String nextCursor = null;
+        if (hasNext) {
+            Shorlog last = content.getLast();
+            nextCursor = FeedCursor.of(last.getCreatedAt(), last.getId());
+        }
 
-        return new PageImpl<>(content, pageable, totalHits);
+        return ShorlogSliceResponse.of(shorlogFeedAssembler.assemble(content), hasNext, nextCursor);
     }
 
-    private java.util.Map<Long, List<String>> buildHashtagsMap(List<Long> shorlogIds) {
-        if (shorlogIds.isEmpty()) {
-            return java.util.Collections.emptyMap();
-        }
+    // 커서 형식: "{createdAt(ISO-8601)},{id}"
+    record FeedCursor(LocalDateTime createdAt, Long id) {
 
-        List<Object[]> results = shorlogHashtagRepository.findHashtagsByShorlogIds(shorlogIds);
-        java.util.Map<Long, List<String>> hashtagsMap = new java.util.HashMap<>();
+        static FeedCursor parse(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return null;
+            }
 
-        for (Object[] row : results) {
-            Long shorlogId = (Long) row[0];
-            String hashtagName = (String) row[1];
+            String[] parts = cursor.split(",");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("커서 형식이 올바르지 않습니다.");
+            }
 
-            hashtagsMap.computeIfAbsent(shorlogId, k -> new java.util.ArrayList<>()).add(hashtagName);
+            try {
+                return new FeedCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new IllegalArgumentException("커서 형식이 올바르지 않습니다.");
+            }
         }
 
-        return hashtagsMap;
+        static String of(LocalDateTime createdAt, Long id) {
+            return createdAt + "," + id;
+        }
     }
 
-    private java.util.Map<Long, Long> buildLikeCountMap(List<Long> shorlogIds) {
-        if (shorlogIds.isEmpty()) {
-            return java.util.Collections.emptyMap();
-        }
+    record RandomFeedCursor(String seed, int offset) {
 
-        List<Object[]> results = shorlogLikeRepository.countByShorlogIds(shorlogIds);
-        java.util.Map<Long, Long> likeCountMap = new java.util.HashMap<>();
+        static RandomFeedCursor parse(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return null;
+            }
+
+            String[] parts = cursor.split(":");
+            if (parts.length != 2 || parts[0].isBlank()) {
+                throw new IllegalArgumentException("커서 형식이 올바르지 않습니다.");
+            }
+
+            try {
+                return new RandomFeedCursor(parts[0], Math.max(0, Integer.parseInt(parts[1])));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("커서 형식이 올바르지 않습니다.");
+            }
+        }
 
-        for (Object[] row : results) {
-            Long shorlogId = (Long) row[0];
-            Long count = (Long) row[1];
-            likeCountMap.put(shorlogId, count);
+        static String of(String seed, int offset) {
+            return seed + ":" + offset;
         }
+    }
 
-        return likeCountMap;
+    private ShorlogFeedResponse toFeedResponse(SearchShorlogResponseDto dto) {
+        return new ShorlogFeedResponse(
+                dto.getId(),
+                dto.getThumbnailUrl(),
+                dto.getProfileImgUrl(),
+                dto.getNickname(),
+                dto.getHashtags(),
+                dto.getLikeCount(),
+                dto.getCommentCount(),
+                ShorlogFeedResponse.extractFirstLine(dto.getContent())
+        );
     }
-}
\ No newline at end of file
+}
@@ -20,7 +20,8 @@ import java.time.LocalDateTime;
         },
         indexes = {
                 @Index(name = "idx_user_created", columnList = "user_id, created_at DESC"),
-                @Index(name = "idx_shorlog_id", columnList = "shorlog_id")
+                @Index(name = "idx_shorlog_id", columnList = "shorlog_id"),
+                @Index(name = "idx_shorlog_bookmark_created_at", columnList = "created_at, shorlog_id")
         })
 @EntityListeners(AuditingEntityListener.class)
 @Getter
@@ -1,18 +1,15 @@
 package com.back.domain.shorlog.shorlogbookmark.service;
 
-import com.back.domain.comments.comments.entity.CommentsTargetType;
-import com.back.domain.comments.comments.service.CommentsService;
 import com.back.domain.notification.entity.NotificationType;
 import com.back.domain.notification.service.NotificationService;
 import com.back.domain.shorlog.shorlog.dto.ShorlogFeedResponse;
 import com.back.domain.shorlog.shorlog.entity.Shorlog;
 import com.back.domain.shorlog.shorlog.repository.ShorlogRepository;
+import com.back.domain.shorlog.shorlog.service.ShorlogFeedAssembler;
 import com.back.domain.shorlog.shorlogbookmark.dto.BookmarkListResponse;
 import com.back.domain.shorlog.shorlogbookmark.dto.ShorlogBookmarkResponse;
 import com.back.domain.shorlog.shorlogbookmark.entity.ShorlogBookmark;
 import com.back.domain.shorlog.shorlogbookmark.repository.ShorlogBookmarkRepository;
-import com.back.domain.shorlog.shorloghashtag.repository.ShorlogHashtagRepository;
-import com.back.domain.shorlog.shorloglike.repository.ShorlogLikeRepository;
 import com.back.domain.user.user.entity.User;
 import com.back.domain.user.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -23,7 +20,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.NoSuchElementException;
 
 @Service
@@ -34,10 +30,8 @@ public class ShorlogBookmarkService {
     private final ShorlogBookmarkRepository shorlogBookmarkRepository;
     private final ShorlogRepository shorlogRepository;
     private final UserRepository userRepository;
-    private final ShorlogHashtagRepository shorlogHashtagRepository;
-    private final ShorlogLikeRepository shorlogLikeRepository;
     private final NotificationService notificationService;
-    private final CommentsService commentsService;
+    private final ShorlogFeedAssembler shorlogFeedAssembler;
 
     private static final int BOOKMARK_PAGE_SIZE = 30;
 
@@ -61,10 +55,9 @@ public class ShorlogBookmarkService {
 
         notificationService.send(
                 shorlog.getUser().getId(),
-                userId,
+                user,
                 NotificationType.SHORLOG_BOOKMARK,
-                shorlogId,
-                user.getNickname()
+                shorlogId
         );
 
         return new ShorlogBookmarkResponse(true, bookmarkCount);
@@ -115,18 +108,7 @@ public class ShorlogBookmarkService {
             default -> throw new IllegalArgumentException("정렬 기준은 'popular', 'oldest', 'latest' 중 하나여야 합니다.");
         }
 
-        List<Long> shorlogIds = bookmarkPage.stream()
-                .map(bookmark -> bookmark.getShorlog().getId())
-                .toList();
-        var commentCountMap = commentsService.getCommentCounts(shorlogIds, CommentsTargetType.SHORLOG);
-
-        Page<ShorlogFeedResponse> responsePage = bookmarkPage.map(bookmark -> {
-            Shorlog shorlog = bookmark.getShorlog();
-            List<String> hashtags = shorlogHashtagRepository.findHashtagNamesByShorlogId(shorlog.getId());
-            long likeCount = shorlogLikeRepository.countByShorlog(shorlog);
-            int commentCount = commentCountMap.getOrDefault(shorlog.getId(), 0L).intValue();
-            return ShorlogFeedResponse.from(shorlog, hashtags, (int) likeCount, commentCount);
-        });
+        Page<ShorlogFeedResponse> responsePage = shorlogFeedAssembler.assemble(bookmarkPage.map(ShorlogBookmark::getShorlog));
 
         return BookmarkListResponse.from(responsePage);
     }
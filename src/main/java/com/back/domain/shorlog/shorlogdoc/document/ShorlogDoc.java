@@ -49,6 +49,9 @@ public class ShorlogDoc {
     @Field(type = FieldType.Integer)
     private Integer popularityScore; // 인기순 정렬에 사용
 
+    @Field(type = FieldType.Double)
+    private Double trendingScore; // 추천 트렌딩 점수 (TrendingScoreRefreshService가 주기적으로 갱신)
+
     @Field(type = FieldType.Date, format = DateFormat.date_time)
     private Instant createdAt;
 }
@@ -1,9 +1,21 @@
 package com.back.domain.shorlog.shorlogdoc.repository;
 
+import co.elastic.clients.elasticsearch._types.FieldValue;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
 import com.back.domain.shorlog.shorlogdoc.dto.SearchShorlogResponseDto;
 
+import java.util.List;
+
 public interface ShorlogDocQueryRepository {
     SearchResponse<SearchShorlogResponseDto> searchRecommendShorlogs(Query recommendQuery, int pageNumber, int pageSize);
+
+    // 시드 고정 랜덤 순서로 id만 조회 (searchAfter가 비어 있으면 처음부터)
+    SearchResponse<Void> searchRandomIds(String seed, List<FieldValue> searchAfter, int size);
+
+    // 시드 고정 랜덤 순서의 from 위치부터 id만 조회 (순서 캐시 없이 한 페이지만 필요할 때)
+    SearchResponse<Void> searchRandomIds(String seed, int from, int size);
+
+    // 추천 후보 페이지 채우기 (ids 순서 유지)
+    List<SearchShorlogResponseDto> findByIds(List<Long> ids);
 }
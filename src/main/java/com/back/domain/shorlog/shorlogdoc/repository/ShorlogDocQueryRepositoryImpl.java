@@ -1,15 +1,22 @@
 package com.back.domain.shorlog.shorlogdoc.repository;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.FieldValue;
 import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.query_dsl.FunctionBoostMode;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
 import com.back.domain.recommend.search.type.PostType;
 import com.back.domain.shorlog.shorlogdoc.dto.SearchShorlogResponseDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @Repository
 @RequiredArgsConstructor
@@ -38,4 +45,85 @@ public class ShorlogDocQueryRepositoryImpl implements ShorlogDocQueryRepository
             throw new RuntimeException(e);
         }
     }
+
+    @Override
+    public SearchResponse<Void> searchRandomIds(String seed, List<FieldValue> searchAfter, int size) {
+        return searchRandom(seed, searchAfter, 0, size);
+    }
+
+    @Override
+    public SearchResponse<Void> searchRandomIds(String seed, int from, int size) {
+        return searchRandom(seed, List.of(), from, size);
+    }
+
+    // 점수가 같으면 id 순 (_doc은 세그먼트 병합/샤드 복제본마다 달라서 search_after 위치가 어긋날 수 있음)
+    private SearchResponse<Void> searchRandom(String seed, List<FieldValue> searchAfter, int from, int size) {
+
+        PostType postType = PostType.SHORLOG;
+
+        // createdAt은 문서가 수정돼도 바뀌지 않으므로 같은 시드면 항상 같은 순서 (_seq_no는 카운터 갱신마다 바뀜)
+        Query randomQuery = Query.of(q -> q.functionScore(fs -> fs
+                .query(mq -> mq.matchAll(ma -> ma))
+                .functions(fn -> fn.randomScore(rs -> rs
+                        .seed(seed)
+                        .field("createdAt")
+                ))
+                .boostMode(FunctionBoostMode.Replace)
+        ));
+
+        try {
+            return esClient.search(s -> {
+                        s.index(postType.getIndexName())
+                                .query(randomQuery)
+                                .from(from)
+                                .size(size)
+                                .sort(sort -> sort.field(f -> f.field("_score").order(SortOrder.Desc)))
+                                .sort(sort -> sort.field(f -> f.field(postType.getIdSortField()).order(SortOrder.Asc)))
+                                .source(sf -> sf.fetch(false));
+                        if (!searchAfter.isEmpty()) {
+                            s.searchAfter(searchAfter);
+                        }
+                        return s;
+                    },
+                    Void.class
+            );
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public List<SearchShorlogResponseDto> findByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        PostType postType = PostType.SHORLOG;
+        List<String> docIds = ids.stream().map(String::valueOf).toList();
+
+        try {
+            SearchResponse<SearchShorlogResponseDto> response = esClient.search(s -> s
+                            .index(postType.getIndexName())
+                            .query(q -> q.ids(i -> i.values(docIds)))
+                            .size(docIds.size())
+                            .source(sf -> sf.filter(fi -> fi.includes(postType.getResultFields()))),
+                    SearchShorlogResponseDto.class
+            );
+
+            Map<String, SearchShorlogResponseDto> byId = new HashMap<>();
+            for (Hit<SearchShorlogResponseDto> hit : response.hits().hits()) {
+                if (hit.source() != null) {
+                    byId.put(hit.id(), hit.source());
+                }
+            }
+
+            // 후보 목록 순서대로, 그 사이 삭제된 문서는 건너뜀
+            return docIds.stream()
+                    .map(byId::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
 }
@@ -3,91 +3,65 @@ package com.back.domain.shorlog.shorlogdoc.service;
 import com.back.domain.comments.comments.entity.CommentsTargetType;
 import com.back.domain.comments.comments.event.CommentCreatedEvent;
 import com.back.domain.comments.comments.event.CommentDeletedEvent;
-import com.back.domain.shared.image.entity.Image;
+import com.back.domain.main.entity.ContentType;
+import com.back.domain.recommend.search.type.PostType;
+import com.back.domain.shared.countersync.service.ContentCounterSyncService;
+import com.back.domain.shared.searchindex.repository.SearchIndexOutboxJdbcRepository;
 import com.back.domain.shorlog.shorlog.event.ShorlogCreatedEvent;
 import com.back.domain.shorlog.shorlog.event.ShorlogDeletedEvent;
 import com.back.domain.shorlog.shorlog.event.ShorlogUpdatedEvent;
-import com.back.domain.shorlog.shorlog.repository.ShorlogRepository;
-import com.back.domain.shorlog.shorlogimage.repository.ShorlogImagesRepository;
 import com.back.domain.shorlog.shorloglike.event.ShorlogLikeCreatedEvent;
 import com.back.domain.shorlog.shorloglike.event.ShorlogLikeDeletedEvent;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
-import java.util.List;
-
 @Component
 @RequiredArgsConstructor
 public class ShorlogDocEventListener {
 
-    private final ShorlogDocService shorlogDocService;
-    private final ShorlogRepository shorlogRepository;
-    private final ShorlogImagesRepository shorlogImagesRepository;
+    private final ContentCounterSyncService contentCounterSyncService;
+    private final SearchIndexOutboxJdbcRepository searchIndexOutboxJdbcRepository;
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    // 생성/수정/삭제는 같은 트랜잭션 안에서 outbox에 기록만 한다 (ES 반영은 SearchIndexOutboxRelay가 비동기로 처리)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
     public void handleShorlogCreated(ShorlogCreatedEvent event) {
-        reindexShorlog(event.getShorlogId());
+        searchIndexOutboxJdbcRepository.enqueue(PostType.SHORLOG, event.getShorlogId());
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
     public void handleShorlogUpdated(ShorlogUpdatedEvent event) {
-        reindexShorlog(event.getShorlogId());
+        searchIndexOutboxJdbcRepository.enqueue(PostType.SHORLOG, event.getShorlogId());
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
     public void handleShorlogDeleted(ShorlogDeletedEvent event) {
-        shorlogDocService.deleteShorlog(event.getShorlogId());
+        searchIndexOutboxJdbcRepository.enqueue(PostType.SHORLOG, event.getShorlogId());
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    // 카운터 변경은 재색인하지 않고 동기화 대상으로만 표시 (ContentCounterSyncService가 모아서 부분 업데이트)
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleCommentCreated(CommentCreatedEvent event) {
         if (event.getTargetType() == CommentsTargetType.SHORLOG) {
-            shorlogDocService.updateElasticsearchCounts(event.getTargetId());
+            contentCounterSyncService.markDirty(ContentType.SHORLOG, event.getTargetId());
         }
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleCommentDeleted(CommentDeletedEvent event) {
         if (event.getTargetType() == CommentsTargetType.SHORLOG) {
-            shorlogDocService.updateElasticsearchCounts(event.getTargetId());
+            contentCounterSyncService.markDirty(ContentType.SHORLOG, event.getTargetId());
         }
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleLikeCreated(ShorlogLikeCreatedEvent event) {
-        shorlogDocService.updateElasticsearchCounts(event.getShorlogId());
+        contentCounterSyncService.markDirty(ContentType.SHORLOG, event.getShorlogId());
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleLikeDeleted(ShorlogLikeDeletedEvent event) {
-        shorlogDocService.updateElasticsearchCounts(event.getShorlogId());
-    }
-
-    private void reindexShorlog(Long shorlogId) {
-        shorlogRepository.findByIdWithUser(shorlogId).ifPresent(shorlog -> {
-            List<Image> images = shorlogImagesRepository.findAllImagesByShorlogIdOrderBySort(shorlogId);
-            String thumbnailUrl = images.isEmpty() ? null : images.get(0).getS3Url();
-
-            shorlogDocService.indexShorlog(
-                    shorlog,
-                    shorlog.getContent(),
-                    thumbnailUrl,
-                    shorlog.getUser().getId(),
-                    shorlog.getUser().getNickname(),
-                    shorlog.getUser().getProfileImgUrl()
-            );
-        });
+        contentCounterSyncService.markDirty(ContentType.SHORLOG, event.getShorlogId());
     }
 }
-
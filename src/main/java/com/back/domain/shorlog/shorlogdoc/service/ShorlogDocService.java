@@ -2,70 +2,108 @@ package com.back.domain.shorlog.shorlogdoc.service;
 
 import com.back.domain.comments.comments.entity.CommentsTargetType;
 import com.back.domain.comments.comments.repository.CommentsRepository;
+import com.back.domain.recommend.trending.util.TrendingScoreCalculator;
+import com.back.domain.shared.countersync.dto.ContentCounterSnapshot;
 import com.back.domain.shorlog.shorlog.entity.Shorlog;
-import com.back.domain.shorlog.shorlog.repository.ShorlogRepository;
 import com.back.domain.shorlog.shorlogdoc.document.ShorlogDoc;
 import com.back.domain.shorlog.shorlogdoc.repository.ShorlogDocRepository;
 import com.back.domain.shorlog.shorloghashtag.repository.ShorlogHashtagRepository;
+import com.back.domain.shorlog.shorlogimage.repository.ShorlogImagesRepository;
 import com.back.domain.shorlog.shorloglike.repository.ShorlogLikeRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.query.ByQueryResponse;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+import org.springframework.data.elasticsearch.core.query.ScriptType;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ShorlogDocService {
 
+    private static final String UPDATE_USER_PROFILE_SCRIPT =
+            "ctx._source.nickname = params.nickname; ctx._source.profileImgUrl = params.profileImgUrl";
+
     private final ShorlogDocRepository shorlogDocRepository;
     private final ShorlogHashtagRepository shorlogHashtagRepository;
     private final ShorlogLikeRepository shorlogLikeRepository;
     private final CommentsRepository commentsRepository;
-    private final ShorlogRepository shorlogRepository;
-
-    @Transactional
-    public void indexShorlog(Shorlog shorlog, String content, String thumbnailUrl, Long userId, String nickname, String profileImgUrl) {
-        List<String> hashtags = shorlogHashtagRepository.findHashtagNamesByShorlogId(shorlog.getId());
-
-        int likeCount = (int) shorlogLikeRepository.countByShorlog(shorlog);
-        int viewCount = shorlog.getViewCount();
-
-        Long commentCountLong = commentsRepository.countByTargetTypeAndTargetId(
-                CommentsTargetType.SHORLOG,
-                shorlog.getId()
-        );
-        int commentCount = commentCountLong != null ? commentCountLong.intValue() : 0;
-
-        int popularityScore = viewCount + (likeCount * 2);
-
-        ShorlogDoc doc = ShorlogDoc.builder()
-                .id(shorlog.getId().toString())
-                .userId(userId)
-                .nickname(nickname)
-                .profileImgUrl(profileImgUrl)
-                .content(content)
-                .thumbnailUrl(thumbnailUrl)
-                .hashtags(hashtags)
-                .viewCount(viewCount)
-                .likeCount(likeCount)
-                .commentCount(commentCount)
-                .popularityScore(popularityScore)
-                .createdAt(shorlog.getCreatedAt().atZone(java.time.ZoneId.systemDefault()).toInstant())
-                .build();
-
-        shorlogDocRepository.save(doc);
-    }
-
-    @Transactional
-    public void deleteShorlog(Long shorlogId) {
-        shorlogDocRepository.deleteById(shorlogId.toString());
+    private final ShorlogImagesRepository shorlogImagesRepository;
+    private final ElasticsearchOperations elasticsearchOperations;
+
+    // 전체 재색인용: 청크 단위로 해시태그/좋아요/댓글/썸네일을 일괄 조회해서 문서 생성 (user는 fetch join 되어 있어야 함)
+    public List<ShorlogDoc> buildDocs(List<Shorlog> shorlogs) {
+        if (shorlogs.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = shorlogs.stream().map(Shorlog::getId).toList();
+
+        Map<Long, List<String>> hashtagsMap = new HashMap<>();
+        for (Object[] row : shorlogHashtagRepository.findHashtagsByShorlogIds(ids)) {
+            hashtagsMap.computeIfAbsent((Long) row[0], k -> new ArrayList<>()).add((String) row[1]);
+        }
+
+        Map<Long, Long> likeCountMap = new HashMap<>();
+        for (Object[] row : shorlogLikeRepository.countByShorlogIds(ids)) {
+            likeCountMap.put((Long) row[0], (Long) row[1]);
+        }
+
+        Map<Long, Long> commentCountMap = new HashMap<>();
+        for (Object[] row : commentsRepository.countByTargetIdsAndType(ids, CommentsTargetType.SHORLOG)) {
+            commentCountMap.put((Long) row[0], (Long) row[1]);
+        }
+
+        Map<Long, String> thumbnailMap = new HashMap<>();
+        for (Object[] row : shorlogImagesRepository.findFirstImageUrlByShorlogIds(ids)) {
+            thumbnailMap.putIfAbsent(((Number) row[0]).longValue(), (String) row[1]);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+
+        return shorlogs.stream()
+                .map(shorlog -> {
+                    Long id = shorlog.getId();
+                    int viewCount = shorlog.getViewCount();
+                    int likeCount = likeCountMap.getOrDefault(id, 0L).intValue();
+                    int commentCount = commentCountMap.getOrDefault(id, 0L).intValue();
+
+                    return ShorlogDoc.builder()
+                            .id(id.toString())
+                            .userId(shorlog.getUser().getId())
+                            .nickname(shorlog.getUser().getNickname())
+                            .profileImgUrl(shorlog.getUser().getProfileImgUrl())
+                            .content(shorlog.getContent())
+                            .thumbnailUrl(thumbnailMap.get(id))
+                            .hashtags(hashtagsMap.getOrDefault(id, List.of()))
+                            .viewCount(viewCount)
+                            .likeCount(likeCount)
+                            .commentCount(commentCount)
+                            .popularityScore(viewCount + (likeCount * 2))
+                            .trendingScore(TrendingScoreCalculator.shorlog(
+                                    viewCount, likeCount, commentCount, shorlog.getCreatedAt(), now))
+                            .createdAt(shorlog.getCreatedAt().atZone(java.time.ZoneId.systemDefault()).toInstant())
+                            .build();
+                })
+                .toList();
     }
 
     public Page<ShorlogDoc> searchShorlogs(String keyword, String sort, int page, int size) {
@@ -83,66 +121,51 @@ public class ShorlogDocService {
         };
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void updateElasticsearchCounts(Long shorlogId) {
-        shorlogDocRepository.findById(shorlogId.toString()).ifPresent(doc -> {
-            shorlogRepository.findById(shorlogId).ifPresent(shorlog -> {
-                int viewCount = shorlog.getViewCount();
-                int likeCount = (int) shorlogLikeRepository.countByShorlog(shorlog);
-
-                Long commentCountLong = commentsRepository.countByTargetTypeAndTargetId(
-                        CommentsTargetType.SHORLOG,
-                        shorlogId
-                );
-                int commentCount = commentCountLong != null ? commentCountLong.intValue() : 0;
-
-                int popularityScore = viewCount + (likeCount * 2);
-
-                ShorlogDoc updatedDoc = ShorlogDoc.builder()
-                        .id(doc.getId())
-                        .userId(doc.getUserId())
-                        .nickname(doc.getNickname())
-                        .profileImgUrl(doc.getProfileImgUrl())
-                        .content(doc.getContent())
-                        .thumbnailUrl(doc.getThumbnailUrl())
-                        .hashtags(doc.getHashtags())
-                        .viewCount(viewCount)
-                        .likeCount(likeCount)
-                        .commentCount(commentCount)
-                        .popularityScore(popularityScore)
-                        .createdAt(doc.getCreatedAt())
-                        .build();
-
-                shorlogDocRepository.save(updatedDoc);
-            });
-        });
+    // 카운터 필드만 _bulk 부분 업데이트 (문서 전체를 다시 읽거나 저장하지 않음)
+    public void bulkUpdateCounters(List<ContentCounterSnapshot> counters) {
+        if (counters.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+
+        List<UpdateQuery> queries = counters.stream()
+                .map(counter -> UpdateQuery.builder(counter.contentId().toString())
+                        .withDocument(Document.from(Map.of(
+                                "viewCount", counter.viewCount(),
+                                "likeCount", counter.likeCount(),
+                                "commentCount", counter.commentCount(),
+                                "popularityScore", counter.viewCount() + counter.likeCount() * 2,
+                                "trendingScore", TrendingScoreCalculator.shorlog(
+                                        counter.viewCount(), counter.likeCount(), counter.commentCount(),
+                                        counter.createdAt(), now)
+                        )))
+                        .withRetryOnConflict(3)
+                        .build())
+                .toList();
+
+        try {
+            elasticsearchOperations.bulkUpdate(queries, ShorlogDoc.class);
+        } catch (BulkFailureException e) {
+            // 아직 색인되지 않았거나 삭제된 문서는 건너뜀
+            log.warn("[ShorlogDoc] 카운터 부분 업데이트 일부 실패: {}", e.getFailedDocuments().keySet());
+        }
     }
 
-    @Transactional
-    public void updateUserProfileInShorlogs(Long userId, String newNickname, String newProfileImgUrl) {
-        List<ShorlogDoc> userShorlogs = shorlogDocRepository.findByUserId(userId);
-
-        userShorlogs.forEach(doc -> {
-            ShorlogDoc updatedDoc = ShorlogDoc.builder()
-                    .id(doc.getId())
-                    .userId(doc.getUserId())
-                    .nickname(newNickname)
-                    .profileImgUrl(newProfileImgUrl)
-                    .content(doc.getContent())
-                    .thumbnailUrl(doc.getThumbnailUrl())
-                    .hashtags(doc.getHashtags())
-                    .viewCount(doc.getViewCount())
-                    .likeCount(doc.getLikeCount())
-                    .commentCount(doc.getCommentCount())
-                    .popularityScore(doc.getPopularityScore())
-                    .createdAt(doc.getCreatedAt())
-                    .build();
-
-            shorlogDocRepository.save(updatedDoc);
-        });
+    // 작성자의 모든 문서에서 닉네임/프로필 이미지만 update_by_query로 변경 (충돌 문서는 건너뛰고 결과로 돌려줌)
+    public ByQueryResponse updateUserProfile(Long userId, String newNickname, String newProfileImgUrl) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("nickname", newNickname);
+        params.put("profileImgUrl", newProfileImgUrl);
+
+        UpdateQuery query = UpdateQuery.builder(new CriteriaQuery(new Criteria("userId").is(userId)))
+                .withScriptType(ScriptType.INLINE)
+                .withLang("painless")
+                .withScript(UPDATE_USER_PROFILE_SCRIPT)
+                .withParams(params)
+                .withAbortOnVersionConflict(false)
+                .build();
+
+        return elasticsearchOperations.updateByQuery(query, elasticsearchOperations.getIndexCoordinatesFor(ShorlogDoc.class));
     }
 }
-
-
-
-
@@ -16,9 +16,6 @@ public interface ShorlogHashtagRepository extends JpaRepository<ShorlogHashtag,
     @Query("SELECT h.name FROM ShorlogHashtag sh JOIN sh.hashtag h WHERE sh.shorlog.id = :shorlogId")
     List<String> findHashtagNamesByShorlogId(@Param("shorlogId") Long shorlogId);
 
-    @Query("SELECT CASE WHEN COUNT(sh) > 0 THEN true ELSE false END FROM ShorlogHashtag sh WHERE sh.shorlog.id = :shorlogId AND sh.hashtag.id = :hashtagId")
-    boolean existsByShorlogIdAndHashtagId(@Param("shorlogId") Long shorlogId, @Param("hashtagId") Long hashtagId);
-
     @Modifying(clearAutomatically = true)
     @Query("DELETE FROM ShorlogHashtag sh WHERE sh.shorlog.id = :shorlogId")
     void deleteByShorlogId(@Param("shorlogId") Long shorlogId);
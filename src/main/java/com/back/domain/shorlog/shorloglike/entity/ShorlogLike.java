@@ -17,6 +17,9 @@ import java.time.LocalDateTime;
                         name = "uk_shorlog_user",
                         columnNames = {"shorlog_id", "user_id"}
                 )
+        },
+        indexes = {
+                @Index(name = "idx_shorlog_like_created_at", columnList = "created_at, shorlog_id")
         })
 @EntityListeners(AuditingEntityListener.class)
 @Getter
@@ -7,5 +7,6 @@ import lombok.Getter;
 @AllArgsConstructor
 public class ShorlogLikeCreatedEvent {
     private Long shorlogId;
+    private Long userId;
 }
 
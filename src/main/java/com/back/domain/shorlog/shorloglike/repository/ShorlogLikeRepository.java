@@ -2,29 +2,40 @@ package com.back.domain.shorlog.shorloglike.repository;
 
 import com.back.domain.shorlog.shorlog.entity.Shorlog;
 import com.back.domain.shorlog.shorloglike.entity.ShorlogLike;
-import com.back.domain.user.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
-import java.util.Optional;
 
 @Repository
 public interface ShorlogLikeRepository extends JpaRepository<ShorlogLike, Long> {
 
     long countByShorlog(Shorlog shorlog);
 
-    boolean existsByShorlogAndUser(Shorlog shorlog, User user);
-
-    Optional<ShorlogLike> findByShorlogAndUser(Shorlog shorlog, User user);
-
     long countByShorlogUserId(Long userId);
 
+    // 유니크 키(uk_shorlog_user)로 중복을 걸러 한 문장으로 좋아요 (쇼로그가 없거나 이미 누른 경우 0)
+    @Modifying
+    @Query(value = """
+        INSERT IGNORE INTO shorlog_like (shorlog_id, user_id, created_at)
+        SELECT s.id, :userId, NOW(6)
+        FROM shorlog s
+        WHERE s.id = :shorlogId
+        """, nativeQuery = true)
+    int insertIgnore(@Param("shorlogId") Long shorlogId, @Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "DELETE FROM shorlog_like WHERE shorlog_id = :shorlogId AND user_id = :userId", nativeQuery = true)
+    int deleteByShorlogIdAndUserId(@Param("shorlogId") Long shorlogId, @Param("userId") Long userId);
+
+    boolean existsByShorlog_IdAndUser_Id(Long shorlogId, Long userId);
+
     @EntityGraph(attributePaths = "shorlog")
     Page<ShorlogLike> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
 
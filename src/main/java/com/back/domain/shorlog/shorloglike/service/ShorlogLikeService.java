@@ -1,16 +1,10 @@
 package com.back.domain.shorlog.shorloglike.service;
 
-import com.back.domain.notification.entity.NotificationType;
-import com.back.domain.notification.service.NotificationService;
-import com.back.domain.shorlog.shorlog.entity.Shorlog;
 import com.back.domain.shorlog.shorlog.repository.ShorlogRepository;
 import com.back.domain.shorlog.shorloglike.dto.ShorlogLikeResponse;
-import com.back.domain.shorlog.shorloglike.entity.ShorlogLike;
 import com.back.domain.shorlog.shorloglike.event.ShorlogLikeCreatedEvent;
 import com.back.domain.shorlog.shorloglike.event.ShorlogLikeDeletedEvent;
 import com.back.domain.shorlog.shorloglike.repository.ShorlogLikeRepository;
-import com.back.domain.user.user.entity.User;
-import com.back.domain.user.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -26,75 +20,48 @@ public class ShorlogLikeService {
 
     private final ShorlogLikeRepository shorlogLikeRepository;
     private final ShorlogRepository shorlogRepository;
-    private final UserRepository userRepository;
-    private final NotificationService notificationService;
     private final ApplicationEventPublisher eventPublisher;
 
+    // INSERT IGNORE + 카운터 UPDATE (+ 카운트 조회) 만으로 처리하고, 알림/ES 동기화는 커밋 후 이벤트로 넘긴다
     @Transactional
     public ShorlogLikeResponse addLike(Long shorlogId, Long userId) {
-        Shorlog shorlog = shorlogRepository.findById(shorlogId)
-                .orElseThrow(() -> new NoSuchElementException("쇼로그를 찾을 수 없습니다."));
-
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new NoSuchElementException("사용자를 찾을 수 없습니다."));
-
-        if (shorlogLikeRepository.existsByShorlogAndUser(shorlog, user)) {
+        if (shorlogLikeRepository.insertIgnore(shorlogId, userId) == 0) {
+            // 실패 원인 구분은 드문 경로에서만 조회
+            if (!shorlogRepository.existsById(shorlogId)) {
+                throw new NoSuchElementException("쇼로그를 찾을 수 없습니다.");
+            }
             throw new DataIntegrityViolationException("이미 좋아요를 누른 쇼로그입니다.");
         }
 
-        ShorlogLike shorlogLike = ShorlogLike.create(shorlog, user);
-
-        shorlogLikeRepository.save(shorlogLike);
-
-        long likeCount = shorlogLikeRepository.countByShorlog(shorlog);
+        shorlogRepository.incrementLikeCount(shorlogId);
+        eventPublisher.publishEvent(new ShorlogLikeCreatedEvent(shorlogId, userId));
 
-        eventPublisher.publishEvent(new ShorlogLikeCreatedEvent(shorlogId));
-
-        notificationService.send(
-                shorlog.getUser().getId(),     // 숏로그 작성자에게 알림
-                userId,                        // 좋아요 누른 사람
-                NotificationType.SHORLOG_LIKE,
-                shorlogId,
-                user.getNickname()
-        );
-
-        return new ShorlogLikeResponse(true, likeCount);
+        return new ShorlogLikeResponse(true, shorlogRepository.findLikeCount(shorlogId));
     }
 
     @Transactional
     public ShorlogLikeResponse removeLike(Long shorlogId, Long userId) {
-        Shorlog shorlog = shorlogRepository.findById(shorlogId)
-                .orElseThrow(() -> new NoSuchElementException("쇼로그를 찾을 수 없습니다."));
-
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new NoSuchElementException("사용자를 찾을 수 없습니다."));
-
-        ShorlogLike shorlogLike = shorlogLikeRepository.findByShorlogAndUser(shorlog, user)
-                .orElseThrow(() -> new NoSuchElementException("좋아요를 누르지 않은 쇼로그입니다."));
-
-        shorlogLikeRepository.delete(shorlogLike);
-
-        long likeCount = shorlogLikeRepository.countByShorlog(shorlog);
+        if (shorlogLikeRepository.deleteByShorlogIdAndUserId(shorlogId, userId) == 0) {
+            if (!shorlogRepository.existsById(shorlogId)) {
+                throw new NoSuchElementException("쇼로그를 찾을 수 없습니다.");
+            }
+            throw new NoSuchElementException("좋아요를 누르지 않은 쇼로그입니다.");
+        }
 
+        shorlogRepository.decrementLikeCount(shorlogId);
         eventPublisher.publishEvent(new ShorlogLikeDeletedEvent(shorlogId));
 
-        return new ShorlogLikeResponse(false, likeCount);
+        return new ShorlogLikeResponse(false, shorlogRepository.findLikeCount(shorlogId));
     }
 
     public ShorlogLikeResponse getLikeStatus(Long shorlogId, Long userId) {
-        Shorlog shorlog = shorlogRepository.findById(shorlogId)
-                .orElseThrow(() -> new NoSuchElementException("쇼로그를 찾을 수 없습니다."));
-
-        long likeCount = shorlogLikeRepository.countByShorlog(shorlog);
-
-        boolean isLiked = false;
-        if (userId != null) {
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new NoSuchElementException("사용자를 찾을 수 없습니다."));
-            isLiked = shorlogLikeRepository.existsByShorlogAndUser(shorlog, user);
+        if (!shorlogRepository.existsById(shorlogId)) {
+            throw new NoSuchElementException("쇼로그를 찾을 수 없습니다.");
         }
 
+        long likeCount = shorlogRepository.findLikeCount(shorlogId);
+        boolean isLiked = userId != null && shorlogLikeRepository.existsByShorlog_IdAndUser_Id(shorlogId, userId);
+
         return new ShorlogLikeResponse(isLiked, likeCount);
     }
 }
-
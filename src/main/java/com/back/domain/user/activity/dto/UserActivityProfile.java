@@ -0,0 +1,12 @@
+package com.back.domain.user.activity.dto;
+
+import java.util.List;
+
+// 추천에 쓰는 사용자 활동 신호 묶음 (각 목록은 최근 활동 순)
+public record UserActivityProfile(
+        List<UserActivityDto> likedPosts,
+        List<UserActivityDto> bookmarkedPosts,
+        List<UserCommentActivityDto> commentedPosts,
+        List<UserActivityDto> writtenPosts
+) {
+}
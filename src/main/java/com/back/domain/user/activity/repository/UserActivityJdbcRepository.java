@@ -0,0 +1,113 @@
+package com.back.domain.user.activity.repository;
+
+import com.back.domain.user.activity.dto.UserActivityDto;
+import com.back.domain.user.activity.dto.UserActivityProfile;
+import com.back.domain.user.activity.dto.UserCommentActivityDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class UserActivityJdbcRepository {
+
+    // 좋아요/북마크/댓글/작성글을 소스별 LIMIT을 건 UNION ALL 한 번으로 조회 (count 쿼리 없음)
+    private static final String SHORLOG_PROFILE_SQL = """
+            (SELECT 'LIKE' AS source, sl.shorlog_id AS post_id, sl.created_at AS activity_at, 1 AS cnt
+             FROM shorlog_like sl
+             WHERE sl.user_id = :userId
+             ORDER BY sl.created_at DESC
+             LIMIT :likeLimit)
+            UNION ALL
+            (SELECT 'BOOKMARK', sb.shorlog_id, sb.created_at, 1
+             FROM shorlog_bookmark sb
+             WHERE sb.user_id = :userId
+             ORDER BY sb.created_at DESC
+             LIMIT :bookmarkLimit)
+            UNION ALL
+            (SELECT 'COMMENT', c.target_id, MAX(c.created_at), COUNT(*)
+             FROM comments c
+             WHERE c.user_id = :userId AND c.target_type = 'SHORLOG'
+             GROUP BY c.target_id
+             ORDER BY MAX(c.id) DESC
+             LIMIT :commentLimit)
+            UNION ALL
+            (SELECT 'POST', s.id, s.created_at, 1
+             FROM shorlog s
+             WHERE s.user_id = :userId
+             ORDER BY s.id DESC
+             LIMIT :postLimit)
+            """;
+
+    private static final String BLOG_PROFILE_SQL = """
+            (SELECT 'LIKE' AS source, bl.blog_id AS post_id, bl.created_at AS activity_at, 1 AS cnt
+             FROM blog_like bl
+             WHERE bl.user_id = :userId
+             ORDER BY bl.created_at DESC
+             LIMIT :likeLimit)
+            UNION ALL
+            (SELECT 'BOOKMARK', bb.blog_id, bb.bookmarked_at, 1
+             FROM blog_bookmarks bb
+             WHERE bb.user_id = :userId
+             ORDER BY bb.bookmarked_at DESC
+             LIMIT :bookmarkLimit)
+            UNION ALL
+            (SELECT 'COMMENT', c.target_id, MAX(c.created_at), COUNT(*)
+             FROM comments c
+             WHERE c.user_id = :userId AND c.target_type = 'BLOG'
+             GROUP BY c.target_id
+             ORDER BY MAX(c.id) DESC
+             LIMIT :commentLimit)
+            UNION ALL
+            (SELECT 'POST', b.id, b.created_at, 1
+             FROM blogs b
+             WHERE b.user_id = :userId
+             ORDER BY b.id DESC
+             LIMIT :postLimit)
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public UserActivityProfile loadProfile(Long userId, boolean isShorlog,
+                                           int likeLimit, int bookmarkLimit, int commentLimit, int postLimit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("likeLimit", likeLimit)
+                .addValue("bookmarkLimit", bookmarkLimit)
+                .addValue("commentLimit", commentLimit)
+                .addValue("postLimit", postLimit);
+
+        List<UserActivityDto> liked = new ArrayList<>();
+        List<UserActivityDto> bookmarked = new ArrayList<>();
+        List<UserCommentActivityDto> commented = new ArrayList<>();
+        List<UserActivityDto> written = new ArrayList<>();
+
+        namedParameterJdbcTemplate.query(isShorlog ? SHORLOG_PROFILE_SQL : BLOG_PROFILE_SQL, params, rs -> {
+            long postId = rs.getLong("post_id");
+            LocalDateTime activityAt = rs.getTimestamp("activity_at").toLocalDateTime();
+
+            switch (rs.getString("source")) {
+                case "LIKE" -> liked.add(new UserActivityDto(postId, activityAt));
+                case "BOOKMARK" -> bookmarked.add(new UserActivityDto(postId, activityAt));
+                case "COMMENT" -> commented.add(new UserCommentActivityDto(postId, activityAt, rs.getLong("cnt")));
+                case "POST" -> written.add(new UserActivityDto(postId, activityAt));
+                default -> {
+                }
+            }
+        });
+
+        // UNION ALL 결과 순서는 보장되지 않으므로 소스별로 최근 활동 순 재정렬
+        liked.sort(Comparator.comparing(UserActivityDto::activityAt).reversed());
+        bookmarked.sort(Comparator.comparing(UserActivityDto::activityAt).reversed());
+        commented.sort(Comparator.comparing(UserCommentActivityDto::activityAt).reversed());
+        written.sort(Comparator.comparing(UserActivityDto::activityAt).reversed());
+
+        return new UserActivityProfile(liked, bookmarked, commented, written);
+    }
+}
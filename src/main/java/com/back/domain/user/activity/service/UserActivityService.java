@@ -1,112 +1,54 @@
 package com.back.domain.user.activity.service;
 
-import com.back.domain.blog.blog.repository.BlogRepository;
-import com.back.domain.blog.bookmark.repository.BlogBookmarkRepository;
-import com.back.domain.blog.like.repository.BlogLikeRepository;
-import com.back.domain.comments.comments.entity.CommentsTargetType;
-import com.back.domain.comments.comments.repository.CommentsRepository;
-import com.back.domain.shorlog.shorlog.repository.ShorlogRepository;
-import com.back.domain.shorlog.shorlogbookmark.repository.ShorlogBookmarkRepository;
-import com.back.domain.shorlog.shorloglike.repository.ShorlogLikeRepository;
+import com.back.domain.user.activity.dto.UserActivityProfile;
+import com.back.domain.user.activity.repository.UserActivityJdbcRepository;
 import com.back.domain.user.activity.type.UserActivityType;
-import com.back.domain.user.activity.dto.UserCommentActivityDto;
-import com.back.domain.user.activity.dto.UserActivityDto;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
-import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+// 추천용 사용자 활동 신호 조회
+// 피드 페이지를 넘길 때마다 같은 신호를 다시 읽지 않도록 사용자별로 잠깐(30초) 캐시한다.
 @Service
 @RequiredArgsConstructor
 public class UserActivityService {
-    private final ShorlogLikeRepository shorlogLikeRepository;
-    private final BlogLikeRepository blogLikeRepository;
 
-    private final ShorlogBookmarkRepository shorlogBookmarkRepository;
-    private final BlogBookmarkRepository blogBookmarkRepository;
+    private static final long PROFILE_TTL_MS = 30_000;
 
-    private final CommentsRepository commentsRepository;
+    private final UserActivityJdbcRepository userActivityJdbcRepository;
 
-    private final ShorlogRepository shorlogRepository;
-    private final BlogRepository blogRepository;
+    private final Map<String, CachedProfile> profileCache = new ConcurrentHashMap<>();
 
-    // 좋아요한 포스터 가져오기
-    public List<UserActivityDto> getUserLikedPosts(Long userId, boolean isShorlog) {
-        return getUserLikedPosts(userId, isShorlog, -1);
-    }
-
-    public List<UserActivityDto> getUserLikedPosts(Long userId, boolean isShorlog, int limit) {
-        int finalLimit = getValidLimit(limit, UserActivityType.REACTION.getLimit());
-        Pageable pageable = PageRequest.of(0, finalLimit);
+    public UserActivityProfile getActivityProfile(Long userId, boolean isShorlog,
+                                                  int likeLimit, int bookmarkLimit, int commentLimit, int postLimit) {
+        String key = userId + ":" + isShorlog + ":" + likeLimit + ":" + bookmarkLimit + ":" + commentLimit + ":" + postLimit;
+        long now = System.currentTimeMillis();
 
-        if (isShorlog) {
-            return shorlogLikeRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable).stream()
-                    .map(UserActivityDto::new)
-                    .toList();
+        CachedProfile cached = profileCache.get(key);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.profile();
         }
-        return blogLikeRepository.findByUserIdWithBlog(userId, pageable).stream()
-                .map(UserActivityDto::new)
-                .toList();
-    }
-
-    // 북마크한 포스트 가져오기
-    public List<UserActivityDto> getUserBookmarkedPosts(Long userId, boolean isShorlog) {
-        return getUserBookmarkedPosts(userId, isShorlog, -1);
-    }
 
-    public List<UserActivityDto> getUserBookmarkedPosts(Long userId, boolean isShorlog, int limit) {
-        int finalLimit = getValidLimit(limit, UserActivityType.REACTION.getLimit());
-        Pageable pageable = PageRequest.of(0, finalLimit);
-
-        if (isShorlog) {
-            return shorlogBookmarkRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable).stream()
-                    .map(UserActivityDto::new)
-                    .toList();
-        }
-        return blogBookmarkRepository.findByUserIdWithBlog(userId, pageable).stream()
-                .map(UserActivityDto::new)
-                .toList();
+        UserActivityProfile profile = userActivityJdbcRepository.loadProfile(
+                userId,
+                isShorlog,
+                getValidLimit(likeLimit, UserActivityType.REACTION.getLimit()),
+                getValidLimit(bookmarkLimit, UserActivityType.REACTION.getLimit()),
+                getValidLimit(commentLimit, UserActivityType.COMMENT.getLimit()),
+                getValidLimit(postLimit, UserActivityType.POST.getLimit())
+        );
+        profileCache.put(key, new CachedProfile(profile, now + PROFILE_TTL_MS));
+        return profile;
     }
 
-    // 댓글 단 포스트 가져오기
-    public List<UserCommentActivityDto> getUserCommentedPosts(Long userId, boolean isShorlog) {
-        return getUserCommentedPosts(userId, isShorlog, -1);
-    }
-
-    public List<UserCommentActivityDto> getUserCommentedPosts(Long userId, boolean isShorlog, int limit) {
-        int finalLimit = getValidLimit(limit, UserActivityType.COMMENT.getLimit());
-        Pageable pageable = PageRequest.of(0, finalLimit);
-
-        if (isShorlog) {
-            return commentsRepository.findUserCommentActivities(userId, CommentsTargetType.SHORLOG, pageable)
-                    .map(o -> new UserCommentActivityDto((Long) o[0], (LocalDateTime) o[1], (Long) o[2]))
-                    .toList();
-        }
-        return commentsRepository.findUserCommentActivities(userId, CommentsTargetType.BLOG, pageable)
-                .map(o -> new UserCommentActivityDto((Long) o[0], (LocalDateTime) o[1], (Long) o[2]))
-                .toList();
-    }
-
-    // 내가 작성한 포스트 가져오기
-    public List<UserActivityDto> getUserWrittenPosts(Long userId, boolean isShorlog) {
-        return getUserWrittenPosts(userId, isShorlog, -1);
-    }
-
-    public List<UserActivityDto> getUserWrittenPosts(Long userId, boolean isShorlog, int limit) {
-        int finalLimit = getValidLimit(limit, UserActivityType.POST.getLimit());
-        Pageable pageable = PageRequest.of(0, finalLimit);
-
-        if (isShorlog) {
-            return shorlogRepository.findUserShorlogActivities(userId, pageable).stream()
-                    .map(o -> new UserActivityDto((Long) o[0], (LocalDateTime) o[1]))
-                    .toList();
-        }
-        return blogRepository.findUserBlogActivities(userId, pageable).stream()
-                .map(o -> new UserActivityDto((Long) o[0], (LocalDateTime) o[1]))
-                .toList();
+    // 만료된 항목 정리 (캐시가 사용자 수만큼 계속 커지지 않도록)
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpiredProfiles() {
+        long now = System.currentTimeMillis();
+        profileCache.values().removeIf(cached -> cached.expiresAt() <= now);
     }
 
     private int getValidLimit(int limit, int defaultLimit) {
@@ -115,4 +57,7 @@ public class UserActivityService {
         }
         return limit;
     }
+
+    private record CachedProfile(UserActivityProfile profile, long expiresAt) {
+    }
 }
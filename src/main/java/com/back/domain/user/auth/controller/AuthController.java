@@ -4,6 +4,7 @@ import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.CookieValue;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -12,6 +13,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.back.domain.recommend.recentview.service.RecentViewService;
 import com.back.domain.user.auth.dto.OAuth2CompleteJoinRequestDto;
 import com.back.domain.user.auth.dto.PasswordResetRequestDto;
 import com.back.domain.user.auth.dto.UserJoinRequestDto;
@@ -33,6 +35,8 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import static com.back.domain.recommend.recentview.constants.GuestConstants.GUEST_COOKIE_NAME;
+
 @RestController
 @RequiredArgsConstructor
 @Slf4j
@@ -43,6 +47,7 @@ public class AuthController {
     private final JwtTokenProvider jwtTokenProvider;
     private final AuthService userService;
     private final RefreshTokenService refreshTokenService;
+    private final RecentViewService recentViewService;
     private final Rq rq;
 
     @PostMapping("/signup")
@@ -57,8 +62,11 @@ public class AuthController {
 
     @PostMapping("/complete-oauth2-join")
     @Operation(summary = "OAuth2 회원 가입 완료 및 로그인을 위한 추가 API")
-    public RsData<UserDto> toCompleteJoinForOAuth2(@Valid @RequestBody OAuth2CompleteJoinRequestDto dto) {
+    public RsData<UserDto> toCompleteJoinForOAuth2(
+            @CookieValue(value = GUEST_COOKIE_NAME, required = false) String guestId,
+            @Valid @RequestBody OAuth2CompleteJoinRequestDto dto) {
         User user = userService.toCompleteJoinOAuth2User(dto);
+        recentViewService.mergeGuestHistoryToUser(guestId, user.getId());
 
         refreshTokenService.deleteRefreshTokenByUserId(user.getId());
 
@@ -77,8 +85,11 @@ public class AuthController {
 
     @PostMapping("/login")
     @Operation(summary = "로그인")
-    public RsData<UserLoginResponseDto> login(@Valid @RequestBody UserLoginRequestDto dto) {
+    public RsData<UserLoginResponseDto> login(
+            @CookieValue(value = GUEST_COOKIE_NAME, required = false) String guestId,
+            @Valid @RequestBody UserLoginRequestDto dto) {
         User user = userService.login(dto);
+        recentViewService.mergeGuestHistoryToUser(guestId, user.getId());
 
         String accessToken = jwtTokenProvider.generateAccessToken(user.getId(), user.getRole().name());
         rq.setCookie("accessToken", accessToken);
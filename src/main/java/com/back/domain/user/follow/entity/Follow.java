@@ -16,7 +16,10 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
-@Table(name = "follow", uniqueConstraints = {@UniqueConstraint(columnNames = {"from_user_id", "to_user_id"})})
+@Table(name = "follow",
+        uniqueConstraints = {@UniqueConstraint(columnNames = {"from_user_id", "to_user_id"})},
+        indexes = {@Index(name = "idx_follow_created_at", columnList = "created_at, to_user_id")}
+)
 public class Follow{
 
     @Id
@@ -55,10 +55,9 @@ public class FollowService {
         // 알림 전송
         notificationService.send(
                 followingId,                    // 알림 받을 사람
-                followerId,                     // 알림 보낸 사람
+                follower,                       // 알림 보낸 사람
                 NotificationType.FOLLOW,        // 타입
-                followerId,                     // targetId: 누가 팔로우했는지를 링크하거나 상세페이지 id
-                follower.getNickname()          // 메시지 생성용 닉네임
+                followerId                      // targetId: 누가 팔로우했는지를 링크하거나 상세페이지 id
         );
 
         return follow;
@@ -22,9 +22,11 @@ import com.back.domain.user.user.dto.CreatorListResponseDto;
 import com.back.domain.user.user.dto.FullCreatorListResponseDto;
 import com.back.domain.user.user.dto.MyProfileResponseDto;
 import com.back.domain.user.user.dto.ProfileResponseDto;
+import com.back.domain.user.user.dto.ProfileSyncStatusDto;
 import com.back.domain.user.user.dto.UpdateProfileRequestDto;
 import com.back.domain.user.user.dto.UserDto;
 import com.back.domain.user.user.dto.UserListResponseDto;
+import com.back.domain.user.user.service.UserProfileDocSyncService;
 import com.back.domain.user.user.service.UserService;
 import com.back.global.config.security.SecurityUser;
 import com.back.global.rsData.RsData;
@@ -41,6 +43,7 @@ import lombok.RequiredArgsConstructor;
 public class UserController {
     private final UserService userService;
     private final BlogService blogService;
+    private final UserProfileDocSyncService userProfileDocSyncService;
 
     @GetMapping()
     @Operation(summary = "전체 유저 목록 조회")
@@ -72,6 +75,13 @@ public class UserController {
         return RsData.of("200", "프로필 수정 성공", userDto);
     }
 
+    @GetMapping("/me/profile-sync")
+    @Operation(summary = "프로필 변경 반영 상태 조회")
+    public RsData<ProfileSyncStatusDto> getProfileSyncStatus(@AuthenticationPrincipal SecurityUser user) {
+        ProfileSyncStatusDto status = userProfileDocSyncService.getStatus(user.getId());
+        return RsData.of("200", "프로필 변경 반영 상태 조회 성공", status);
+    }
+
     @GetMapping("/check-nickname")
     @Operation(summary = "닉네임 중복 확인")
     public RsData<Void> checkNicknameAvailable(@RequestParam("nickname") String nickname) {
@@ -0,0 +1,17 @@
+package com.back.domain.user.user.dto;
+
+import java.time.LocalDateTime;
+
+// 검색 문서 작성자 정보 동기화 진행 상태
+public record ProfileSyncStatusDto(
+        State state,
+        int attempts,
+        long updatedShorlogs,
+        long updatedBlogs,
+        String lastError,
+        LocalDateTime updatedAt
+) {
+    public enum State {
+        PENDING, RUNNING, DONE, FAILED
+    }
+}
@@ -0,0 +1,5 @@
+package com.back.domain.user.user.event;
+
+// 닉네임/프로필 이미지 변경 (검색 문서의 작성자 정보 동기화용)
+public record UserProfileUpdatedEvent(Long userId, String nickname, String profileImgUrl) {
+}
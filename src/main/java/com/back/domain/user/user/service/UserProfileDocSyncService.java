@@ -0,0 +1,221 @@
+package com.back.domain.user.user.service;
+
+import com.back.domain.blog.blogdoc.service.BlogDocIndexer;
+import com.back.domain.shorlog.shorlogdoc.service.ShorlogDocService;
+import com.back.domain.user.user.dto.ProfileSyncStatusDto;
+import com.back.domain.user.user.dto.ProfileSyncStatusDto.State;
+import com.back.domain.user.user.event.UserProfileUpdatedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.elasticsearch.core.query.ByQueryResponse;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 프로필 변경 시 숏로그/블로그 문서의 작성자 정보를 백그라운드에서 update_by_query로 갱신
+// - 요청 스레드는 작업만 등록하고 바로 반환
+// - 작업과 진행 상태는 Redis에 둔다 (재시작해도 남고, 어느 인스턴스가 처리하든 상태 조회가 같은 값을 본다)
+//   작업: HASH(userId → 작업 JSON) + ZSET(userId → 다음 실행 시각)
+// - 같은 유저의 작업은 최신 값 하나로 합쳐진다 (연속 변경 시 마지막 값만 반영)
+// - 실패/버전 충돌 시 지수 백오프로 재시도 (update_by_query는 같은 값을 덮어쓰므로 재실행해도 안전)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserProfileDocSyncService {
+
+    private static final long POLL_INTERVAL_MS = 1_000;
+    private static final int CLAIM_BATCH_SIZE = 10;
+    private static final int MAX_ATTEMPTS = 5;
+    private static final long BASE_BACKOFF_SECONDS = 5;
+    private static final Duration LEASE = Duration.ofMinutes(5);
+    private static final Duration STATUS_RETENTION = Duration.ofHours(1);
+
+    private static final String QUEUE_KEY = "profile-sync:queue";
+    private static final String JOBS_KEY = "profile-sync:jobs";
+    private static final String STATUS_KEY_PREFIX = "profile-sync:status:";
+
+    // 작업 등록 (같은 유저의 대기 작업은 덮어쓰고 바로 실행 대상으로)
+    private static final RedisScript<Long> ENQUEUE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HSET', KEYS[2], ARGV[1], ARGV[2])
+            redis.call('ZADD', KEYS[1], ARGV[3], ARGV[1])
+            return 1
+            """, Long.class);
+
+    // 실행 시각이 된 작업을 가져가면서 다음 실행 시각을 lease 만료 시각으로 미뤄 다른 인스턴스가 같은 작업을 집지 않게 한다
+    // 처리 도중 인스턴스가 죽으면 lease 이후 다시 대상이 된다. 반환: [userId, 작업 JSON, userId, 작업 JSON, ...]
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2]))
+            local claimed = {}
+            for _, userId in ipairs(due) do
+                local job = redis.call('HGET', KEYS[2], userId)
+                if job then
+                    redis.call('ZADD', KEYS[1], ARGV[3], userId)
+                    claimed[#claimed + 1] = userId
+                    claimed[#claimed + 1] = job
+                else
+                    redis.call('ZREM', KEYS[1], userId)
+                end
+            end
+            return claimed
+            """, List.class);
+
+    // 가져간 작업이 그대로일 때만 삭제(완료/최종 실패)하거나 재시도 작업으로 바꾼다
+    // 처리 중에 더 최신 변경이 들어왔다면 그쪽을 유지하고 0을 반환
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[2], ARGV[1]) ~= ARGV[2] then
+                return 0
+            end
+            if #ARGV > 2 then
+                redis.call('HSET', KEYS[2], ARGV[1], ARGV[3])
+                redis.call('ZADD', KEYS[1], ARGV[4], ARGV[1])
+            else
+                redis.call('HDEL', KEYS[2], ARGV[1])
+                redis.call('ZREM', KEYS[1], ARGV[1])
+            end
+            return 1
+            """, Long.class);
+
+    private final ShorlogDocService shorlogDocService;
+    private final BlogDocIndexer blogDocIndexer;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProfileUpdated(UserProfileUpdatedEvent event) {
+        long now = System.currentTimeMillis();
+        SyncJob job = new SyncJob(event.nickname(), event.profileImgUrl(), 0, now);
+
+        stringRedisTemplate.execute(ENQUEUE_SCRIPT, List.of(QUEUE_KEY, JOBS_KEY),
+                event.userId().toString(), toJson(job), String.valueOf(now));
+        updateStatus(event.userId(), State.PENDING, 0, 0, 0, null);
+    }
+
+    public ProfileSyncStatusDto getStatus(Long userId) {
+        String status = stringRedisTemplate.opsForValue().get(STATUS_KEY_PREFIX + userId);
+        if (status == null) {
+            return null;
+        }
+
+        try {
+            return objectMapper.readValue(status, ProfileSyncStatusDto.class);
+        } catch (JsonProcessingException e) {
+            log.warn("[ProfileSync] userId={} 상태 읽기 실패", userId, e);
+            return null;
+        }
+    }
+
+    @Scheduled(fixedDelay = POLL_INTERVAL_MS)
+    public void processPendingJobs() {
+        long now = System.currentTimeMillis();
+
+        @SuppressWarnings("unchecked")
+        List<String> claimed = stringRedisTemplate.execute(CLAIM_SCRIPT, List.of(QUEUE_KEY, JOBS_KEY),
+                String.valueOf(now), String.valueOf(CLAIM_BATCH_SIZE), String.valueOf(now + LEASE.toMillis()));
+        if (claimed == null) {
+            return;
+        }
+
+        for (int i = 0; i + 1 < claimed.size(); i += 2) {
+            run(Long.parseLong(claimed.get(i)), claimed.get(i + 1));
+        }
+    }
+
+    private void run(Long userId, String payload) {
+        SyncJob job;
+        try {
+            job = objectMapper.readValue(payload, SyncJob.class);
+        } catch (JsonProcessingException e) {
+            log.error("[ProfileSync] userId={} 작업 형식이 올바르지 않아 버림: {}", userId, payload, e);
+            complete(userId, payload);
+            return;
+        }
+
+        int attempt = job.attempts() + 1;
+        updateStatus(userId, State.RUNNING, attempt, 0, 0, null);
+
+        try {
+            ByQueryResponse shorlogs = shorlogDocService.updateUserProfile(userId, job.nickname(), job.profileImgUrl());
+            ByQueryResponse blogs = blogDocIndexer.updateUserProfile(userId, job.nickname(), job.profileImgUrl());
+
+            long conflicts = shorlogs.getVersionConflicts() + blogs.getVersionConflicts();
+            int failures = shorlogs.getFailures().size() + blogs.getFailures().size();
+            if (conflicts > 0 || failures > 0) {
+                retryOrFail(userId, payload, job, attempt, shorlogs.getUpdated(), blogs.getUpdated(),
+                        "버전 충돌 %d건, 실패 %d건".formatted(conflicts, failures));
+                return;
+            }
+
+            // 처리 중 새 변경이 들어왔다면 그 작업이 대기 상태를 이어 간다
+            if (complete(userId, payload)) {
+                updateStatus(userId, State.DONE, attempt, shorlogs.getUpdated(), blogs.getUpdated(), null);
+            }
+            log.info("[ProfileSync] userId={} 작성자 정보 갱신 완료 (숏로그 {}건, 블로그 {}건)",
+                    userId, shorlogs.getUpdated(), blogs.getUpdated());
+        } catch (Exception e) {
+            retryOrFail(userId, payload, job, attempt, 0, 0, e.getMessage());
+        }
+    }
+
+    private void retryOrFail(Long userId, String payload, SyncJob job, int attempt,
+                             long updatedShorlogs, long updatedBlogs, String error) {
+        if (attempt >= MAX_ATTEMPTS) {
+            if (complete(userId, payload)) {
+                updateStatus(userId, State.FAILED, attempt, updatedShorlogs, updatedBlogs, error);
+            }
+            log.error("[ProfileSync] userId={} 작성자 정보 갱신 최종 실패 ({}회): {}", userId, attempt, error);
+            return;
+        }
+
+        long backoffSeconds = BASE_BACKOFF_SECONDS << (attempt - 1);
+        SyncJob retry = new SyncJob(job.nickname(), job.profileImgUrl(), attempt, job.requestedAt());
+        long nextAttemptAt = System.currentTimeMillis() + Duration.ofSeconds(backoffSeconds).toMillis();
+
+        // 그 사이 더 최신 변경이 들어왔다면 그쪽을 유지
+        if (reschedule(userId, payload, retry, nextAttemptAt)) {
+            updateStatus(userId, State.PENDING, attempt, updatedShorlogs, updatedBlogs, error);
+        }
+        log.warn("[ProfileSync] userId={} 작성자 정보 갱신 실패 - {}초 후 재시도 ({}회): {}",
+                userId, backoffSeconds, attempt, error);
+    }
+
+    private boolean complete(Long userId, String payload) {
+        Long result = stringRedisTemplate.execute(COMPLETE_SCRIPT, List.of(QUEUE_KEY, JOBS_KEY),
+                userId.toString(), payload);
+        return Long.valueOf(1).equals(result);
+    }
+
+    private boolean reschedule(Long userId, String payload, SyncJob retry, long nextAttemptAt) {
+        Long result = stringRedisTemplate.execute(COMPLETE_SCRIPT, List.of(QUEUE_KEY, JOBS_KEY),
+                userId.toString(), payload, toJson(retry), String.valueOf(nextAttemptAt));
+        return Long.valueOf(1).equals(result);
+    }
+
+    private void updateStatus(Long userId, State state, int attempts, long updatedShorlogs, long updatedBlogs, String error) {
+        ProfileSyncStatusDto status = new ProfileSyncStatusDto(
+                state, attempts, updatedShorlogs, updatedBlogs, error, LocalDateTime.now());
+        stringRedisTemplate.opsForValue().set(STATUS_KEY_PREFIX + userId, toJson(status), STATUS_RETENTION);
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("프로필 동기화 작업 JSON 변환 실패", e);
+        }
+    }
+
+    // requestedAt: 같은 값으로 다시 변경한 요청도 처리 중인 작업과 구분되도록
+    record SyncJob(String nickname, String profileImgUrl, int attempts, long requestedAt) {
+    }
+}
@@ -1,24 +1,24 @@
 package com.back.domain.user.user.service;
 
 import com.back.domain.blog.blog.repository.BlogRepository;
-import com.back.domain.blog.blogdoc.service.BlogDocIndexer;
 import com.back.domain.blog.bookmark.repository.BlogBookmarkRepository;
 import com.back.domain.blog.like.repository.BlogLikeRepository;
 import com.back.domain.shorlog.shorlog.repository.ShorlogRepository;
 import com.back.domain.shorlog.shorlogbookmark.repository.ShorlogBookmarkRepository;
-import com.back.domain.shorlog.shorlogdoc.service.ShorlogDocService;
 import com.back.domain.shorlog.shorlogimage.repository.ShorlogImagesRepository;
 import com.back.domain.shorlog.shorloglike.repository.ShorlogLikeRepository;
 import com.back.domain.user.follow.repository.FollowRepository;
 import com.back.domain.user.follow.service.FollowService;
 import com.back.domain.user.user.dto.*;
 import com.back.domain.user.user.entity.User;
+import com.back.domain.user.user.event.UserProfileUpdatedEvent;
 import com.back.domain.user.user.exception.UserErrorCase;
 import com.back.domain.user.user.file.ProfileImageService;
 import com.back.domain.user.user.repository.UserRepository;
 import com.back.global.exception.ServiceException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -42,8 +42,7 @@ public class UserService {
     private final FollowService followService;
     private final ProfileImageService profileImageService;
     private final ShorlogImagesRepository shorlogImagesRepository;
-    private final ShorlogDocService shorlogDocService;
-    private final BlogDocIndexer blogDocIndexer;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
 
@@ -120,8 +119,8 @@ public class UserService {
 
         user.updateProfile(dto.nickname(), dto.bio(), updatedImageUrl);
 
-        shorlogDocService.updateUserProfileInShorlogs(userId, dto.nickname(), updatedImageUrl);
-        blogDocIndexer.updateUserProfileInBlogs(userId, dto.nickname(), updatedImageUrl);
+        // 검색 문서의 작성자 정보는 커밋 후 백그라운드에서 갱신 (UserProfileDocSyncService)
+        eventPublisher.publishEvent(new UserProfileUpdatedEvent(userId, dto.nickname(), updatedImageUrl));
         return new UserDto(user);
     }
 
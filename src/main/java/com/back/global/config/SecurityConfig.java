@@ -64,6 +64,9 @@ public class SecurityConfig {
                         "/api/v1/shorlog/{id}",
                         "/api/v1/shorlog/feed",
                         "/api/v1/shorlog/feed/recommended",
+                        "/api/v1/shorlog/feed/random",
+                        "/api/v1/shorlog/feed/recommended/slice",
+                        "/api/v1/shorlog/feed/latest",
                         "/api/v1/shorlog/search",
                         "/api/v1/shorlog/{id:\\d+}/view",
                         "/api/v1/shorlog/user/{userId:\\d+}",
@@ -155,6 +158,7 @@ public class SecurityConfig {
                 configuration.setAllowedOriginPatterns(List.of("*"));
                 configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
                 configuration.setAllowedHeaders(List.of("*"));
+                configuration.setExposedHeaders(List.of("X-Feed-Seed")); // 랜덤 피드 시드
                 configuration.setAllowCredentials(true);
 
                 UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -0,0 +1,24 @@
+package com.back.global.config.scheduling;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+public class SchedulingConfig {
+
+    // @Scheduled 작업 전용 스레드 풀
+    // 기본값(스레드 1개)이면 flush/relay/heartbeat 등 주기 작업이 하나만 느려져도 전부 밀리므로 여러 개를 둔다
+    // 오래 걸리는 작업은 여기서 직접 돌리지 않고 maintenanceExecutor 등으로 넘긴다
+    // 빈 이름이 taskScheduler여야 WebSocket 브로커의 스케줄러 대신 @Scheduled에 쓰인다
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix("scheduling-");
+        scheduler.setPoolSize(8);
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(10);
+        scheduler.initialize();
+        return scheduler;
+    }
+}
@@ -1,10 +1,12 @@
 package com.back.global.config.security;
 
+import com.back.domain.recommend.recentview.service.RecentViewService;
 import com.back.domain.user.refreshToken.service.RefreshTokenService;
 import com.back.domain.user.user.entity.User;
 import com.back.domain.user.user.repository.UserRepository;
 import com.back.global.config.security.jwt.JwtTokenProvider;
 import com.back.global.rq.Rq;
+import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -13,9 +15,12 @@ import org.springframework.security.web.DefaultRedirectStrategy;
 import org.springframework.security.web.RedirectStrategy;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
+import org.springframework.web.util.WebUtils;
 
 import java.io.IOException;
 
+import static com.back.domain.recommend.recentview.constants.GuestConstants.GUEST_COOKIE_NAME;
+
 @Component
 @RequiredArgsConstructor
 public class OAuth2LoginSuccessHandler implements AuthenticationSuccessHandler {
@@ -23,6 +28,7 @@ public class OAuth2LoginSuccessHandler implements AuthenticationSuccessHandler {
     private final RefreshTokenService refreshTokenService;
     private final Rq rq;
     private final UserRepository userRepository;
+    private final RecentViewService recentViewService;
     private final RedirectStrategy redirectStrategy = new DefaultRedirectStrategy();
 
     @Override
@@ -45,6 +51,10 @@ public class OAuth2LoginSuccessHandler implements AuthenticationSuccessHandler {
         }
 
         // 가입되어있는 소셜 사용자
+        // 게스트로 본 기록을 회원 기록으로 옮김 (로그인 시 한 번)
+        Cookie guestCookie = WebUtils.getCookie(request, GUEST_COOKIE_NAME);
+        recentViewService.mergeGuestHistoryToUser(guestCookie == null ? null : guestCookie.getValue(), userId);
+
         // 기존 리프레시 토큰 삭제 후
         refreshTokenService.deleteRefreshTokenByUserId(userId);
         // 새로운 토큰 발급
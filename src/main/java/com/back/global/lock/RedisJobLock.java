@@ -0,0 +1,82 @@
+package com.back.global.lock;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+// 인스턴스가 여러 대일 때 같은 배치 작업이 동시에 돌지 않게 하는 Redis 잠금 (ShedLock 방식)
+// - lockAtMostFor: 실행 중인 인스턴스가 죽어도 이 시간이 지나면 잠금이 풀린다
+// - lockAtLeastFor: 작업이 빨리 끝나도 이 시간 동안은 잠금을 유지해서, 시계가 조금 다른 인스턴스가 같은 주기를 다시 돌지 않게 한다
+// 잠금 대상 작업은 모두 멱등이라 Redis 장애 시에는 잠금 없이 실행한다 (중복 실행 < 작업 중단)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisJobLock {
+
+    private static final String KEY_PREFIX = "job-lock:";
+
+    // 내가 잡은 잠금일 때만 해제 (남은 최소 유지 시간이 있으면 TTL만 줄인다)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+                return 0
+            end
+            local keepMillis = tonumber(ARGV[2])
+            if keepMillis > 0 then
+                redis.call('PEXPIRE', KEYS[1], keepMillis)
+            else
+                redis.call('DEL', KEYS[1])
+            end
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 잠금을 잡았으면(또는 Redis 장애로 확인할 수 없으면) 작업을 실행하고 true, 다른 인스턴스가 실행 중이면 false
+    public boolean runExclusively(String jobName, Duration lockAtMostFor, Duration lockAtLeastFor, Runnable task) {
+        String key = KEY_PREFIX + jobName;
+        String token = UUID.randomUUID().toString();
+
+        boolean locked;
+        try {
+            locked = Boolean.TRUE.equals(
+                    stringRedisTemplate.opsForValue().setIfAbsent(key, token, lockAtMostFor));
+        } catch (Exception e) {
+            log.warn("[RedisJobLock] 잠금 획득 실패 - 잠금 없이 실행 ({})", jobName, e);
+            task.run();
+            return true;
+        }
+
+        if (!locked) {
+            log.debug("[RedisJobLock] 다른 인스턴스가 실행 중이라 건너뜀 ({})", jobName);
+            return false;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        try {
+            task.run();
+        } finally {
+            release(key, token, lockAtLeastFor.toMillis() - (System.currentTimeMillis() - startedAt));
+        }
+        return true;
+    }
+
+    public boolean runExclusively(String jobName, Duration lockAtMostFor, Runnable task) {
+        return runExclusively(jobName, lockAtMostFor, Duration.ZERO, task);
+    }
+
+    private void release(String key, String token, long keepMillis) {
+        try {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(key), token, String.valueOf(Math.max(keepMillis, 0)));
+        } catch (Exception e) {
+            // 해제하지 못해도 lockAtMostFor가 지나면 풀린다
+            log.warn("[RedisJobLock] 잠금 해제 실패 ({})", key, e);
+        }
+    }
+}
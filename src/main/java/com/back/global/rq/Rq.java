@@ -42,4 +42,8 @@ public class Rq {
     public void deleteCookie(String name) {
         setCookie(name, null);
     }
+
+    public void setHeader(String name, String value) {
+        httpServletResponse.setHeader(name, value);
+    }
 }
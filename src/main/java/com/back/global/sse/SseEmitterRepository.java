@@ -3,25 +3,37 @@ package com.back.global.sse;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 
+// 사용자별 SSE 연결 (탭/기기마다 하나씩, 여러 개 허용)
 @Component
 public class SseEmitterRepository {
 
-    private final Map<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
+    private final Map<Long, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
 
     public SseEmitter save(Long userId, SseEmitter emitter) {
-        emitters.put(userId, emitter);
+        emitters.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(emitter);
         return emitter;
     }
 
-    public Optional<SseEmitter> get(Long userId) {
-        return Optional.ofNullable(emitters.get(userId));
+    public List<SseEmitter> get(Long userId) {
+        Set<SseEmitter> userEmitters = emitters.get(userId);
+        return userEmitters == null ? List.of() : List.copyOf(userEmitters);
     }
 
-    public void delete(Long userId) {
-        emitters.remove(userId);
+    public void delete(Long userId, SseEmitter emitter) {
+        // 마지막 연결이 끊기면 사용자 항목도 제거 (그 사이 새 연결이 추가되면 유지)
+        emitters.computeIfPresent(userId, (id, userEmitters) -> {
+            userEmitters.remove(emitter);
+            return userEmitters.isEmpty() ? null : userEmitters;
+        });
+    }
+
+    public void forEach(BiConsumer<Long, SseEmitter> action) {
+        emitters.forEach((userId, userEmitters) -> userEmitters.forEach(emitter -> action.accept(userId, emitter)));
     }
 }
@@ -0,0 +1,203 @@
+package com.back.global.sse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 인스턴스 간 SSE 전달
+// SSE 연결은 접속한 노드의 메모리에만 있으므로, 보낼 이벤트는 Redis 채널로 발행하고
+// 모든 노드가 구독해서 자기 노드에 연결된 사용자에게만 전송한다 (sticky session 불필요).
+// - 사용자별 최근 이벤트를 Redis 리스트(링 버퍼)에 남겨서, 재연결 시 Last-Event-ID 이후 이벤트를 다시 보낸다
+// - 주기적으로 heartbeat를 보내 끊긴 연결을 정리한다 (전용 스레드, 느린 연결이 공용 스케줄러를 막지 않도록)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseEventBroker implements MessageListener {
+
+    private static final ChannelTopic CHANNEL = new ChannelTopic("sse:events");
+    private static final String REPLAY_KEY_PREFIX = "sse:replay:";
+    private static final int REPLAY_BUFFER_SIZE = 50;
+    private static final Duration REPLAY_TTL = Duration.ofHours(1);
+    private static final long EMITTER_TIMEOUT_MS = 60L * 60L * 1000;
+    private static final long HEARTBEAT_INTERVAL_MS = 25_000;
+
+    // 버퍼 기록(개수 제한/만료 갱신)과 발행을 한 번의 왕복으로 처리 (버퍼에 없는 이벤트가 발행되는 일이 없음)
+    private static final RedisScript<Long> BUFFER_AND_PUBLISH_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('RPUSH', KEYS[1], ARGV[1])
+            redis.call('LTRIM', KEYS[1], -tonumber(ARGV[2]), -1)
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            return redis.call('PUBLISH', ARGV[4], ARGV[1])
+            """, Long.class);
+
+    private final SseEmitterRepository emitterRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+
+    private final ScheduledExecutorService heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("sse-heartbeat").daemon(true).factory()
+    );
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, CHANNEL);
+        heartbeatExecutor.scheduleWithFixedDelay(
+                this::heartbeat, HEARTBEAT_INTERVAL_MS, HEARTBEAT_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeatExecutor.shutdownNow();
+    }
+
+    // 새 연결 등록 → connect 이벤트 → 놓친 이벤트 재전송
+    // 등록을 먼저 하므로 재전송 중 도착한 이벤트가 한 번 더 갈 수 있다 (클라이언트는 id로 중복 처리)
+    public SseEmitter connect(Long userId, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MS);
+        emitterRepository.save(userId, emitter);
+
+        emitter.onCompletion(() -> emitterRepository.delete(userId, emitter));
+        emitter.onTimeout(() -> emitterRepository.delete(userId, emitter));
+        emitter.onError(e -> emitterRepository.delete(userId, emitter));
+
+        try {
+            emitter.send(SseEmitter.event().name("connect").data("connected"));
+            if (lastEventId != null && !lastEventId.isBlank()) {
+                for (SseMessage missed : findMissed(userId, lastEventId)) {
+                    emitter.send(toEvent(missed));
+                }
+            }
+        } catch (Exception e) {
+            remove(userId, emitter, e);
+        }
+
+        return emitter;
+    }
+
+    public void publish(Long userId, String eventId, String eventName, Object data) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(
+                    new SseMessage(userId, eventId, eventName, objectMapper.writeValueAsString(data)));
+        } catch (JsonProcessingException e) {
+            log.error("[SseEventBroker] 이벤트 직렬화 실패 - userId={}, event={}", userId, eventName, e);
+            return;
+        }
+
+        try {
+            stringRedisTemplate.execute(
+                    BUFFER_AND_PUBLISH_SCRIPT,
+                    List.of(REPLAY_KEY_PREFIX + userId),
+                    payload,
+                    String.valueOf(REPLAY_BUFFER_SIZE),
+                    String.valueOf(REPLAY_TTL.toSeconds()),
+                    CHANNEL.getTopic()
+            );
+        } catch (Exception e) {
+            // Redis 장애 시에는 최소한 이 노드에 연결된 사용자에게라도 보낸다
+            log.warn("[SseEventBroker] Redis 발행 실패 - 로컬 전송으로 대체 (userId={})", userId, e);
+            deliverLocal(payload);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        deliverLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    // 응답 없는 연결은 전송 실패로 드러나므로 주석 이벤트를 보내 확인하고 정리한다
+    // (프록시/로드밸런서의 유휴 타임아웃도 같이 막아 준다)
+    void heartbeat() {
+        try {
+            emitterRepository.forEach((userId, emitter) -> {
+                try {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                } catch (Exception e) {
+                    remove(userId, emitter, e);
+                }
+            });
+        } catch (Exception e) {
+            // 예외가 밖으로 나가면 이후 주기가 실행되지 않는다
+            log.error("[SseEventBroker] heartbeat 실패", e);
+        }
+    }
+
+    private void deliverLocal(String payload) {
+        SseMessage message;
+        try {
+            message = objectMapper.readValue(payload, SseMessage.class);
+        } catch (Exception e) {
+            log.error("[SseEventBroker] 수신 메시지 처리 실패", e);
+            return;
+        }
+
+        for (SseEmitter emitter : emitterRepository.get(message.userId())) {
+            try {
+                emitter.send(toEvent(message));
+            } catch (Exception e) {
+                remove(message.userId(), emitter, e);
+            }
+        }
+    }
+
+    // 전송에 실패한 연결은 저장소에서 빼고 응답도 끝낸다 (끝내지 않으면 비동기 요청이 타임아웃까지 남는다)
+    private void remove(Long userId, SseEmitter emitter, Exception cause) {
+        emitterRepository.delete(userId, emitter);
+        try {
+            emitter.completeWithError(cause);
+        } catch (Exception ignored) {
+            // 이미 끝난 연결
+        }
+    }
+
+    // 버퍼에서 lastEventId 다음 이벤트들 (lastEventId가 이미 밀려났으면 버퍼 전체)
+    private List<SseMessage> findMissed(Long userId, String lastEventId) throws IOException {
+        List<String> buffered = stringRedisTemplate.opsForList().range(REPLAY_KEY_PREFIX + userId, 0, -1);
+        if (buffered == null || buffered.isEmpty()) {
+            return List.of();
+        }
+
+        List<SseMessage> missed = new ArrayList<>();
+        for (String payload : buffered) {
+            SseMessage message = objectMapper.readValue(payload, SseMessage.class);
+            if (lastEventId.equals(message.eventId())) {
+                missed.clear();
+                continue;
+            }
+            missed.add(message);
+        }
+        return missed;
+    }
+
+    private SseEmitter.SseEventBuilder toEvent(SseMessage message) {
+        SseEmitter.SseEventBuilder event = SseEmitter.event()
+                .name(message.eventName())
+                .data(message.data(), MediaType.APPLICATION_JSON);
+        if (message.eventId() != null) {
+            event.id(message.eventId());
+        }
+        return event;
+    }
+}
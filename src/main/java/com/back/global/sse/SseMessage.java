@@ -0,0 +1,5 @@
+package com.back.global.sse;
+
+// 노드 간 SSE 전달 메시지 (data는 이미 직렬화된 JSON 문자열)
+public record SseMessage(Long userId, String eventId, String eventName, String data) {
+}
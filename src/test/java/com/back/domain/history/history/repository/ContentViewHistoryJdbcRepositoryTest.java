@@ -0,0 +1,68 @@
+package com.back.domain.history.history.repository;
+
+import com.back.domain.history.history.dto.ContentViewEvent;
+import com.back.domain.main.entity.ContentType;
+import com.back.domain.user.user.entity.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(ContentViewHistoryJdbcRepository.class)
+class ContentViewHistoryJdbcRepositoryTest {
+
+    private static final LocalDateTime VIEWED_AT = LocalDateTime.of(2026, 1, 10, 9, 0);
+
+    @Autowired
+    private ContentViewHistoryJdbcRepository contentViewHistoryJdbcRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("없어진 사용자의 조회는 batch를 깨지 않고 비회원 조회(NULL)로 적재한다")
+    void storesMissingViewerAsGuest() {
+        User viewer = new User("viewer@test.com", "viewer", "pw", "viewer", null, null);
+        em.persist(viewer);
+        em.flush();
+
+        contentViewHistoryJdbcRepository.batchInsert(List.of(
+                event(viewer.getId()),
+                event(Long.MAX_VALUE),
+                event(null)
+        ));
+
+        List<Long> viewerIds = jdbcTemplate.queryForList(
+                "SELECT viewer_id FROM content_view_history ORDER BY id", Long.class);
+        assertThat(viewerIds).containsExactly(viewer.getId(), null, null);
+    }
+
+    @Test
+    @DisplayName("단건 적재도 없어진 사용자는 NULL로 적재한다")
+    void singleInsertStoresMissingViewerAsGuest() {
+        contentViewHistoryJdbcRepository.insert(event(Long.MAX_VALUE));
+
+        assertThat(jdbcTemplate.queryForList("SELECT viewer_id FROM content_view_history", Long.class))
+                .containsExactly((Long) null);
+    }
+
+    private ContentViewEvent event(Long viewerId) {
+        return new ContentViewEvent(ContentType.SHORLOG, 1L, viewerId, VIEWED_AT, "127.0.0.1", "JUnit");
+    }
+}
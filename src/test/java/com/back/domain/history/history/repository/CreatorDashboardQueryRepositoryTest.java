@@ -0,0 +1,90 @@
+package com.back.domain.history.history.repository;
+
+import com.back.domain.history.history.dto.CreatorPeriodComparison;
+import com.back.domain.history.history.dto.CreatorPeriodStats;
+import com.back.domain.history.history.dto.CreatorTotalStats;
+import com.back.domain.history.history.dto.DailyContentViewsDto;
+import com.back.global.config.querydsl.QuerydslConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({CreatorDashboardQueryRepositoryImpl.class, QuerydslConfig.class})
+class CreatorDashboardQueryRepositoryTest {
+
+    private static final long CREATOR_ID = 1L;
+    private static final LocalDate PREVIOUS_FROM = LocalDate.of(2026, 1, 1);
+    private static final LocalDate CURRENT_FROM = LocalDate.of(2026, 1, 8);
+    private static final LocalDate TO = LocalDate.of(2026, 1, 14);
+
+    @Autowired
+    private CreatorDashboardQueryRepository creatorDashboardQueryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // 현재 기간 / 직전 기간 / 조회 범위 밖 / 다른 크리에이터
+        insertStats(CREATOR_ID, LocalDate.of(2026, 1, 10), 3, 2, 1, 0, 4, 1);
+        insertStats(CREATOR_ID, LocalDate.of(2026, 1, 3), 1, 1, 2, 1, 0, 2);
+        insertStats(CREATOR_ID, LocalDate.of(2025, 12, 1), 10, 0, 5, 0, 0, 0);
+        insertStats(2L, LocalDate.of(2026, 1, 10), 100, 100, 100, 100, 100, 100);
+    }
+
+    @Test
+    @DisplayName("누적 통계는 크리에이터의 모든 일별 롤업을 합산한다")
+    void totalStatsSumAllDays() {
+        CreatorTotalStats total = creatorDashboardQueryRepository.getTotalStats(CREATOR_ID);
+
+        assertThat(total.views()).isEqualTo(17);
+        assertThat(total.likes()).isEqualTo(8);
+        assertThat(total.bookmarks()).isEqualTo(1);
+        assertThat(total.comments()).isEqualTo(4);
+        assertThat(total.followerCount()).isZero(); // 팔로워는 follow 테이블의 현재 값
+    }
+
+    @Test
+    @DisplayName("한 번의 조회로 현재 기간과 직전 기간을 나눠 합산한다")
+    void periodComparisonSplitsByCurrentFrom() {
+        CreatorPeriodComparison comparison =
+                creatorDashboardQueryRepository.getPeriodComparison(CREATOR_ID, PREVIOUS_FROM, CURRENT_FROM, TO);
+
+        assertThat(comparison.current()).isEqualTo(new CreatorPeriodStats(5, 1, 0, 4, 1));
+        assertThat(comparison.previous()).isEqualTo(new CreatorPeriodStats(2, 2, 1, 0, 2));
+    }
+
+    @Test
+    @DisplayName("일별 조회수는 기간 안의 날짜만 오름차순으로 반환한다")
+    void dailyViewsInRange() {
+        assertThat(creatorDashboardQueryRepository.getDailyViews(CREATOR_ID, PREVIOUS_FROM, TO))
+                .containsExactly(
+                        new DailyContentViewsDto(LocalDate.of(2026, 1, 3), 1, 1),
+                        new DailyContentViewsDto(LocalDate.of(2026, 1, 10), 3, 2)
+                );
+    }
+
+    private void insertStats(long creatorId, LocalDate day, long blogViews, long shorlogViews,
+                             long likes, long bookmarks, long comments, long followers) {
+        jdbcTemplate.update("""
+                        INSERT INTO creator_daily_stats
+                            (creator_id, stat_date, blog_views, shorlog_views, likes, bookmarks, comments, followers)
+                        VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                        """,
+                creatorId, Date.valueOf(day), blogViews, shorlogViews, likes, bookmarks, comments, followers);
+    }
+}
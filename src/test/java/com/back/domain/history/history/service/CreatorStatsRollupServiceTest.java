@@ -0,0 +1,105 @@
+package com.back.domain.history.history.service;
+
+import com.back.domain.history.history.repository.CreatorDailyStatsJdbcRepository;
+import com.back.global.lock.RedisJobLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.mockito.Mockito.*;
+
+class CreatorStatsRollupServiceTest {
+
+    private final CreatorDailyStatsJdbcRepository repository = mock(CreatorDailyStatsJdbcRepository.class);
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    private final RedisJobLock redisJobLock = mock(RedisJobLock.class);
+
+    private CreatorStatsRollupService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new CreatorStatsRollupService(repository, stringRedisTemplate, redisJobLock);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // 잠금은 항상 획득된 것으로 보고 작업을 바로 실행
+        when(redisJobLock.runExclusively(anyString(), any(Duration.class), any(Runnable.class)))
+                .thenAnswer(invocation -> {
+                    invocation.<Runnable>getArgument(2).run();
+                    return true;
+                });
+        when(redisJobLock.runExclusively(anyString(), any(Duration.class), any(Duration.class), any(Runnable.class)))
+                .thenAnswer(invocation -> {
+                    invocation.<Runnable>getArgument(3).run();
+                    return true;
+                });
+    }
+
+    @Test
+    @DisplayName("증분 작업이 먼저 돌아 테이블이 비어 있지 않아도 백필 표시가 없으면 전체 기간을 채운다")
+    void backfillRunsEvenAfterRecentRollup() {
+        LocalDate today = LocalDate.now();
+        when(stringRedisTemplate.hasKey("creator-stats:backfilled")).thenReturn(false);
+        when(repository.findEarliestActivityDate()).thenReturn(today.minusDays(30));
+
+        service.rollupRecent();
+        service.backfillIfNeeded();
+
+        verify(repository).rollupDay(today.minusDays(30));
+        verify(repository, times(2)).rollupDay(today);
+        verify(repository, times(2 + 31)).rollupDay(any());
+        verify(valueOperations).set(eq("creator-stats:backfilled"), anyString());
+    }
+
+    @Test
+    @DisplayName("백필 표시가 있으면 기동 시 다시 채우지 않는다")
+    void backfillSkippedWhenMarked() {
+        when(stringRedisTemplate.hasKey("creator-stats:backfilled")).thenReturn(true);
+
+        service.backfillIfNeeded();
+
+        verify(repository, never()).findEarliestActivityDate();
+        verify(repository, never()).rollupDay(any());
+    }
+
+    @Test
+    @DisplayName("실패한 일자가 있으면 백필 완료로 표시하지 않는다")
+    void backfillNotMarkedOnFailure() {
+        LocalDate today = LocalDate.now();
+        when(stringRedisTemplate.hasKey("creator-stats:backfilled")).thenReturn(false);
+        when(repository.findEarliestActivityDate()).thenReturn(today.minusDays(2));
+        when(repository.rollupDay(today.minusDays(1))).thenThrow(new RuntimeException("db error"));
+
+        service.backfillIfNeeded();
+
+        verify(repository, times(3)).rollupDay(any());
+        verify(valueOperations, never()).set(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("주간 재계산은 가장 오래된 활동일부터 오늘까지 다시 집계한다")
+    void reconcileAllRecomputesWholeHistory() {
+        LocalDate today = LocalDate.now();
+        when(repository.findEarliestActivityDate()).thenReturn(today.minusDays(100));
+
+        service.reconcileAll();
+
+        verify(repository, times(101)).rollupDay(any());
+        verify(repository).rollupDay(today.minusDays(100));
+        verify(repository).rollupDay(today);
+    }
+
+    @Test
+    @DisplayName("야간 작업은 최근 7일과 오늘을 재계산한다")
+    void nightlyRecomputesLastWeek() {
+        service.rollupNightly();
+
+        verify(repository, times(8)).rollupDay(any());
+    }
+}
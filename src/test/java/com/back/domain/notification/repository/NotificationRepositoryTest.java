@@ -0,0 +1,122 @@
+package com.back.domain.notification.repository;
+
+import com.back.domain.notification.entity.Notification;
+import com.back.domain.notification.entity.NotificationType;
+import com.back.domain.user.user.entity.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(NotificationJdbcRepository.class)
+class NotificationRepositoryTest {
+
+    private static final Map<String, List<NotificationType>> TARGETS = Map.of("users", List.of(NotificationType.FOLLOW));
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private NotificationJdbcRepository notificationJdbcRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private User receiver;
+    private User sender;
+    private List<Notification> inbox;
+
+    @BeforeEach
+    void setUp() {
+        receiver = persist(new User("receiver@test.com", "receiver", "pw", "receiver", null, null));
+        sender = persist(new User("sender@test.com", "sender", "pw", "sender", null, null));
+        User other = persist(new User("other@test.com", "other", "pw", "other", null, null));
+
+        inbox = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            inbox.add(persist(follow(receiver, sender.getId())));
+            // 다른 사람의 알림이 사이사이 끼어 있어도 페이지에 섞이지 않아야 한다
+            persist(follow(other, sender.getId()));
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("키셋 페이징은 id 내림차순으로 커서 다음 알림부터 이어서 준다")
+    void keysetPaging() {
+        List<Notification> first = notificationRepository.findByReceiverIdOrderByIdDesc(
+                receiver.getId(), PageRequest.of(0, 2));
+        List<Notification> second = notificationRepository.findByReceiverIdAndIdLessThanOrderByIdDesc(
+                receiver.getId(), first.get(1).getId(), PageRequest.of(0, 2));
+        List<Notification> last = notificationRepository.findByReceiverIdAndIdLessThanOrderByIdDesc(
+                receiver.getId(), second.get(1).getId(), PageRequest.of(0, 2));
+
+        assertThat(ids(first)).containsExactly(inbox.get(4).getId(), inbox.get(3).getId());
+        assertThat(ids(second)).containsExactly(inbox.get(2).getId(), inbox.get(1).getId());
+        assertThat(ids(last)).containsExactly(inbox.get(0).getId());
+    }
+
+    @Test
+    @DisplayName("커서 이후에 새 알림이 들어와도 다음 페이지가 밀리지 않는다")
+    void keysetPagingIgnoresNewerRows() {
+        List<Notification> first = notificationRepository.findByReceiverIdOrderByIdDesc(
+                receiver.getId(), PageRequest.of(0, 2));
+        persist(follow(receiver, sender.getId()));
+        em.flush();
+
+        List<Notification> second = notificationRepository.findByReceiverIdAndIdLessThanOrderByIdDesc(
+                receiver.getId(), first.get(1).getId(), PageRequest.of(0, 2));
+
+        assertThat(ids(second)).containsExactly(inbox.get(2).getId(), inbox.get(1).getId());
+    }
+
+    @Test
+    @DisplayName("읽지 않은 알림만 읽음 처리되고, 두 번째 요청은 0을 반환한다")
+    void markAsReadIfUnreadOnlyOnce() {
+        Long id = inbox.get(0).getId();
+
+        assertThat(notificationRepository.markAsReadIfUnread(id)).isEqualTo(1);
+        assertThat(notificationRepository.markAsReadIfUnread(id)).isZero();
+        assertThat(notificationRepository.deleteIfUnread(id)).isZero();
+        assertThat(notificationRepository.deleteIfUnread(inbox.get(1).getId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("읽지 않은 알림 수는 대상이 삭제된 알림을 세지 않는다")
+    void countUnreadSkipsDanglingNotifications() {
+        persist(follow(receiver, Long.MAX_VALUE));
+        em.flush();
+        notificationRepository.markAsReadIfUnread(inbox.get(0).getId());
+
+        assertThat(notificationJdbcRepository.countUnreadWithTarget(receiver.getId(), TARGETS)).isEqualTo(4);
+    }
+
+    private Notification follow(User receiver, Long targetId) {
+        return Notification.create(receiver.getId(), sender.getId(), NotificationType.FOLLOW, targetId, "sender님이 회원님을 팔로우했습니다.");
+    }
+
+    private List<Long> ids(List<Notification> notifications) {
+        return notifications.stream().map(Notification::getId).toList();
+    }
+
+    private <T> T persist(T entity) {
+        em.persist(entity);
+        return entity;
+    }
+}
@@ -0,0 +1,111 @@
+package com.back.domain.notification.service;
+
+import com.back.domain.notification.entity.NotificationType;
+import com.back.domain.notification.event.NotificationEvent;
+import com.back.domain.notification.repository.NotificationJdbcRepository;
+import com.back.global.sse.SseEventBroker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class NotificationDispatcherTest {
+
+    private final NotificationJdbcRepository notificationJdbcRepository = mock(NotificationJdbcRepository.class);
+    private final SseEventBroker sseEventBroker = mock(SseEventBroker.class);
+    private final NotificationUnreadCounter unreadCounter = mock(NotificationUnreadCounter.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private NotificationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        // start()는 호출하지 않는다 - dispatch를 직접 불러서 확인
+        dispatcher = new NotificationDispatcher(
+                notificationJdbcRepository, sseEventBroker, unreadCounter, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("일시적인 저장 실패는 다시 시도해서 알림을 살린다")
+    void retriesTransientFailure() {
+        List<NotificationEvent> batch = List.of(event(1L), event(2L));
+        when(notificationJdbcRepository.insertAll(eq(batch), any()))
+                .thenThrow(new QueryTimeoutException("lock wait timeout"))
+                .thenReturn(List.of(10L, 11L));
+
+        dispatcher.dispatch(batch);
+
+        verify(notificationJdbcRepository, times(2)).insertAll(eq(batch), any());
+        verify(unreadCounter).add(1L, 1L);
+        verify(unreadCounter).add(2L, 1L);
+        verify(sseEventBroker, times(2)).publish(anyLong(), anyString(), eq("notification"), any());
+        assertThat(count("notification.dispatch.retried")).isEqualTo(1);
+        assertThat(count("notification.dispatch.written")).isEqualTo(2);
+        assertThat(count("notification.dispatch.failed")).isZero();
+    }
+
+    @Test
+    @DisplayName("재시도 후에도 실패하면 버린 건수를 지표로 남긴다")
+    void countsFailedAfterRetries() {
+        List<NotificationEvent> batch = List.of(event(1L), event(2L), event(3L));
+        when(notificationJdbcRepository.insertAll(eq(batch), any()))
+                .thenThrow(new QueryTimeoutException("connection refused"));
+
+        dispatcher.dispatch(batch);
+
+        verify(notificationJdbcRepository, times(3)).insertAll(eq(batch), any());
+        verifyNoInteractions(unreadCounter, sseEventBroker);
+        assertThat(count("notification.dispatch.retried")).isEqualTo(2);
+        assertThat(count("notification.dispatch.failed")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("제약 위반이면 건별로 저장해서 문제 있는 알림만 버린다")
+    void fallsBackToSingleInsertOnConstraintViolation() {
+        NotificationEvent ok = event(1L);
+        NotificationEvent invalid = event(2L);
+        List<NotificationEvent> batch = List.of(ok, invalid);
+        when(notificationJdbcRepository.insertAll(eq(batch), any()))
+                .thenThrow(new DataIntegrityViolationException("fk"));
+        when(notificationJdbcRepository.insertAll(eq(List.of(ok)), any())).thenReturn(List.of(10L));
+        when(notificationJdbcRepository.insertAll(eq(List.of(invalid)), any()))
+                .thenThrow(new DataIntegrityViolationException("fk"));
+
+        dispatcher.dispatch(batch);
+
+        verify(unreadCounter).add(1L, 1L);
+        verify(unreadCounter, never()).add(eq(2L), anyLong());
+        verify(sseEventBroker).publish(eq(1L), eq("10"), eq("notification"), any());
+        assertThat(count("notification.dispatch.retried")).isZero();
+        assertThat(count("notification.dispatch.written")).isEqualTo(1);
+        assertThat(count("notification.dispatch.failed")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 버린 알림을 dropped로 센다")
+    void countsDroppedWhenQueueIsFull() {
+        for (int i = 0; i < 10_001; i++) {
+            dispatcher.onNotification(event(1L));
+        }
+
+        assertThat(count("notification.dispatch.enqueued")).isEqualTo(10_000);
+        assertThat(count("notification.dispatch.dropped")).isEqualTo(1);
+        assertThat(meterRegistry.get("notification.dispatch.queue.size").gauge().value()).isEqualTo(10_000);
+    }
+
+    private double count(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+
+    private NotificationEvent event(Long receiverId) {
+        return new NotificationEvent(receiverId, 99L, "sender", null, NotificationType.FOLLOW, 99L, "/profile/99");
+    }
+}
@@ -0,0 +1,119 @@
+package com.back.domain.notification.service;
+
+import com.back.domain.notification.dto.NotificationSliceResponse;
+import com.back.domain.notification.entity.Notification;
+import com.back.domain.notification.repository.NotificationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class NotificationServiceTest {
+
+    private static final Long USER_ID = 1L;
+
+    private final NotificationRepository notificationRepository = mock(NotificationRepository.class);
+    private final NotificationAssembler notificationAssembler = mock(NotificationAssembler.class);
+    private final NotificationUnreadCounter unreadCounter = mock(NotificationUnreadCounter.class);
+
+    private final NotificationService notificationService = new NotificationService(
+            notificationRepository, notificationAssembler, unreadCounter, mock(ApplicationEventPublisher.class));
+
+    @Test
+    @DisplayName("첫 페이지는 한 건 더 조회해서 다음 페이지 여부와 마지막 id 커서를 돌려준다")
+    void inboxFirstPage() {
+        List<Notification> rows = notifications(100, 21);
+        when(notificationRepository.findByReceiverIdOrderByIdDesc(eq(USER_ID), any(Pageable.class))).thenReturn(rows);
+
+        NotificationSliceResponse response = notificationService.getInbox(USER_ID, null);
+
+        assertThat(response.hasNext()).isTrue();
+        assertThat(response.nextCursor()).isEqualTo("81");
+        verify(notificationRepository).findByReceiverIdOrderByIdDesc(USER_ID, Pageable.ofSize(21));
+        verify(notificationAssembler).assemble(argThat(page -> page.size() == 20));
+    }
+
+    @Test
+    @DisplayName("커서가 있으면 그 id보다 작은 알림부터 조회하고, 마지막 페이지에는 커서가 없다")
+    void inboxNextPage() {
+        List<Notification> rows = notifications(80, 5);
+        when(notificationRepository.findByReceiverIdAndIdLessThanOrderByIdDesc(eq(USER_ID), eq(81L), any(Pageable.class)))
+                .thenReturn(rows);
+
+        NotificationSliceResponse response = notificationService.getInbox(USER_ID, "81");
+
+        assertThat(response.hasNext()).isFalse();
+        assertThat(response.nextCursor()).isNull();
+        verify(notificationRepository, never()).findByReceiverIdOrderByIdDesc(any(), any());
+    }
+
+    @Test
+    @DisplayName("커서 형식이 잘못되면 예외")
+    void inboxRejectsInvalidCursor() {
+        assertThatThrownBy(() -> notificationService.getInbox(USER_ID, "abc"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("실제로 읽음으로 바뀐 경우에만 커밋 후 읽지 않은 수를 줄인다")
+    void markAsReadDecrementsOnlyWhenUpdated() {
+        Notification notification = notification(10L);
+        when(notificationRepository.findById(10L)).thenReturn(Optional.of(notification));
+        when(notificationRepository.markAsReadIfUnread(10L)).thenReturn(1, 0);
+
+        notificationService.markAsRead(10L, USER_ID);
+        notificationService.markAsRead(10L, USER_ID);
+
+        verify(unreadCounter, times(1)).addAfterCommit(USER_ID, -1);
+        verify(unreadCounter, never()).add(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("읽지 않은 알림을 지웠을 때만 읽지 않은 수를 줄인다")
+    void deleteDecrementsOnlyUnread() {
+        Notification unread = notification(10L);
+        Notification read = notification(11L);
+        when(notificationRepository.findById(10L)).thenReturn(Optional.of(unread));
+        when(notificationRepository.findById(11L)).thenReturn(Optional.of(read));
+        when(notificationRepository.deleteIfUnread(10L)).thenReturn(1);
+        when(notificationRepository.deleteIfUnread(11L)).thenReturn(0);
+
+        notificationService.deleteNotification(10L, USER_ID);
+        notificationService.deleteNotification(11L, USER_ID);
+
+        verify(unreadCounter, times(1)).addAfterCommit(USER_ID, -1);
+        verify(notificationRepository, never()).deleteById(10L);
+        verify(notificationRepository).deleteById(11L);
+    }
+
+    @Test
+    @DisplayName("모두 읽음은 바뀐 행이 있을 때 커밋 후 캐시를 지워 다시 세게 한다")
+    void markAllAsReadEvictsAfterCommit() {
+        when(notificationRepository.markAllAsRead(USER_ID)).thenReturn(3, 0);
+
+        notificationService.markAllAsRead(USER_ID);
+        notificationService.markAllAsRead(USER_ID);
+
+        verify(unreadCounter, times(1)).evictAfterCommit(USER_ID);
+    }
+
+    private List<Notification> notifications(long fromId, int count) {
+        return LongStream.range(0, count).mapToObj(i -> notification(fromId - i)).toList();
+    }
+
+    private Notification notification(Long id) {
+        Notification notification = mock(Notification.class);
+        when(notification.getId()).thenReturn(id);
+        when(notification.getReceiverId()).thenReturn(USER_ID);
+        return notification;
+    }
+}
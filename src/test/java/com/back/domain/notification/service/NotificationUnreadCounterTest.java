@@ -0,0 +1,64 @@
+package com.back.domain.notification.service;
+
+import com.back.domain.notification.repository.NotificationJdbcRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class NotificationUnreadCounterTest {
+
+    private static final Long USER_ID = 1L;
+
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    private final NotificationUnreadCounter unreadCounter =
+            new NotificationUnreadCounter(mock(NotificationJdbcRepository.class), stringRedisTemplate);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 감소는 커밋된 뒤에 반영한다")
+    void appliesAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        unreadCounter.addAfterCommit(USER_ID, -1);
+        verifyNoInteractions(stringRedisTemplate);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of("notification:unread:1")), eq("-1"));
+    }
+
+    @Test
+    @DisplayName("롤백되면 반영하지 않는다")
+    void skipsOnRollback() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        unreadCounter.addAfterCommit(USER_ID, -1);
+        unreadCounter.evictAfterCommit(USER_ID);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verifyNoInteractions(stringRedisTemplate);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 바로 반영한다")
+    void appliesImmediatelyWithoutTransaction() {
+        unreadCounter.evictAfterCommit(USER_ID);
+
+        verify(stringRedisTemplate).delete("notification:unread:1");
+    }
+}
@@ -0,0 +1,204 @@
+package com.back.domain.recommend.recommend.service;
+
+import com.back.domain.recommend.recentview.service.RecentViewService;
+import com.back.domain.recommend.recommend.dto.RecommendCandidatePage;
+import com.back.domain.recommend.recommend.repository.RecommendCandidateQueryRepository;
+import com.back.domain.recommend.search.type.PostType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RecommendCandidateServiceTest {
+
+    private final RecommendService recommendService = mock(RecommendService.class);
+    private final RecommendCandidateQueryRepository queryRepository = mock(RecommendCandidateQueryRepository.class);
+    private final RecentViewService recentViewService = mock(RecentViewService.class);
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    @SuppressWarnings("unchecked")
+    private final ZSetOperations<String, String> zSetOperations = mock(ZSetOperations.class);
+    @SuppressWarnings("unchecked")
+    private final SetOperations<String, String> setOperations = mock(SetOperations.class);
+    private final List<Runnable> asyncTasks = new ArrayList<>();
+
+    private RecommendCandidateService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new RecommendCandidateService(recommendService, queryRepository, recentViewService,
+                stringRedisTemplate, asyncTasks::add);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
+        when(recommendService.getRecommendQueries(any(), any(), any())).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("게스트 쿠키가 없는 비회원은 캐시하지 않고 ES를 직접 페이징한다")
+    void guestWithoutIdIsNotCached() {
+        when(queryRepository.searchCandidateIds(eq(PostType.SHORLOG), any(), eq(0), eq(3)))
+                .thenReturn(List.of(1L, 2L, 3L));
+
+        RecommendCandidatePage page = service.getCandidates(null, null, PostType.SHORLOG, null, 2);
+
+        assertThat(page.ids()).containsExactly(1L, 2L);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.nextCursor()).isEqualTo("live.2");
+        verify(queryRepository, never()).searchCandidates(any(), any(), anyInt());
+        verifyNoInteractions(zSetOperations);
+    }
+
+    @Test
+    @DisplayName("이어지는 페이지는 stale 표시와 무관하게 커서의 스냅샷 버전을 계속 읽는다")
+    void nextPageReadsCursorVersion() {
+        String key = "recommend:candidates:SHORLOG:user:7:v1";
+        when(zSetOperations.zCard(key)).thenReturn(10L);
+        when(zSetOperations.reverseRange(key, 4, 7)).thenReturn(members(5, 6, 7, 8));
+
+        service.recordView(null, 7L, PostType.SHORLOG, 99L);
+        RecommendCandidatePage page = service.getCandidates(null, 7L, PostType.SHORLOG, "v1.4", 4);
+
+        assertThat(page.ids()).containsExactly(5L, 6L, 7L, 8L);
+        assertThat(page.nextCursor()).isEqualTo("v1.8");
+        verify(queryRepository, never()).searchCandidates(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("조회 기록과 stale 표시는 최근 본 글 스크립트 한 번으로 보낸다")
+    void recordViewMarksStaleInSameCall() {
+        service.recordView(null, 7L, PostType.SHORLOG, 99L);
+        service.recordView(null, null, PostType.SHORLOG, 99L);
+
+        verify(recentViewService).addRecentViewPost(null, 7L, PostType.SHORLOG, 99L,
+                "recommend:candidates:stale:SHORLOG", "user:7");
+        verify(recentViewService).addRecentViewPost(null, null, PostType.SHORLOG, 99L, null, null);
+        verifyNoInteractions(setOperations, valueOperations);
+    }
+
+    @Test
+    @DisplayName("stale이어도 새로고침은 이전 스냅샷을 보여 주고, 새 버전은 워커가 만들어 교체한다")
+    void refreshServesPreviousSnapshotUntilWorkerSwaps() {
+        String current = "recommend:candidates:current:SHORLOG:user:7";
+        String previous = "recommend:candidates:SHORLOG:user:7:v1";
+        when(valueOperations.get(current)).thenReturn("v1");
+        when(stringRedisTemplate.hasKey(previous)).thenReturn(true);
+        when(zSetOperations.zCard(previous)).thenReturn(3L);
+        when(zSetOperations.reverseRange(previous, 0, 9)).thenReturn(members(1, 2, 3));
+
+        RecommendCandidatePage page = service.getCandidates(null, 7L, PostType.SHORLOG, null, 10);
+
+        assertThat(page.ids()).containsExactly(1L, 2L, 3L);
+        verify(queryRepository, never()).searchCandidates(any(), any(), anyInt());
+        assertThat(asyncTasks).isEmpty();
+
+        when(setOperations.pop("recommend:candidates:stale:SHORLOG", 20)).thenReturn(List.of("user:7"));
+        when(stringRedisTemplate.hasKey(current)).thenReturn(true);
+        when(queryRepository.searchCandidates(eq(PostType.SHORLOG), any(), anyInt())).thenReturn(scores(3));
+
+        service.refreshStaleSnapshots();
+        verify(queryRepository, never()).searchCandidates(any(), any(), anyInt());
+        asyncTasks.forEach(Runnable::run);
+
+        verify(zSetOperations).add(argThat(key -> key.startsWith("recommend:candidates:SHORLOG:user:7:") && !key.equals(previous)), anySet());
+        verify(valueOperations).set(eq(current), argThat(v -> !v.equals("v1")), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("스냅샷이 없는 식별자의 stale 표시는 재계산하지 않는다")
+    void refreshSkipsIdentifiersWithoutSnapshot() {
+        when(setOperations.pop("recommend:candidates:stale:SHORLOG", 20)).thenReturn(List.of("guest:abc"));
+
+        service.refreshStaleSnapshots();
+        asyncTasks.forEach(Runnable::run);
+
+        verify(queryRepository, never()).searchCandidates(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("꺼낼 stale 표시가 없으면 유지보수 작업을 등록하지 않는다")
+    void refreshWithoutStaleDoesNotSubmit() {
+        service.refreshStaleSnapshots();
+
+        assertThat(asyncTasks).isEmpty();
+    }
+
+    @Test
+    @DisplayName("스냅샷이 없으면 직접 페이징으로 응답하고 생성은 한 번만 비동기로 넘긴다")
+    void missingSnapshotGeneratesAsync() {
+        when(queryRepository.searchCandidateIds(eq(PostType.SHORLOG), any(), eq(0), eq(3)))
+                .thenReturn(List.of(1L, 2L, 3L));
+        when(queryRepository.searchCandidates(eq(PostType.SHORLOG), any(), anyInt())).thenReturn(scores(3));
+
+        RecommendCandidatePage first = service.getCandidates(null, 7L, PostType.SHORLOG, null, 2);
+        service.getCandidates(null, 7L, PostType.SHORLOG, null, 2);
+
+        assertThat(first.ids()).containsExactly(1L, 2L);
+        assertThat(first.nextCursor()).isEqualTo("live.2");
+        verify(queryRepository, never()).searchCandidates(any(), any(), anyInt());
+        assertThat(asyncTasks).hasSize(1);
+
+        asyncTasks.get(0).run();
+
+        verify(valueOperations).set(eq("recommend:candidates:current:SHORLOG:user:7"), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("상한까지 채워진 스냅샷을 다 보면 다음 페이지부터 ES를 직접 페이징한다")
+    void pagesPastCapGoLive() {
+        String key = "recommend:candidates:SHORLOG:user:7:v1";
+        when(zSetOperations.zCard(key)).thenReturn(300L);
+        when(zSetOperations.reverseRange(key, 290, 299)).thenReturn(range(291, 300));
+        when(queryRepository.searchCandidateIds(eq(PostType.SHORLOG), any(), eq(300), eq(11)))
+                .thenReturn(LongStream.rangeClosed(301, 311).boxed().toList());
+
+        RecommendCandidatePage last = service.getCandidates(null, 7L, PostType.SHORLOG, "v1.290", 10);
+        RecommendCandidatePage live = service.getCandidates(null, 7L, PostType.SHORLOG, last.nextCursor(), 10);
+
+        assertThat(last.hasNext()).isTrue();
+        assertThat(last.nextCursor()).isEqualTo("live.300");
+        assertThat(live.ids()).hasSize(10).first().isEqualTo(301L);
+        assertThat(live.nextCursor()).isEqualTo("live.310");
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 거부한다")
+    void rejectsMalformedCursor() {
+        assertThatThrownBy(() -> service.getCandidates(null, 7L, PostType.SHORLOG, "abc", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static LinkedHashSet<String> members(long... ids) {
+        return LongStream.of(ids).mapToObj(String::valueOf).collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private static LinkedHashSet<String> range(long from, long to) {
+        return members(LongStream.rangeClosed(from, to).toArray());
+    }
+
+    private static Map<Long, Double> scores(int count) {
+        Map<Long, Double> scores = new LinkedHashMap<>();
+        for (long id = 1; id <= count; id++) {
+            scores.put(id, 10.0 - id);
+        }
+        return scores;
+    }
+}
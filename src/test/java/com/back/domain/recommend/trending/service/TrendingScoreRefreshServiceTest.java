@@ -0,0 +1,107 @@
+package com.back.domain.recommend.trending.service;
+
+import com.back.domain.blog.blogdoc.document.BlogDoc;
+import com.back.domain.blog.blogdoc.service.BlogDocIndexer;
+import com.back.domain.main.entity.ContentType;
+import com.back.domain.shared.countersync.repository.ContentCounterJdbcRepository;
+import com.back.domain.shorlog.shorlogdoc.document.ShorlogDoc;
+import com.back.domain.shorlog.shorlogdoc.service.ShorlogDocService;
+import com.back.global.lock.RedisJobLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TrendingScoreRefreshServiceTest {
+
+    private final ContentCounterJdbcRepository counterRepository = mock(ContentCounterJdbcRepository.class);
+    private final ShorlogDocService shorlogDocService = mock(ShorlogDocService.class);
+    private final BlogDocIndexer blogDocIndexer = mock(BlogDocIndexer.class);
+    private final ElasticsearchOperations elasticsearchOperations = mock(ElasticsearchOperations.class);
+    private final IndexOperations shorlogIndexOps = mock(IndexOperations.class);
+    private final IndexOperations blogIndexOps = mock(IndexOperations.class);
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    private final RedisJobLock redisJobLock = mock(RedisJobLock.class);
+
+    private TrendingScoreRefreshService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TrendingScoreRefreshService(counterRepository, shorlogDocService, blogDocIndexer,
+                elasticsearchOperations, stringRedisTemplate, redisJobLock);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(elasticsearchOperations.indexOps(ShorlogDoc.class)).thenReturn(shorlogIndexOps);
+        when(elasticsearchOperations.indexOps(BlogDoc.class)).thenReturn(blogIndexOps);
+
+        // 잠금은 항상 획득된 것으로 보고 작업을 바로 실행
+        when(redisJobLock.runExclusively(anyString(), any(Duration.class), any(Runnable.class)))
+                .thenAnswer(invocation -> {
+                    invocation.<Runnable>getArgument(2).run();
+                    return true;
+                });
+
+        // 숏로그/블로그 각각 한 구간
+        when(counterRepository.findIdsAfter(any(ContentType.class), isNull(), eq(0L), anyInt())).thenReturn(List.of(1L, 2L));
+        when(counterRepository.findIdsAfter(any(ContentType.class), isNull(), eq(2L), anyInt())).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("초기화 표시가 있으면 기동 시 매핑 추가와 전체 계산을 하지 않는다")
+    void skipsWhenAlreadyInitialized() {
+        when(stringRedisTemplate.hasKey("trending-score:initialized")).thenReturn(true);
+
+        service.initializeIfNeeded();
+
+        verifyNoInteractions(elasticsearchOperations, counterRepository, redisJobLock);
+    }
+
+    @Test
+    @DisplayName("처음 한 번은 매핑을 추가하고 전체 계산이 끝나면 표시를 남긴다")
+    void initializesOnce() {
+        when(stringRedisTemplate.hasKey("trending-score:initialized")).thenReturn(false);
+
+        service.initializeIfNeeded();
+
+        verify(shorlogIndexOps).putMapping(any(Document.class));
+        verify(blogIndexOps).putMapping(any(Document.class));
+        verify(shorlogDocService).bulkUpdateCounters(any());
+        verify(blogDocIndexer).bulkUpdateCounters(any());
+        verify(valueOperations).set(eq("trending-score:initialized"), anyString());
+    }
+
+    @Test
+    @DisplayName("전체 계산 중 실패한 구간이 있으면 표시를 남기지 않아 다음 기동 때 다시 한다")
+    void doesNotMarkWhenChunkFails() {
+        when(stringRedisTemplate.hasKey("trending-score:initialized")).thenReturn(false);
+        doThrow(new RuntimeException("es down")).when(blogDocIndexer).bulkUpdateCounters(any());
+
+        service.initializeIfNeeded();
+
+        verify(shorlogDocService).bulkUpdateCounters(any());
+        verify(valueOperations, never()).set(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("매핑 추가에 실패하면 전체 계산을 하지 않는다")
+    void stopsWhenMappingFails() {
+        when(stringRedisTemplate.hasKey("trending-score:initialized")).thenReturn(false);
+        when(shorlogIndexOps.putMapping(any(Document.class))).thenThrow(new RuntimeException("es down"));
+
+        service.initializeIfNeeded();
+
+        verifyNoInteractions(counterRepository);
+        verify(valueOperations, never()).set(anyString(), anyString());
+    }
+}
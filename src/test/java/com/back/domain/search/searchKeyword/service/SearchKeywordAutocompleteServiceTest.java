@@ -0,0 +1,101 @@
+package com.back.domain.search.searchKeyword.service;
+
+import com.back.domain.search.searchKeyword.dto.SearchKeywordResponseDto;
+import com.back.domain.search.searchKeyword.repository.SearchKeywordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class SearchKeywordAutocompleteServiceTest {
+
+    private final SearchKeywordRepository searchKeywordRepository = mock(SearchKeywordRepository.class);
+    private SearchKeywordAutocompleteService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new SearchKeywordAutocompleteService(searchKeywordRepository);
+    }
+
+    @Test
+    @DisplayName("자모 접두어로 찾은 키워드를 검색 횟수 순으로 돌려준다")
+    void autocompleteByJamoPrefix() {
+        load(keyword("하이", 5), keyword("하세요", 30), keyword("한국", 20), keyword("자바", 100));
+
+        assertThat(keywords(service.autocomplete("하"))).containsExactly("하세요", "한국", "하이");
+        assertThat(keywords(service.autocomplete("핫"))).containsExactly("하세요");
+        assertThat(keywords(service.autocomplete("한ㄱ"))).containsExactly("한국");
+    }
+
+    @Test
+    @DisplayName("초성만 입력하면 초성 문자열로 찾는다")
+    void autocompleteByChoseong() {
+        load(keyword("한국", 20), keyword("하계", 10), keyword("호텔", 3));
+
+        assertThat(keywords(service.autocomplete("ㅎㄱ"))).containsExactly("한국", "하계");
+        assertThat(service.autocomplete(" ")).isEmpty();
+        assertThat(service.autocomplete(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("구간이 큰 접두어는 미리 계산한 상위 k개가 스캔 결과와 같다")
+    void heavyPrefixTopK() {
+        List<SearchKeywordResponseDto> keywords = new ArrayList<>();
+        IntStream.range(0, 3_000).forEach(i -> keywords.add(keyword("검색어" + i, i)));
+        load(keywords.toArray(SearchKeywordResponseDto[]::new));
+
+        List<String> expected = IntStream.iterate(2_999, i -> i - 1).limit(10).mapToObj(i -> "검색어" + i).toList();
+        assertThat(keywords(service.autocomplete("검"))).containsExactlyElementsOf(expected);
+        assertThat(keywords(service.autocomplete("검색어29"))).first().isEqualTo("검색어2999");
+    }
+
+    @Test
+    @DisplayName("변경분은 이전 동기화 시각보다 겹쳐서 읽고, 바뀐 카운트를 반영한다")
+    void incrementalSyncWithOverlap() {
+        load(keyword("하이", 5), keyword("하세요", 30));
+        when(searchKeywordRepository.findKeywordCountsModifiedSince(any()))
+                .thenReturn(List.of(keyword("하이", 50)));
+
+        LocalDateTime before = LocalDateTime.now();
+        service.refresh();
+
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(searchKeywordRepository).findKeywordCountsModifiedSince(since.capture());
+        assertThat(since.getValue()).isBefore(before.minusSeconds(30));
+        assertThat(keywords(service.autocomplete("하"))).containsExactly("하이", "하세요");
+    }
+
+    @Test
+    @DisplayName("초기 적재는 상위 키워드만 요청한다")
+    void initialLoadIsBounded() {
+        load(keyword("하이", 5));
+
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(searchKeywordRepository).findTopKeywordCounts(pageable.capture());
+        assertThat(pageable.getValue().getPageSize()).isEqualTo(50_000);
+        verify(searchKeywordRepository, never()).findAll();
+    }
+
+    private void load(SearchKeywordResponseDto... keywords) {
+        when(searchKeywordRepository.findTopKeywordCounts(any())).thenReturn(List.of(keywords));
+        service.refresh();
+    }
+
+    private static SearchKeywordResponseDto keyword(String keyword, long count) {
+        return new SearchKeywordResponseDto(keyword, count);
+    }
+
+    private static List<String> keywords(List<SearchKeywordResponseDto> result) {
+        return result.stream().map(SearchKeywordResponseDto::keyword).toList();
+    }
+}
@@ -0,0 +1,114 @@
+package com.back.domain.search.searchKeyword.service;
+
+import com.back.domain.search.searchKeyword.repository.SearchKeywordJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class SearchKeywordCountServiceTest {
+
+    private final SearchKeywordJdbcRepository searchKeywordJdbcRepository = mock(SearchKeywordJdbcRepository.class);
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class, RETURNS_DEEP_STUBS);
+    private final Map<String, Long> flushed = new ConcurrentHashMap<>();
+
+    private SearchKeywordCountService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new SearchKeywordCountService(searchKeywordJdbcRepository, stringRedisTemplate);
+        doAnswer(invocation -> {
+            Map<String, Long> deltas = invocation.getArgument(0);
+            deltas.forEach((keyword, delta) -> flushed.merge(keyword, delta, Long::sum));
+            return null;
+        }).when(searchKeywordJdbcRepository).addSearchCounts(anyMap());
+    }
+
+    @Test
+    @DisplayName("flush와 동시에 들어온 검색도 유실 없이 반영된다")
+    void concurrentRecordAndFlushLoseNothing() throws Exception {
+        int threads = 8;
+        int perThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    service.record("keyword" + (i % 3));
+                }
+                done.countDown();
+            });
+        }
+
+        while (!done.await(1, TimeUnit.MILLISECONDS)) {
+            service.flush();
+        }
+        service.flush();
+        executor.shutdown();
+
+        long total = flushed.values().stream().mapToLong(Long::longValue).sum();
+        assertThat(total).isEqualTo((long) threads * perThread);
+        assertThat(service.getPendingCount("keyword0")).isZero();
+    }
+
+    @Test
+    @DisplayName("DB 반영에 실패한 증가분은 버퍼로 되돌아가 다음 주기에 반영된다")
+    void failedFlushIsRestored() {
+        service.record("spring");
+        service.record(" spring ");
+        doThrow(new RuntimeException("db down")).when(searchKeywordJdbcRepository).addSearchCounts(anyMap());
+
+        service.flush();
+        assertThat(service.getPendingCount("spring")).isEqualTo(2);
+
+        doAnswer(invocation -> {
+            Map<String, Long> deltas = invocation.getArgument(0);
+            deltas.forEach((keyword, delta) -> flushed.merge(keyword, delta, Long::sum));
+            return null;
+        }).when(searchKeywordJdbcRepository).addSearchCounts(anyMap());
+        service.flush();
+
+        assertThat(flushed).containsEntry("spring", 2L);
+        assertThat(service.getPendingCount("spring")).isZero();
+    }
+
+    @Test
+    @DisplayName("시간별 버킷 증가와 만료 설정을 한 번의 스크립트 호출로 한다")
+    @SuppressWarnings("unchecked")
+    void hourlyIncrementSetsTtlInSameCall() {
+        service.record("spring");
+
+        verify(stringRedisTemplate).execute(any(RedisScript.class),
+                eq(List.of(SearchKeywordCountService.hourlyKey(LocalDateTime.now()))),
+                eq("spring"), eq(String.valueOf((SearchKeywordCountService.WINDOW_HOURS + 1) * 3600L)));
+    }
+
+    @Test
+    @DisplayName("빈 검색어와 너무 긴 검색어는 집계하지 않는다")
+    void ignoresInvalidKeywords() {
+        service.record("   ");
+        service.record(null);
+        service.record("a".repeat(101));
+
+        service.flush();
+
+        verify(searchKeywordJdbcRepository, never()).addSearchCounts(anyMap());
+    }
+}
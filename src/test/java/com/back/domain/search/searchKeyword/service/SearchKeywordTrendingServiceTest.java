@@ -0,0 +1,81 @@
+package com.back.domain.search.searchKeyword.service;
+
+import com.back.domain.search.searchKeyword.dto.SearchKeywordResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SearchKeywordTrendingServiceTest {
+
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ZSetOperations<String, String> zSetOperations = mock(ZSetOperations.class);
+
+    private SearchKeywordTrendingService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new SearchKeywordTrendingService(stringRedisTemplate);
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+    }
+
+    @Test
+    @DisplayName("시간별 버킷을 감쇠 가중치로 Redis 안에서 합산하고 상위 N개만 읽는다")
+    @SuppressWarnings("unchecked")
+    void unionsInRedisAndReadsTopN() {
+        Set<ZSetOperations.TypedTuple<String>> top = new LinkedHashSet<>(List.of(
+                new DefaultTypedTuple<>("spring", 12.4),
+                new DefaultTypedTuple<>("java", 3.6)));
+        when(zSetOperations.reverseRangeWithScores(startsWith("search:keyword:trending:tmp:"), eq(0L), eq(9L)))
+                .thenReturn(top);
+
+        service.refresh();
+
+        ArgumentCaptor<Collection<String>> olderKeys = ArgumentCaptor.forClass(Collection.class);
+        ArgumentCaptor<String> unionKey = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Weights> weights = ArgumentCaptor.forClass(Weights.class);
+        verify(zSetOperations).unionAndStore(anyString(), olderKeys.capture(), unionKey.capture(),
+                eq(Aggregate.SUM), weights.capture());
+
+        assertThat(olderKeys.getValue()).hasSize(SearchKeywordCountService.WINDOW_HOURS - 1);
+        assertThat(weights.getValue().getWeight(0)).isEqualTo(1.0);
+        assertThat(weights.getValue().getWeight(24)).isCloseTo(0.5, within(1e-9));
+        verify(zSetOperations, never()).unionWithScores(anyString(), anyCollection(), any(Aggregate.class), any(Weights.class));
+        verify(stringRedisTemplate).delete(unionKey.getValue());
+
+        assertThat(service.getTopKeywords()).containsExactly(
+                new SearchKeywordResponseDto("spring", 12L),
+                new SearchKeywordResponseDto("java", 4L));
+    }
+
+    @Test
+    @DisplayName("계산에 실패하면 이전 목록을 유지하고 임시 키는 지운다")
+    void keepsPreviousListOnFailure() {
+        when(zSetOperations.reverseRangeWithScores(anyString(), anyLong(), anyLong()))
+                .thenReturn(new LinkedHashSet<>(List.of(new DefaultTypedTuple<>("spring", 5.0))));
+        service.refresh();
+
+        when(zSetOperations.unionAndStore(anyString(), anyCollection(), anyString(), any(Aggregate.class), any(Weights.class)))
+                .thenThrow(new RuntimeException("redis down"));
+        service.refresh();
+
+        assertThat(service.getTopKeywords()).containsExactly(new SearchKeywordResponseDto("spring", 5L));
+        verify(stringRedisTemplate, times(2)).delete(startsWith("search:keyword:trending:tmp:"));
+    }
+}
@@ -0,0 +1,52 @@
+package com.back.domain.search.searchKeyword.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HangulJamoTest {
+
+    @Test
+    @DisplayName("음절을 초성/중성/종성 호환 자모로 풀고 겹받침/겹모음도 나눈다")
+    void decomposeSyllables() {
+        assertThat(HangulJamo.decompose("한")).isEqualTo("ㅎㅏㄴ");
+        assertThat(HangulJamo.decompose("닭")).isEqualTo("ㄷㅏㄹㄱ");
+        assertThat(HangulJamo.decompose("과")).isEqualTo("ㄱㅗㅏ");
+        assertThat(HangulJamo.decompose("까")).isEqualTo("ㄱㄱㅏ");
+    }
+
+    @Test
+    @DisplayName("입력 중인 글자도 완성된 키워드의 접두어가 된다")
+    void typingSyllableIsPrefix() {
+        assertThat(HangulJamo.decompose("하세요")).startsWith(HangulJamo.decompose("핫"));
+        assertThat(HangulJamo.decompose("닭갈비")).startsWith(HangulJamo.decompose("달"));
+        assertThat(HangulJamo.decompose("과자")).startsWith(HangulJamo.decompose("고"));
+        assertThat(HangulJamo.decompose("ㄳ")).isEqualTo("ㄱㅅ");
+    }
+
+    @Test
+    @DisplayName("대소문자와 공백은 무시한다")
+    void normalizes() {
+        assertThat(HangulJamo.decompose("Spring Boot")).isEqualTo("springboot");
+        assertThat(HangulJamo.normalize("  ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("초성 문자열은 음절만 초성으로 바꾸고 나머지는 그대로 둔다")
+    void choseong() {
+        assertThat(HangulJamo.choseong("한국 여행")).isEqualTo("ㅎㄱㅇㅎ");
+        assertThat(HangulJamo.choseong("java 스터디")).isEqualTo("javaㅅㅌㄷ");
+        assertThat(HangulJamo.choseong("까치")).isEqualTo("ㄲㅊ");
+    }
+
+    @Test
+    @DisplayName("음절이나 모음 없이 자음이 있는 입력만 초성 검색으로 본다")
+    void isChoseongQuery() {
+        assertThat(HangulJamo.isChoseongQuery("ㅎㄱ")).isTrue();
+        assertThat(HangulJamo.isChoseongQuery("ㅈ 1")).isTrue();
+        assertThat(HangulJamo.isChoseongQuery("한ㄱ")).isFalse();
+        assertThat(HangulJamo.isChoseongQuery("ㅎㅏ")).isFalse();
+        assertThat(HangulJamo.isChoseongQuery("java")).isFalse();
+    }
+}
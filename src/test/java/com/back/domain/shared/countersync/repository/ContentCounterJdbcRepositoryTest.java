@@ -0,0 +1,107 @@
+package com.back.domain.shared.countersync.repository;
+
+import com.back.domain.blog.blog.entity.Blog;
+import com.back.domain.blog.blog.entity.BlogStatus;
+import com.back.domain.blog.like.entity.BlogLike;
+import com.back.domain.main.entity.ContentType;
+import com.back.domain.shorlog.shorlog.entity.Shorlog;
+import com.back.domain.shorlog.shorloglike.entity.ShorlogLike;
+import com.back.domain.user.user.entity.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(ContentCounterJdbcRepository.class)
+class ContentCounterJdbcRepositoryTest {
+
+    @Autowired
+    private ContentCounterJdbcRepository contentCounterJdbcRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User liker1;
+    private User liker2;
+    private Shorlog first;
+    private Shorlog second;
+    private Blog blog;
+
+    @BeforeEach
+    void setUp() {
+        User author = persistUser("author");
+        liker1 = persistUser("liker1");
+        liker2 = persistUser("liker2");
+
+        first = persist(Shorlog.create(author, "first"));
+        second = persist(Shorlog.create(author, "second"));
+        persist(ShorlogLike.create(first, liker1));
+        persist(ShorlogLike.create(first, liker2));
+        persist(ShorlogLike.create(second, liker1));
+
+        blog = persist(Blog.create(author, "title", "content", BlogStatus.PUBLISHED));
+        persist(new BlogLike(blog, liker1));
+        em.flush();
+
+        // 카운터가 어긋난 상태 (좋아요 행이 다른 경로로 지워졌거나 컬럼이 새로 추가된 경우)
+        jdbcTemplate.update("UPDATE shorlog SET like_count = 7");
+        jdbcTemplate.update("UPDATE blogs SET like_count = 0");
+    }
+
+    @Test
+    @DisplayName("id 구간 안의 행만 좋아요 행 수로 보정한다")
+    void reconcilesOnlyGivenRange() {
+        int corrected = contentCounterJdbcRepository.reconcileLikeCounts(ContentType.SHORLOG, 0, first.getId());
+
+        assertThat(corrected).isEqualTo(1);
+        assertThat(likeCount("shorlog", first.getId())).isEqualTo(2);
+        assertThat(likeCount("shorlog", second.getId())).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("이미 맞는 행은 갱신하지 않는다")
+    void skipsRowsAlreadyCorrect() {
+        long maxId = contentCounterJdbcRepository.findMaxId(ContentType.SHORLOG);
+
+        assertThat(contentCounterJdbcRepository.reconcileLikeCounts(ContentType.SHORLOG, 0, maxId)).isEqualTo(2);
+        assertThat(contentCounterJdbcRepository.reconcileLikeCounts(ContentType.SHORLOG, 0, maxId)).isZero();
+        assertThat(likeCount("shorlog", second.getId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("블로그도 blog_like 행 수로 보정한다")
+    void reconcilesBlogs() {
+        long maxId = contentCounterJdbcRepository.findMaxId(ContentType.BLOG);
+
+        assertThat(maxId).isEqualTo(blog.getId());
+        assertThat(contentCounterJdbcRepository.reconcileLikeCounts(ContentType.BLOG, 0, maxId)).isEqualTo(1);
+        assertThat(likeCount("blogs", blog.getId())).isEqualTo(1);
+    }
+
+    private long likeCount(String table, Long id) {
+        return jdbcTemplate.queryForObject("SELECT like_count FROM " + table + " WHERE id = ?", Long.class, id);
+    }
+
+    private User persistUser(String name) {
+        return persist(new User(name + "@test.com", name, "pw", name, null, null));
+    }
+
+    private <T> T persist(T entity) {
+        em.persist(entity);
+        return entity;
+    }
+}
@@ -0,0 +1,87 @@
+package com.back.domain.shared.countersync.service;
+
+import com.back.domain.main.entity.ContentType;
+import com.back.domain.shared.countersync.repository.ContentCounterJdbcRepository;
+import com.back.global.lock.RedisJobLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class LikeCountReconcileServiceTest {
+
+    private final ContentCounterJdbcRepository repository = mock(ContentCounterJdbcRepository.class);
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    private final RedisJobLock redisJobLock = mock(RedisJobLock.class);
+
+    private LikeCountReconcileService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new LikeCountReconcileService(repository, stringRedisTemplate, redisJobLock);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // 잠금은 항상 획득된 것으로 보고 작업을 바로 실행
+        when(redisJobLock.runExclusively(anyString(), any(Duration.class), any(Runnable.class)))
+                .thenAnswer(invocation -> {
+                    invocation.<Runnable>getArgument(2).run();
+                    return true;
+                });
+        when(redisJobLock.runExclusively(anyString(), any(Duration.class), any(Duration.class), any(Runnable.class)))
+                .thenAnswer(invocation -> {
+                    invocation.<Runnable>getArgument(3).run();
+                    return true;
+                });
+    }
+
+    @Test
+    @DisplayName("id 구간 단위로 나눠 보정한다")
+    void reconcilesInIdRangeChunks() {
+        when(repository.findMaxId(ContentType.SHORLOG)).thenReturn(2_500L);
+        when(repository.findMaxId(ContentType.BLOG)).thenReturn(0L);
+
+        service.reconcile();
+
+        verify(repository).reconcileLikeCounts(ContentType.SHORLOG, 0, 1_000);
+        verify(repository).reconcileLikeCounts(ContentType.SHORLOG, 1_000, 2_000);
+        verify(repository).reconcileLikeCounts(ContentType.SHORLOG, 2_000, 2_500);
+        verify(repository, never()).reconcileLikeCounts(eq(ContentType.BLOG), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("백필 표시가 있으면 기동 시 보정하지 않는다")
+    void skipsBackfillWhenMarked() {
+        when(stringRedisTemplate.hasKey("like-count:backfilled")).thenReturn(true);
+
+        service.backfillIfNeeded();
+
+        verifyNoInteractions(repository, redisJobLock);
+    }
+
+    @Test
+    @DisplayName("백필은 모든 구간이 성공했을 때만 표시를 남긴다")
+    void marksBackfillOnlyWhenAllChunksSucceed() {
+        when(stringRedisTemplate.hasKey("like-count:backfilled")).thenReturn(false);
+        when(repository.findMaxId(any())).thenReturn(1_500L);
+        when(repository.reconcileLikeCounts(ContentType.BLOG, 1_000, 1_500)).thenThrow(new RuntimeException("lock wait timeout"));
+
+        service.backfillIfNeeded();
+
+        verify(repository).reconcileLikeCounts(ContentType.BLOG, 0, 1_000);
+        verify(valueOperations, never()).set(anyString(), anyString());
+
+        reset(repository);
+        when(repository.findMaxId(any())).thenReturn(1_500L);
+        service.backfillIfNeeded();
+
+        verify(valueOperations).set(eq("like-count:backfilled"), anyString());
+    }
+}
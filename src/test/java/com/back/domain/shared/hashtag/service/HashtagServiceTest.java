@@ -0,0 +1,43 @@
+package com.back.domain.shared.hashtag.service;
+
+import com.back.domain.shared.hashtag.repository.HashtagJdbcRepository;
+import com.back.domain.shared.hashtag.repository.HashtagRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class HashtagServiceTest {
+
+    private final HashtagRepository hashtagRepository = mock(HashtagRepository.class);
+    private final HashtagJdbcRepository hashtagJdbcRepository = mock(HashtagJdbcRepository.class);
+    private final HashtagService hashtagService = new HashtagService(hashtagRepository, hashtagJdbcRepository);
+
+    @Test
+    @DisplayName("컬럼 길이(50자)를 넘는 해시태그는 INSERT 전에 거부한다")
+    void rejectsNameLongerThanColumn() {
+        String tooLong = "가".repeat(51);
+
+        assertThatThrownBy(() -> hashtagService.findOrCreateAll(List.of("#" + tooLong)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("50");
+        verifyNoInteractions(hashtagJdbcRepository);
+    }
+
+    @Test
+    @DisplayName("50자 해시태그는 그대로 생성한다")
+    void acceptsNameAtColumnLength() {
+        String name = "a".repeat(50);
+        when(hashtagJdbcRepository.findIdsByNames(anyCollection())).thenReturn(Map.of());
+        when(hashtagJdbcRepository.findIdsByNamesForShare(anyCollection())).thenReturn(Map.of(name, 1L));
+
+        assertThatCode(() -> hashtagService.findOrCreateAll(List.of(name))).doesNotThrowAnyException();
+        verify(hashtagJdbcRepository).insertIgnore(List.of(name));
+    }
+}
@@ -0,0 +1,54 @@
+package com.back.domain.shared.searchindex.service;
+
+import com.back.domain.recommend.search.type.PostType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SearchIndexChangeTrackerTest {
+
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final SetOperations<String, String> setOperations = mock(SetOperations.class);
+    private final SearchIndexChangeTracker tracker = new SearchIndexChangeTracker(stringRedisTemplate);
+
+    @Test
+    @DisplayName("기록은 재색인 중 표시 키와 타입별 SET으로 보내서, 어느 인스턴스에서 기록해도 재색인 쪽에서 보인다")
+    void recordsIntoSharedSet() {
+        tracker.record(PostType.SHORLOG, List.of(1L, 2L));
+
+        verify(stringRedisTemplate).execute(
+                any(RedisScript.class),
+                eq(List.of("search-index:rebuild:active:SHORLOG", "search-index:rebuild:changed:SHORLOG")),
+                eq("21600"), eq("1"), eq("2"));
+    }
+
+    @Test
+    @DisplayName("기록할 id가 없으면 Redis를 호출하지 않는다")
+    void skipsEmptyRecord() {
+        tracker.record(PostType.BLOG, List.of());
+
+        verifyNoInteractions(stringRedisTemplate);
+    }
+
+    @Test
+    @DisplayName("drain은 SET이 빌 때까지 청크 단위로 꺼낸다")
+    void drainsInChunks() {
+        when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
+        List<String> full = LongStream.rangeClosed(1, 1_000).mapToObj(String::valueOf).toList();
+        when(setOperations.pop("search-index:rebuild:changed:BLOG", 1_000L))
+                .thenReturn(full, List.of("1001"));
+
+        assertThat(tracker.drain(PostType.BLOG)).hasSize(1_001).contains(1L, 1_001L);
+        verify(setOperations, times(2)).pop("search-index:rebuild:changed:BLOG", 1_000L);
+    }
+}
@@ -0,0 +1,81 @@
+package com.back.domain.shared.viewcount.service;
+
+import com.back.domain.main.entity.ContentType;
+import com.back.domain.shared.countersync.service.ContentCounterSyncService;
+import com.back.domain.shared.viewcount.repository.ViewCountJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+class ViewCountServiceTest {
+
+    private final ViewCountJdbcRepository viewCountJdbcRepository = mock(ViewCountJdbcRepository.class);
+    private final ContentCounterSyncService contentCounterSyncService = mock(ContentCounterSyncService.class);
+    private final AtomicLong flushed = new AtomicLong();
+
+    private ViewCountService viewCountService;
+
+    @BeforeEach
+    void setUp() {
+        viewCountService = new ViewCountService(viewCountJdbcRepository, contentCounterSyncService);
+        doAnswer(invocation -> {
+            Map<Long, Long> deltas = invocation.getArgument(1);
+            deltas.values().forEach(flushed::addAndGet);
+            return null;
+        }).when(viewCountJdbcRepository).addViewCounts(eq(ContentType.SHORLOG), any());
+    }
+
+    @Test
+    @DisplayName("flush와 동시에 들어온 조회수도 유실 없이 반영된다")
+    void concurrentIncreaseAndFlushLoseNothing() throws Exception {
+        int threads = 8;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    viewCountService.increase(ContentType.SHORLOG, (long) (i % 3));
+                }
+                done.countDown();
+            });
+        }
+
+        while (!done.await(1, TimeUnit.MILLISECONDS)) {
+            viewCountService.flush();
+        }
+        viewCountService.flush();
+        executor.shutdown();
+
+        assertThat(flushed.get()).isEqualTo((long) threads * perThread);
+        assertThat(viewCountService.getPendingCount(ContentType.SHORLOG, 0L)).isZero();
+    }
+
+    @Test
+    @DisplayName("DB 반영에 실패한 증가분은 버퍼로 되돌아가 다음 주기에 반영된다")
+    void failedFlushIsRestored() {
+        viewCountService.increase(ContentType.BLOG, 1L);
+        viewCountService.increase(ContentType.BLOG, 1L);
+        doThrow(new RuntimeException("db down"))
+                .when(viewCountJdbcRepository).addViewCounts(eq(ContentType.BLOG), any());
+
+        viewCountService.flush();
+
+        assertThat(viewCountService.getPendingCount(ContentType.BLOG, 1L)).isEqualTo(2);
+    }
+}
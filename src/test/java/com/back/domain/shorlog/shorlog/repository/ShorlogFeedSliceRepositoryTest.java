@@ -0,0 +1,104 @@
+package com.back.domain.shorlog.shorlog.repository;
+
+import com.back.domain.shorlog.shorlog.entity.Shorlog;
+import com.back.domain.user.user.entity.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class ShorlogFeedSliceRepositoryTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+    @Autowired
+    private ShorlogRepository shorlogRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User followed;
+    private User stranger;
+    private Shorlog oldest;
+    private Shorlog tiedLow;
+    private Shorlog tiedHigh;
+    private Shorlog strangers;
+    private Shorlog newest;
+
+    @BeforeEach
+    void setUp() {
+        followed = persist(new User("followed@test.com", "followed", "pw", "followed", null, null));
+        stranger = persist(new User("stranger@test.com", "stranger", "pw", "stranger", null, null));
+
+        oldest = persist(Shorlog.create(followed, "oldest"));
+        tiedLow = persist(Shorlog.create(followed, "tied-low"));
+        tiedHigh = persist(Shorlog.create(followed, "tied-high"));
+        strangers = persist(Shorlog.create(stranger, "stranger"));
+        newest = persist(Shorlog.create(followed, "newest"));
+        em.flush();
+
+        // 같은 시각에 작성된 글이 페이지 경계에 걸치도록 createdAt을 맞춘다
+        setCreatedAt(oldest, BASE);
+        setCreatedAt(tiedLow, BASE.plusMinutes(1));
+        setCreatedAt(tiedHigh, BASE.plusMinutes(1));
+        setCreatedAt(strangers, BASE.plusMinutes(2));
+        setCreatedAt(newest, BASE.plusMinutes(3));
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("전체 피드 키셋 페이징은 같은 시각의 글을 id로 이어서 빠짐없이 준다")
+    void latestFeedSlicesWithoutGapsOnTies() {
+        List<Shorlog> first = shorlogRepository.findFeedFirstSlice(PageRequest.of(0, 3));
+        Shorlog last = first.getLast();
+        List<Shorlog> second = shorlogRepository.findFeedSliceBefore(last.getCreatedAt(), last.getId(), PageRequest.of(0, 3));
+
+        assertThat(ids(first)).containsExactly(newest.getId(), strangers.getId(), tiedHigh.getId());
+        assertThat(ids(second)).containsExactly(tiedLow.getId(), oldest.getId());
+    }
+
+    @Test
+    @DisplayName("팔로잉 피드 키셋 페이징은 팔로우한 사람의 글만 커서 다음부터 준다")
+    void followingFeedSlicesOnlyFollowedUsers() {
+        List<Long> following = List.of(followed.getId());
+
+        List<Shorlog> first = shorlogRepository.findFollowingFeedFirstSlice(following, PageRequest.of(0, 2));
+        Shorlog last = first.getLast();
+        List<Shorlog> second = shorlogRepository.findFollowingFeedSliceBefore(
+                following, last.getCreatedAt(), last.getId(), PageRequest.of(0, 2));
+
+        assertThat(ids(first)).containsExactly(newest.getId(), tiedHigh.getId());
+        assertThat(ids(second)).containsExactly(tiedLow.getId(), oldest.getId());
+    }
+
+    private void setCreatedAt(Shorlog shorlog, LocalDateTime createdAt) {
+        jdbcTemplate.update("UPDATE shorlog SET created_at = ? WHERE id = ?", Timestamp.valueOf(createdAt), shorlog.getId());
+    }
+
+    private List<Long> ids(List<Shorlog> shorlogs) {
+        return shorlogs.stream().map(Shorlog::getId).toList();
+    }
+
+    private <T> T persist(T entity) {
+        em.persist(entity);
+        return entity;
+    }
+}
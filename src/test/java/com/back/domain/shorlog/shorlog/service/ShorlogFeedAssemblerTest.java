@@ -0,0 +1,146 @@
+package com.back.domain.shorlog.shorlog.service;
+
+import com.back.domain.comments.comments.entity.Comments;
+import com.back.domain.comments.comments.entity.CommentsTargetType;
+import com.back.domain.comments.comments.service.CommentsService;
+import com.back.domain.notification.service.NotificationService;
+import com.back.domain.shared.hashtag.entity.Hashtag;
+import com.back.domain.shared.image.entity.Image;
+import com.back.domain.shared.image.entity.ImageType;
+import com.back.domain.shorlog.shorlog.dto.ShorlogFeedResponse;
+import com.back.domain.shorlog.shorlog.entity.Shorlog;
+import com.back.domain.shorlog.shorlog.repository.ShorlogRepository;
+import com.back.domain.shorlog.shorloghashtag.entity.ShorlogHashtag;
+import com.back.domain.shorlog.shorlogimage.entity.ShorlogImages;
+import com.back.domain.shorlog.shorloglike.entity.ShorlogLike;
+import com.back.domain.user.user.entity.User;
+import com.back.global.config.querydsl.QuerydslConfig;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({ShorlogFeedAssembler.class, CommentsService.class, QuerydslConfig.class})
+class ShorlogFeedAssemblerTest {
+
+    // 피드 페이지 1 + count 1 + 해시태그/좋아요/댓글/썸네일 4
+    private static final long MAX_STATEMENTS_PER_PAGE = 6;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private ShorlogRepository shorlogRepository;
+
+    @Autowired
+    private ShorlogFeedAssembler shorlogFeedAssembler;
+
+    @MockitoBean
+    private NotificationService notificationService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("피드 한 페이지 조회 쿼리 수는 페이지 크기와 무관하게 일정하다")
+    void feedPageQueryCountDoesNotGrowWithPageSize() {
+        createShorlogs(30);
+
+        long smallPage = countStatements(5);
+        long largePage = countStatements(30);
+
+        assertThat(smallPage).isLessThanOrEqualTo(MAX_STATEMENTS_PER_PAGE);
+        assertThat(largePage).isEqualTo(smallPage);
+    }
+
+    @Test
+    @DisplayName("일괄 조회한 해시태그/좋아요/댓글/썸네일이 각 숏로그에 채워진다")
+    void assembleFillsAggregates() {
+        createShorlogs(3);
+        em.flush();
+        em.clear();
+
+        List<ShorlogFeedResponse> content = shorlogFeedAssembler
+                .assemble(shorlogRepository.findAllByOrderByCreatedAtDesc(PageRequest.of(0, 3)))
+                .getContent();
+
+        assertThat(content).hasSize(3).allSatisfy(response -> {
+            assertThat(response.getHashtags()).hasSize(2);
+            assertThat(response.getLikeCount()).isEqualTo(2);
+            assertThat(response.getCommentCount()).isEqualTo(1);
+            assertThat(response.getThumbnailUrl()).endsWith("-0.png");
+        });
+    }
+
+    private long countStatements(int pageSize) {
+        em.flush();
+        em.clear();
+        statistics.clear();
+
+        Page<ShorlogFeedResponse> page = shorlogFeedAssembler
+                .assemble(shorlogRepository.findAllByOrderByCreatedAtDesc(PageRequest.of(0, pageSize)));
+        page.getContent().forEach(response -> assertThat(response.getNickname()).isNotNull());
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void createShorlogs(int count) {
+        User author = persistUser("author");
+        User liker1 = persistUser("liker1");
+        User liker2 = persistUser("liker2");
+        Hashtag tag1 = persist(new Hashtag("tag1"));
+        Hashtag tag2 = persist(new Hashtag("tag2"));
+
+        for (int i = 0; i < count; i++) {
+            Shorlog shorlog = persist(Shorlog.create(author, "content " + i));
+
+            for (int sort = 0; sort < 2; sort++) {
+                String filename = "s" + i + "-" + sort + ".png";
+                Image image = persist(Image.create(author, ImageType.CONTENT, filename, filename,
+                        "https://cdn.test/" + filename, 1L, "image/png"));
+                persist(ShorlogImages.create(shorlog, image, sort));
+            }
+
+            persist(ShorlogHashtag.create(shorlog, tag1));
+            persist(ShorlogHashtag.create(shorlog, tag2));
+            persist(ShorlogLike.create(shorlog, liker1));
+            persist(ShorlogLike.create(shorlog, liker2));
+            persist(Comments.builder()
+                    .targetType(CommentsTargetType.SHORLOG)
+                    .targetId(shorlog.getId())
+                    .user(liker1)
+                    .content("comment")
+                    .build());
+        }
+    }
+
+    private User persistUser(String name) {
+        return persist(new User(name + "@test.com", name, "pw", name, null, null));
+    }
+
+    private <T> T persist(T entity) {
+        em.persist(entity);
+        return entity;
+    }
+}
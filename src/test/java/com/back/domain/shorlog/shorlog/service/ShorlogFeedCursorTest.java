@@ -0,0 +1,40 @@
+package com.back.domain.shorlog.shorlog.service;
+
+import com.back.domain.shorlog.shorlog.service.ShorlogService.FeedCursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShorlogFeedCursorTest {
+
+    @Test
+    @DisplayName("최신순 커서는 createdAt(나노초 포함)과 id를 그대로 복원한다")
+    void feedCursorRoundTrip() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123_456_000);
+
+        FeedCursor cursor = FeedCursor.parse(FeedCursor.of(createdAt, 42L));
+
+        assertThat(cursor.createdAt()).isEqualTo(createdAt);
+        assertThat(cursor.id()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지(null)로 본다")
+    void blankCursorMeansFirstPage() {
+        assertThat(FeedCursor.parse(null)).isNull();
+        assertThat(FeedCursor.parse(" ")).isNull();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 거부한다")
+    void rejectsMalformedCursor() {
+        assertThatThrownBy(() -> FeedCursor.parse("2025-03-01T12:30"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FeedCursor.parse("yesterday,1"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,37 @@
+package com.back.domain.shorlog.shorlog.service;
+
+import com.back.domain.shorlog.shorlog.service.ShorlogService.RandomFeedCursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShorlogRandomFeedCursorTest {
+
+    @Test
+    @DisplayName("랜덤 피드 커서는 시드와 offset을 복원하고 음수 offset은 0으로 본다")
+    void randomFeedCursorRoundTrip() {
+        RandomFeedCursor cursor = RandomFeedCursor.parse(RandomFeedCursor.of("9f3a", 60));
+
+        assertThat(cursor.seed()).isEqualTo("9f3a");
+        assertThat(cursor.offset()).isEqualTo(60);
+        assertThat(RandomFeedCursor.parse("9f3a:-5").offset()).isZero();
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지(null)로 본다")
+    void blankCursorMeansFirstPage() {
+        assertThat(RandomFeedCursor.parse(null)).isNull();
+        assertThat(RandomFeedCursor.parse("")).isNull();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 거부한다")
+    void rejectsMalformedCursor() {
+        assertThatThrownBy(() -> RandomFeedCursor.parse(":30"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RandomFeedCursor.parse("seed:abc"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,180 @@
+package com.back.domain.shorlog.shorlog.service;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import co.elastic.clients.elasticsearch.core.search.TotalHitsRelation;
+import com.back.domain.shorlog.shorlogdoc.repository.ShorlogDocQueryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ShorlogRandomFeedServiceTest {
+
+    private static final int CHUNK_SIZE = 200;
+
+    private final ShorlogDocQueryRepository repository = mock(ShorlogDocQueryRepository.class);
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final HashOperations<String, Object, Object> hashOperations = mock(HashOperations.class);
+    @SuppressWarnings("unchecked")
+    private final ZSetOperations<String, String> zSetOperations = mock(ZSetOperations.class);
+
+    // Redis 대신 쓰는 메모리 저장소 (meta 해시, 순번 → id)
+    private final Map<Object, Object> meta = new HashMap<>();
+    private final TreeMap<Double, String> sequence = new TreeMap<>();
+    // 비동기로 넘긴 작업 (테스트에서 직접 실행)
+    private final List<Runnable> asyncTasks = new ArrayList<>();
+
+    private ShorlogRandomFeedService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        service = new ShorlogRandomFeedService(repository, stringRedisTemplate, asyncTasks::add);
+        when(stringRedisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+
+        when(hashOperations.entries(anyString())).thenAnswer(invocation -> new HashMap<>(meta));
+        when(hashOperations.hasKey(anyString(), any())).thenAnswer(invocation -> meta.containsKey(invocation.getArgument(1)));
+        when(hashOperations.get(anyString(), any())).thenAnswer(invocation -> meta.get(invocation.getArgument(1)));
+        doAnswer(invocation -> {
+            meta.putAll(invocation.getArgument(1));
+            return null;
+        }).when(hashOperations).putAll(anyString(), anyMap());
+        when(hashOperations.putIfAbsent(anyString(), any(), any())).thenAnswer(invocation ->
+                meta.putIfAbsent(invocation.getArgument(1), invocation.getArgument(2)) == null);
+
+        when(zSetOperations.add(anyString(), anySet())).thenAnswer(invocation -> {
+            Set<ZSetOperations.TypedTuple<String>> tuples = invocation.getArgument(1);
+            tuples.forEach(tuple -> sequence.put(tuple.getScore(), tuple.getValue()));
+            return (long) tuples.size();
+        });
+        when(zSetOperations.range(anyString(), anyLong(), anyLong())).thenAnswer(invocation -> {
+            long start = invocation.getArgument(1);
+            long end = invocation.getArgument(2);
+            return sequence.values().stream().skip(start).limit(end - start + 1)
+                    .collect(Collectors.toCollection(java.util.LinkedHashSet::new));
+        });
+    }
+
+    @Test
+    @DisplayName("다음 구간은 마지막 문서의 점수와 id로 이어 붙인다")
+    @SuppressWarnings("unchecked")
+    void extendsWithScoreAndIdTiebreaker() {
+        when(repository.searchRandomIds(eq("seed"), anyList(), eq(CHUNK_SIZE)))
+                .thenReturn(response(1, CHUNK_SIZE, 500), response(201, CHUNK_SIZE, 500));
+
+        List<Long> ids = service.getIds("seed", 190, 20);
+
+        assertThat(ids).containsExactlyElementsOf(LongStream.rangeClosed(191, 210).boxed().toList());
+        assertThat(service.getTotal("seed")).isEqualTo(500);
+
+        ArgumentCaptor<List<FieldValue>> searchAfter = ArgumentCaptor.forClass(List.class);
+        verify(repository, times(2)).searchRandomIds(eq("seed"), searchAfter.capture(), eq(CHUNK_SIZE));
+        assertThat(searchAfter.getAllValues().get(0)).isEmpty();
+        assertThat(searchAfter.getAllValues().get(1).get(1).stringValue()).isEqualTo("200");
+    }
+
+    @Test
+    @DisplayName("이미 채운 구간 안의 페이지는 ES를 다시 조회하지 않는다")
+    void reusesFilledSequence() {
+        when(repository.searchRandomIds(eq("seed"), anyList(), eq(CHUNK_SIZE)))
+                .thenReturn(response(1, 50, 50));
+
+        service.getIds("seed", 0, 30);
+        List<Long> secondPage = service.getIds("seed", 30, 30);
+
+        assertThat(secondPage).hasSize(20).first().isEqualTo(31L);
+        verify(repository, times(1)).searchRandomIds(eq("seed"), anyList(), anyInt());
+    }
+
+    @Test
+    @DisplayName("한 페이지만 조회할 때는 from으로 바로 가져오고 순서 캐시를 채우지 않는다")
+    void getIdsOnceSkipsSequence() {
+        when(repository.searchRandomIds("seed", 90, 30)).thenReturn(response(91, 30, 500));
+
+        List<Long> ids = service.getIdsOnce("seed", 90, 30);
+
+        assertThat(ids).hasSize(30).first().isEqualTo(91L);
+        assertThat(service.getTotal("seed")).isEqualTo(500);
+        assertThat(sequence).isEmpty();
+        verify(repository, never()).searchRandomIds(anyString(), anyList(), anyInt());
+    }
+
+    @Test
+    @DisplayName("캐시보다 한참 깊은 페이지는 from/size로 한 번만 조회하고 캐시는 비동기로 채운다")
+    void deepOffsetDoesNotExtendOnRequestThread() {
+        stubChunksFromSearchAfter(5_000);
+        when(repository.searchRandomIds("seed", 2_000, 30)).thenReturn(response(2_001, 30, 5_000));
+
+        List<Long> ids = service.getIds("seed", 2_000, 30);
+
+        assertThat(ids).hasSize(30).first().isEqualTo(2_001L);
+        verify(repository, never()).searchRandomIds(anyString(), anyList(), anyInt());
+        assertThat(asyncTasks).hasSize(1);
+
+        asyncTasks.getFirst().run();
+        assertThat(sequence).hasSizeGreaterThanOrEqualTo(2_030);
+        assertThat(service.getIds("seed", 2_000, 30)).isEqualTo(ids);
+    }
+
+    @Test
+    @DisplayName("캐시 끝에 가까운 페이지를 주면 다음 구간을 미리 채운다")
+    void prefetchesNearEndOfSequence() {
+        stubChunksFromSearchAfter(5_000);
+
+        service.getIds("seed", 0, 30);
+        assertThat(asyncTasks).isEmpty();
+
+        service.getIds("seed", 150, 30);
+        assertThat(asyncTasks).hasSize(1);
+        verify(repository, times(1)).searchRandomIds(eq("seed"), anyList(), eq(CHUNK_SIZE));
+
+        asyncTasks.getFirst().run();
+        assertThat(sequence).hasSize(2 * CHUNK_SIZE);
+    }
+
+    // search_after의 마지막 id 다음부터 한 구간씩 돌려준다
+    private void stubChunksFromSearchAfter(long total) {
+        when(repository.searchRandomIds(eq("seed"), anyList(), eq(CHUNK_SIZE))).thenAnswer(invocation -> {
+            List<FieldValue> searchAfter = invocation.getArgument(1);
+            long firstId = searchAfter.isEmpty() ? 1 : Long.parseLong(searchAfter.get(1).stringValue()) + 1;
+            return response(firstId, (int) Math.min(CHUNK_SIZE, total - firstId + 1), total);
+        });
+    }
+
+    private static SearchResponse<Void> response(long firstId, int count, long total) {
+        List<Hit<Void>> hits = LongStream.range(firstId, firstId + count)
+                .mapToObj(id -> Hit.<Void>of(h -> h
+                        .index("app1_shorlogs")
+                        .id(String.valueOf(id))
+                        .sort(FieldValue.of(1.0 - id / 10_000.0), FieldValue.of(String.valueOf(id)))))
+                .toList();
+
+        return SearchResponse.of(r -> r
+                .took(1)
+                .timedOut(false)
+                .shards(s -> s.total(1).successful(1).failed(0))
+                .hits(h -> h
+                        .total(t -> t.value(total).relation(TotalHitsRelation.Eq))
+                        .hits(hits)));
+    }
+}
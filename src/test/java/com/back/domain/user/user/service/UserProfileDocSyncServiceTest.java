@@ -0,0 +1,133 @@
+package com.back.domain.user.user.service;
+
+import com.back.domain.blog.blogdoc.service.BlogDocIndexer;
+import com.back.domain.shorlog.shorlogdoc.service.ShorlogDocService;
+import com.back.domain.user.user.dto.ProfileSyncStatusDto;
+import com.back.domain.user.user.dto.ProfileSyncStatusDto.State;
+import com.back.domain.user.user.event.UserProfileUpdatedEvent;
+import com.back.domain.user.user.service.UserProfileDocSyncService.SyncJob;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.elasticsearch.core.query.ByQueryResponse;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class UserProfileDocSyncServiceTest {
+
+    private static final Long USER_ID = 7L;
+    private static final List<String> KEYS = List.of("profile-sync:queue", "profile-sync:jobs");
+
+    private final ShorlogDocService shorlogDocService = mock(ShorlogDocService.class);
+    private final BlogDocIndexer blogDocIndexer = mock(BlogDocIndexer.class);
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private final UserProfileDocSyncService service = new UserProfileDocSyncService(
+            shorlogDocService, blogDocIndexer, stringRedisTemplate, objectMapper);
+
+    @BeforeEach
+    void setUp() {
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("변경 작업과 대기 상태를 Redis에 기록해서 다른 인스턴스에서도 상태를 조회할 수 있다")
+    void enqueuesIntoSharedStore() throws Exception {
+        service.onProfileUpdated(new UserProfileUpdatedEvent(USER_ID, "새닉네임", "https://img/new.png"));
+
+        verify(stringRedisTemplate).execute(script("HSET"), eq(KEYS),
+                eq("7"), argThat(job -> job.toString().contains("새닉네임")), anyString());
+
+        String status = lastStatus();
+        when(valueOperations.get("profile-sync:status:7")).thenReturn(status);
+        assertThat(service.getStatus(USER_ID).state()).isEqualTo(State.PENDING);
+        assertThat(service.getStatus(8L)).isNull();
+    }
+
+    @Test
+    @DisplayName("가져간 작업을 반영하고 그대로일 때만 완료 처리한다")
+    void completesClaimedJob() throws Exception {
+        String payload = claim(new SyncJob("닉", null, 0, 1L));
+        ByQueryResponse updated = response(3);
+        when(shorlogDocService.updateUserProfile(USER_ID, "닉", null)).thenReturn(updated);
+        when(blogDocIndexer.updateUserProfile(USER_ID, "닉", null)).thenReturn(updated);
+        when(stringRedisTemplate.execute(script("HDEL"), eq(KEYS), eq("7"), eq(payload))).thenReturn(1L);
+
+        service.processPendingJobs();
+
+        ProfileSyncStatusDto status = objectMapper.readValue(lastStatus(), ProfileSyncStatusDto.class);
+        assertThat(status.state()).isEqualTo(State.DONE);
+        assertThat(status.updatedShorlogs()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("처리 중에 새 변경이 들어왔으면 완료로 덮어쓰지 않는다")
+    void keepsNewerJobPending() throws Exception {
+        String payload = claim(new SyncJob("닉", null, 0, 1L));
+        ByQueryResponse updated = response(1);
+        when(shorlogDocService.updateUserProfile(any(), any(), any())).thenReturn(updated);
+        when(blogDocIndexer.updateUserProfile(any(), any(), any())).thenReturn(updated);
+        when(stringRedisTemplate.execute(script("HDEL"), eq(KEYS), eq("7"), eq(payload))).thenReturn(0L);
+
+        service.processPendingJobs();
+
+        ProfileSyncStatusDto status = objectMapper.readValue(lastStatus(), ProfileSyncStatusDto.class);
+        assertThat(status.state()).isEqualTo(State.RUNNING);
+    }
+
+    @Test
+    @DisplayName("실패하면 시도 횟수를 올린 작업으로 바꿔 백오프 뒤에 다시 실행한다")
+    void reschedulesWithBackoff() throws Exception {
+        String payload = claim(new SyncJob("닉", null, 0, 1L));
+        when(shorlogDocService.updateUserProfile(any(), any(), any())).thenThrow(new RuntimeException("ES 장애"));
+        String retry = objectMapper.writeValueAsString(new SyncJob("닉", null, 1, 1L));
+        when(stringRedisTemplate.execute(script("HDEL"), eq(KEYS), eq("7"), eq(payload), eq(retry), anyString()))
+                .thenReturn(1L);
+
+        long before = System.currentTimeMillis();
+        service.processPendingJobs();
+
+        verify(stringRedisTemplate).execute(script("HDEL"), eq(KEYS), eq("7"), eq(payload), eq(retry),
+                argThat(at -> Long.parseLong(at.toString()) >= before + 5_000));
+        ProfileSyncStatusDto status = objectMapper.readValue(lastStatus(), ProfileSyncStatusDto.class);
+        assertThat(status.state()).isEqualTo(State.PENDING);
+        assertThat(status.lastError()).isEqualTo("ES 장애");
+    }
+
+    private String claim(SyncJob job) throws Exception {
+        String payload = objectMapper.writeValueAsString(job);
+        when(stringRedisTemplate.execute(script("ZRANGEBYSCORE"), eq(KEYS), anyString(), eq("10"), anyString()))
+                .thenReturn(List.of(USER_ID.toString(), payload));
+        return payload;
+    }
+
+    private String lastStatus() {
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations, atLeastOnce()).set(eq("profile-sync:status:7"), captor.capture(), eq(Duration.ofHours(1)));
+        return captor.getValue();
+    }
+
+    private ByQueryResponse response(long updated) {
+        ByQueryResponse response = mock(ByQueryResponse.class);
+        when(response.getUpdated()).thenReturn(updated);
+        when(response.getFailures()).thenReturn(List.of());
+        return response;
+    }
+
+    private static <T> RedisScript<T> script(String command) {
+        return argThat(script -> script != null && script.getScriptAsString().contains(command));
+    }
+}
@@ -0,0 +1,72 @@
+package com.back.global.sse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class SseEventBrokerTest {
+
+    private static final Long USER_ID = 1L;
+
+    private final SseEmitterRepository emitterRepository = new SseEmitterRepository();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SseEmitter alive = mock(SseEmitter.class);
+    private final SseEmitter broken = mock(SseEmitter.class);
+
+    private SseEventBroker broker;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        broker = new SseEventBroker(emitterRepository, mock(StringRedisTemplate.class),
+                mock(RedisMessageListenerContainer.class), objectMapper);
+        emitterRepository.save(USER_ID, alive);
+        emitterRepository.save(USER_ID, broken);
+        doThrow(new IOException("Broken pipe")).when(broken).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    @DisplayName("전달에 실패한 연결은 저장소에서 빼고 에러로 끝낸다")
+    void failedDeliveryCompletesEmitter() throws Exception {
+        String payload = objectMapper.writeValueAsString(new SseMessage(USER_ID, "10", "notification", "{}"));
+
+        broker.onMessage(new DefaultMessage("sse:events".getBytes(StandardCharsets.UTF_8),
+                payload.getBytes(StandardCharsets.UTF_8)), null);
+
+        verify(alive).send(any(SseEmitter.SseEventBuilder.class));
+        verify(broken).completeWithError(any(IOException.class));
+        verify(alive, never()).completeWithError(any());
+        assertThat(emitterRepository.get(USER_ID)).containsExactly(alive);
+    }
+
+    @Test
+    @DisplayName("heartbeat 전송에 실패한 연결도 에러로 끝낸다")
+    void failedHeartbeatCompletesEmitter() {
+        broker.heartbeat();
+
+        verify(broken).completeWithError(any(IOException.class));
+        assertThat(emitterRepository.get(USER_ID)).containsExactly(alive);
+    }
+
+    @Test
+    @DisplayName("이미 끝난 연결을 다시 끝내다 예외가 나도 나머지 연결 처리는 계속된다")
+    void completeFailureDoesNotStopOthers() throws Exception {
+        doThrow(new IllegalStateException("already completed")).when(broken).completeWithError(any());
+
+        broker.heartbeat();
+
+        verify(alive).send(any(SseEmitter.SseEventBuilder.class));
+        assertThat(emitterRepository.get(USER_ID)).containsExactly(alive);
+    }
+}